@@ -0,0 +1,173 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.util.Snowflake;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 20개 라인의 장바구니 주문을 저장할 때, IDENTITY 방식과 Snowflake ID + 배치 INSERT 방식을 비교하는 벤치마크.
+ * Hibernate가 각 방식에서 보내는 SQL과 같은 형태로 JDBC를 직접 호출합니다.
+ *
+ * <ul>
+ *     <li>identityPerRow : 주문 1건과 주문 아이템 20건을 한 행씩 INSERT 하고 생성된 키를 받아오는 기존 방식</li>
+ *     <li>snowflakeBatched : ID를 미리 만들고 주문 아이템 20건을 하나의 JDBC 배치로 보내는 현재 방식</li>
+ * </ul>
+ *
+ * 기본값은 메모리 H2(MySQL 모드)이며, 네트워크 왕복까지 포함하려면 실제 MySQL로 실행합니다.
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=CartCheckoutInsertBenchmark \
+ *     -Pjmh.params="jdbcUrl=jdbc:mysql://localhost:3306/fashionDB?rewriteBatchedStatements=true,user=fashion,password=1234"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class CartCheckoutInsertBenchmark {
+
+    private static final int CART_LINES = 20;
+
+    private static final String INSERT_IDENTITY_ORDER =
+            "insert into bench_orders_identity (count, price, order_date, order_status, member_id) values (?, ?, ?, ?, ?)";
+    private static final String INSERT_IDENTITY_ORDER_ITEM =
+            "insert into bench_order_item_identity (order_id, item_id, buyer_id, seller_id, unit_count, unit_price, item_name, order_status, order_date)"
+                    + " values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SNOWFLAKE_ORDER =
+            "insert into bench_orders_snowflake (order_id, count, price, order_date, order_status, member_id) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SNOWFLAKE_ORDER_ITEM =
+            "insert into bench_order_item_snowflake (order_item_id, order_id, item_id, buyer_id, seller_id, unit_count, unit_price, item_name, order_status, order_date)"
+                    + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"jdbc:h2:mem:checkout;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    private String jdbcUrl;
+
+    @Param({"sa"})
+    private String user;
+
+    @Param({""})
+    private String password;
+
+    private Connection connection;
+    private Snowflake snowflake;
+
+    @Setup
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        connection.setAutoCommit(false);
+        snowflake = Snowflake.forNode(1);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists bench_orders_identity (order_id bigint auto_increment primary key,"
+                    + " count int, price int, order_date timestamp, order_status varchar(20), member_id bigint)");
+            statement.execute("create table if not exists bench_order_item_identity (order_item_id bigint auto_increment primary key,"
+                    + " order_id bigint, item_id bigint, buyer_id varchar(20), seller_id varchar(20), unit_count int,"
+                    + " unit_price int, item_name varchar(255), order_status int, order_date timestamp)");
+            statement.execute("create table if not exists bench_orders_snowflake (order_id bigint primary key,"
+                    + " count int, price int, order_date timestamp, order_status varchar(20), member_id bigint)");
+            statement.execute("create table if not exists bench_order_item_snowflake (order_item_id bigint primary key,"
+                    + " order_id bigint, item_id bigint, buyer_id varchar(20), seller_id varchar(20), unit_count int,"
+                    + " unit_price int, item_name varchar(255), order_status int, order_date timestamp)");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table bench_orders_identity");
+            statement.execute("drop table bench_order_item_identity");
+            statement.execute("drop table bench_orders_snowflake");
+            statement.execute("drop table bench_order_item_snowflake");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public long identityPerRow() throws Exception {
+        Timestamp orderDate = Timestamp.valueOf(LocalDateTime.now());
+        long orderId;
+        try (PreparedStatement order = connection.prepareStatement(INSERT_IDENTITY_ORDER, Statement.RETURN_GENERATED_KEYS)) {
+            bindOrder(order, 1, orderDate);
+            order.executeUpdate();
+            orderId = generatedKey(order);
+        }
+
+        long lastId = 0;
+        for (int line = 0; line < CART_LINES; line++) {
+            try (PreparedStatement orderItem = connection.prepareStatement(INSERT_IDENTITY_ORDER_ITEM, Statement.RETURN_GENERATED_KEYS)) {
+                bindOrderItem(orderItem, 1, orderId, line, orderDate);
+                orderItem.executeUpdate();
+                lastId = generatedKey(orderItem);
+            }
+        }
+
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long snowflakeBatched() throws Exception {
+        Timestamp orderDate = Timestamp.valueOf(LocalDateTime.now());
+        long orderId = snowflake.nextId();
+        try (PreparedStatement order = connection.prepareStatement(INSERT_SNOWFLAKE_ORDER)) {
+            order.setLong(1, orderId);
+            bindOrder(order, 2, orderDate);
+            order.executeUpdate();
+        }
+
+        long lastId = 0;
+        try (PreparedStatement orderItem = connection.prepareStatement(INSERT_SNOWFLAKE_ORDER_ITEM)) {
+            for (int line = 0; line < CART_LINES; line++) {
+                lastId = snowflake.nextId();
+                orderItem.setLong(1, lastId);
+                bindOrderItem(orderItem, 2, orderId, line, orderDate);
+                orderItem.addBatch();
+            }
+            orderItem.executeBatch();
+        }
+
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long snowflakeNextId() {
+        return snowflake.nextId();
+    }
+
+    private void bindOrder(PreparedStatement statement, int index, Timestamp orderDate) throws Exception {
+        statement.setInt(index, CART_LINES);
+        statement.setInt(index + 1, CART_LINES * 39000);
+        statement.setTimestamp(index + 2, orderDate);
+        statement.setString(index + 3, "PENDING");
+        statement.setLong(index + 4, 1L);
+    }
+
+    private void bindOrderItem(PreparedStatement statement, int index, long orderId, int line, Timestamp orderDate) throws Exception {
+        statement.setLong(index, orderId);
+        statement.setLong(index + 1, line + 1L);
+        statement.setString(index + 2, "buyer01");
+        statement.setString(index + 3, "seller01");
+        statement.setInt(index + 4, 1);
+        statement.setInt(index + 5, 39000);
+        statement.setString(index + 6, "오버핏 맨투맨");
+        statement.setInt(index + 7, 0);
+        statement.setTimestamp(index + 8, orderDate);
+    }
+
+    private long generatedKey(PreparedStatement statement) throws Exception {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+
+}
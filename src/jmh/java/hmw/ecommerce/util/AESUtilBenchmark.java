@@ -0,0 +1,113 @@
+package hmw.ecommerce.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AESUtil의 키/Cipher 재사용 전후 처리량과 연산당 할당량을 비교하는 벤치마크.
+ * {@code ./gradlew jmh} 로 실행하며, gc 프로파일러의 gc.alloc.rate.norm 항목이 연산당 할당 바이트입니다.
+ *
+ * <ul>
+ *     <li>legacy* : 호출마다 SecretKeySpec을 만들고 Cipher.getInstance를 호출하던 기존 구현</li>
+ *     <li>pooled* : 키를 한 번만 만들고 Cipher를 풀에서 재사용하는 현재 구현</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class AESUtilBenchmark {
+
+    private static final String SECRET = "0123456789abcdef";
+    private static final byte[] AAD = {1};
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private AESUtil aesUtil;
+    private String legacyCartJson;
+    private byte[] cartBytes;
+
+    @Setup
+    public void setUp() {
+        aesUtil = new AESUtil(SECRET);
+        legacyCartJson = "[{\"itemId\":101,\"itemName\":\"오버핏 맨투맨\",\"price\":39000,\"count\":2},"
+                + "{\"itemId\":205,\"itemName\":\"와이드 데님 팬츠\",\"price\":59000,\"count\":1}]";
+        cartBytes = new byte[]{2, 101, 2, (byte) 0xCD, 1, 1};
+    }
+
+    @Benchmark
+    public String legacyEcbRoundTrip() throws Exception {
+        return legacyDecrypt(legacyEncrypt(legacyCartJson));
+    }
+
+    @Benchmark
+    public String pooledEcbRoundTrip() throws Exception {
+        return aesUtil.decrypt(aesUtil.encrypt(legacyCartJson));
+    }
+
+    @Benchmark
+    public byte[] legacyGcmRoundTrip() throws Exception {
+        return legacyGcmDecrypt(legacyGcmEncrypt(cartBytes));
+    }
+
+    @Benchmark
+    public ByteBuffer pooledGcmRoundTrip() throws Exception {
+        ByteBuffer encrypted = ByteBuffer.allocate(AESUtil.GCM_IV_LENGTH + cartBytes.length + AESUtil.GCM_TAG_LENGTH);
+        aesUtil.encryptAuthenticated(ByteBuffer.wrap(cartBytes), AAD, encrypted);
+        encrypted.flip();
+
+        ByteBuffer plain = ByteBuffer.allocate(cartBytes.length);
+        aesUtil.decryptAuthenticated(encrypted, AAD, plain);
+        return plain;
+    }
+
+    private String legacyEncrypt(String input) throws Exception {
+        SecretKeySpec keySpec = new SecretKeySpec(SECRET.getBytes(), "AES");
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, keySpec);
+        return Base64.getEncoder().encodeToString(cipher.doFinal(input.getBytes()));
+    }
+
+    private String legacyDecrypt(String encryptedInput) throws Exception {
+        SecretKeySpec keySpec = new SecretKeySpec(SECRET.getBytes(), "AES");
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, keySpec);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(encryptedInput)));
+    }
+
+    private byte[] legacyGcmEncrypt(byte[] plain) throws Exception {
+        byte[] iv = new byte[AESUtil.GCM_IV_LENGTH];
+        SECURE_RANDOM.nextBytes(iv);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, legacyGcmKey(), new GCMParameterSpec(128, iv));
+        cipher.updateAAD(AAD);
+        byte[] encrypted = cipher.doFinal(plain);
+
+        byte[] result = Arrays.copyOf(iv, AESUtil.GCM_IV_LENGTH + encrypted.length);
+        System.arraycopy(encrypted, 0, result, AESUtil.GCM_IV_LENGTH, encrypted.length);
+        return result;
+    }
+
+    private byte[] legacyGcmDecrypt(byte[] encrypted) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, legacyGcmKey(), new GCMParameterSpec(128, encrypted, 0, AESUtil.GCM_IV_LENGTH));
+        cipher.updateAAD(AAD);
+        return cipher.doFinal(encrypted, AESUtil.GCM_IV_LENGTH, encrypted.length - AESUtil.GCM_IV_LENGTH);
+    }
+
+    private SecretKeySpec legacyGcmKey() throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return new SecretKeySpec(digest.digest(("gcm:" + SECRET).getBytes(StandardCharsets.UTF_8)), "AES");
+    }
+
+}
@@ -1,8 +1,6 @@
 package hmw.ecommerce.aop;
 
-import hmw.ecommerce.entity.Item;
 import hmw.ecommerce.entity.vo.Const;
-import hmw.ecommerce.service.ItemService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -10,7 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.annotation.AfterReturning;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -22,6 +20,7 @@ import java.util.Objects;
 /**
  * 쿠키를 기반으로 상품의 조회수를 업데이트하는 Aspect 클래스.
  * 동일 사용자가 동일 상품을 여러 번 조회해도 중복 카운트가 되지 않도록 처리함.
+ * 조회수는 랭킹과 함께 Redis에만 기록하므로, 캐시된 상세 조회에 DB 조회나 트랜잭션을 더하지 않음.
  */
 @Component
 @RequiredArgsConstructor
@@ -30,19 +29,18 @@ import java.util.Objects;
 public class CookieAspect {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ItemService itemService;
 
 
     /**
-     * 특정 컨트롤러 메서드 호출 전에 실행되어 조회수와 랭킹 정보를 갱신.
+     * 특정 컨트롤러 메서드가 정상 반환된 뒤 실행되어 조회수와 랭킹 정보를 갱신.
+     * 없는 아이템이면 상세 조회가 예외로 끝나므로 집계하지 않음.
      * @param joinPoint 조인포인트를 이용해 getItemDetail메서드의 첫번째 인자인 itemId를 가져옴
      */
-    @Before("execution(* hmw.ecommerce.controller.ItemController.getItemDetail(..))")
+    @AfterReturning("execution(* hmw.ecommerce.controller.ItemController.getItemDetail(..))")
     public void checkAndUpdateViewCount(JoinPoint joinPoint){
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
         String itemIdStringType = String.valueOf(joinPoint.getArgs()[0]);
         Long itemId = (Long) joinPoint.getArgs()[0];
-        Item findItem = itemService.findByItemId(itemId);
         Cookie[] cookies = request.getCookies();
         Cookie cookie = findCookie(cookies);
 
@@ -52,20 +50,29 @@ public class CookieAspect {
         if (cookie != null) {
             if (!cookie.getValue().contains("[" + itemIdStringType + "]")) {
                 cookie.setValue(cookie.getValue() + "[" + itemIdStringType + "]");
-                findItem.addViewCount();
-                redisTemplate.opsForZSet().incrementScore(Const.RANKING_KEY, itemId, 1);
+                addViewCount(itemId);
             }
             cookie.setPath("/");
             Objects.requireNonNull(response).addCookie(cookie);
         } else {
             Cookie newCookie = new Cookie(Const.VIEW_COUNT, "[" + itemIdStringType + "]");
             newCookie.setPath("/");
-            findItem.addViewCount();
-            redisTemplate.opsForZSet().incrementScore(Const.RANKING_KEY, itemId, 1);
+            addViewCount(itemId);
             Objects.requireNonNull(response).addCookie(newCookie);
         }
     }
 
+    /**
+     * 아이템의 누적 조회수와 랭킹 점수를 1씩 올림.
+     * 랭킹은 매주 초기화되므로 누적 조회수는 별도 해시(Const.ITEM_VIEW_COUNT_KEY)에 기록함.
+     *
+     * @param itemId 조회한 아이템 ID
+     */
+    private void addViewCount(Long itemId) {
+        redisTemplate.opsForHash().increment(Const.ITEM_VIEW_COUNT_KEY, itemId, 1);
+        redisTemplate.opsForZSet().incrementScore(Const.RANKING_KEY, itemId, 1);
+    }
+
     /**
      * 쿠키 배열에서 특정 이름(Const.VIEW_COUNT)에 해당하는 쿠키를 찾아 반환.
      *
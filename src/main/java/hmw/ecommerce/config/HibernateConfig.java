@@ -0,0 +1,44 @@
+package hmw.ecommerce.config;
+
+import hmw.ecommerce.entity.id.SnowflakeIdentifierGenerator;
+import hmw.ecommerce.util.Snowflake;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Hibernate 설정 클래스.
+ * 주문처럼 한 트랜잭션에서 여러 행을 저장할 때 INSERT/UPDATE를 JDBC 배치로 묶어 보내도록 설정하고,
+ * Snowflake ID 생성기의 노드 ID를 전달함.
+ * 노드 ID(spring.snowflake.node-id)는 인스턴스마다 달라야 하므로 기본값이 없으며, 설정하지 않으면 시작하지 않음.
+ * MySQL에서 배치를 한 번의 왕복으로 보내려면 JDBC URL에 rewriteBatchedStatements=true 를 함께 설정해야 함.
+ * 이때 드라이버가 문장별 변경 행 수 대신 SUCCESS_NO_INFO를 돌려줄 수 있는데, 변경 행 수로 결과를 판단하는 조건부 UPDATE 배치
+ * (InventoryRepositoryImpl.decreaseStock, OrderStatusRepositoryImpl.completeOrderItems)는 이를 성공/실패로 추측하지 않고 예외로 실패함.
+ * 설정을 켠 뒤에는 두 배치가 정상 동작하는지 확인해야 함.
+ */
+@Configuration
+public class HibernateConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(
+            @Value("${spring.snowflake.node-id:}") String nodeId,
+            @Value("${spring.jpa.batch-size:50}") int batchSize) {
+        if (!StringUtils.hasText(nodeId)) {
+            throw new IllegalStateException(
+                    "spring.snowflake.node-id 가 설정되지 않았습니다. 인스턴스마다 다른 0 ~ " + Snowflake.MAX_NODE_ID + " 값을 설정해야 합니다.");
+        }
+        long snowflakeNodeId = Long.parseLong(nodeId.trim());
+        Snowflake.forNode(snowflakeNodeId);
+
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(SnowflakeIdentifierGenerator.NODE_ID_SETTING, snowflakeNodeId);
+        };
+    }
+
+}
@@ -0,0 +1,46 @@
+package hmw.ecommerce.config;
+
+import hmw.ecommerce.repository.entity.OrderViewRepository;
+import hmw.ecommerce.service.OrderViewProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 읽기 모델을 다시 만드는 실행 옵션.
+ * {@code --rebuild-order-view} 인자로 실행하거나 spring.order.view.rebuild-on-startup=true 이면 시작 시 한 번 다시 만듦.
+ * 읽기 모델이 비어 있으면(처음 배포한 경우 등) 옵션과 상관없이 기존 주문으로 채워, 기존 주문이 목록에서 빠지지 않게 함.
+ * 읽기 모델로 옮기기 전 주문 내역 조회에 쓰던 주문 아이템 인덱스가 남아 있으면 함께 지움.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderViewRebuildRunner implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-order-view";
+
+    private final OrderViewProjector orderViewProjector;
+    private final OrderViewRepository orderViewRepository;
+
+    @Value("${spring.order.view.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (orderViewRepository.dropLegacyBuyerHistoryIndex()) {
+            log.info("더 이상 쓰지 않는 주문 아이템 인덱스(idx_order_item_buyer_order_date)를 지웠습니다.");
+        }
+        if (rebuildOnStartup || args.containsOption(REBUILD_OPTION)) {
+            orderViewProjector.rebuild();
+            return;
+        }
+        if (orderViewRepository.findFirstBy().isEmpty()) {
+            log.info("주문 읽기 모델이 비어 있어 기존 주문으로 채웁니다.");
+            orderViewProjector.rebuild();
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package hmw.ecommerce.config;
+
+import hmw.ecommerce.service.SalesRollupProjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매출 집계를 다시 만드는 실행 옵션.
+ * {@code --rebuild-sales-rollup} 인자로 실행하거나 spring.order.rollup.rebuild-on-startup=true 이면 시작 시 한 번 다시 만듦.
+ * 다시 만드는 동안 모든 서버의 아웃박스 전달이 멈추므로 운영 중인 클러스터의 한 서버에서 실행해도 되며,
+ * 여러 서버가 함께 시작하면 한 서버만 다시 만들고 나머지는 건너뜀.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupRebuildRunner implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-sales-rollup";
+
+    private final SalesRollupProjector salesRollupProjector;
+
+    @Value("${spring.order.rollup.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup || args.containsOption(REBUILD_OPTION)) {
+            salesRollupProjector.rebuild();
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package hmw.ecommerce.config;
 import hmw.ecommerce.jwt.JWTFilter;
 import hmw.ecommerce.jwt.JWTUtil;
 import hmw.ecommerce.jwt.LoginFilter;
+import hmw.ecommerce.service.CartService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,7 @@ public class SecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final CartService cartService;
 
     @Bean
     public BCryptPasswordEncoder bCryptPasswordEncoder() {
@@ -67,7 +69,7 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
-        LoginFilter loginFilter = new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil);
+        LoginFilter loginFilter = new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, cartService);
         loginFilter.setFilterProcessesUrl("/member/login");
 
         http
@@ -97,6 +99,7 @@ public class SecurityConfig {
                                 "/email").hasAnyRole("MEMBER", "SELLER")
                         .requestMatchers(HttpMethod.POST,
                                 "/item").hasRole("SELLER")
+                        .requestMatchers("/item/*/flash-sale").hasRole("SELLER")
                         .anyRequest().authenticated());
 
         http.exceptionHandling(e -> e.authenticationEntryPoint(customAuthenticationEntryPoint())
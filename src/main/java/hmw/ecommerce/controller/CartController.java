@@ -1,6 +1,7 @@
 package hmw.ecommerce.controller;
 
 import hmw.ecommerce.entity.dto.cart.AddToCartDto;
+import hmw.ecommerce.entity.dto.cart.BulkAddToCartDto;
 import hmw.ecommerce.entity.dto.cart.EditToCartDto;
 import hmw.ecommerce.entity.vo.Const;
 import hmw.ecommerce.service.CartService;
@@ -45,20 +46,37 @@ public class CartController {
         return ResponseEntity.ok(cartService.addToCart(itemId, cartRequest, token, request, response));
     }
 
+    /**
+     * 여러 아이템을 한 번에 장바구니에 추가하는 요청을 처리.
+     * 이미 담긴 아이템은 요청한 수량으로 변경됨.
+     *
+     * @param request      로그인 상태가 아닌 경우 쿠키에 넣기 위해 가져옴
+     * @param response     로그인 상태가 아닌 경우 쿠키에 넣기 위해 가져옴
+     * @param token        사용자 인증 토큰
+     * @param cartRequest  추가할 아이템 ID와 수량 목록 (유효하지 않으면 400 응답)
+     * @return 추가된 장바구니 아이템 정보 목록
+     */
+    @PostMapping
+    public ResponseEntity<?> addAllToCart(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @RequestHeader(name = Const.AUTHORIZATION, required = false) String token,
+            @Valid @RequestBody BulkAddToCartDto.Request cartRequest) {
+        return ResponseEntity.ok(cartService.addAllToCart(cartRequest, token, request, response));
+    }
+
     /**
      * 장바구니 아이템 조회 요청을 처리.
      *
      * @param request  로그인 상태가 아닌 경우 쿠키에서 들고오기 위해 가져옴
-     * @param response 로그인 상태가 아닌 경우 쿠키에서 들고오기 위해 가져옴
      * @param token    사용자 인증 토큰
      * @return 장바구니에 담긴 아이템 목록
      */
     @GetMapping
     public ResponseEntity<?> getCartItem(
             HttpServletRequest request,
-            HttpServletResponse response,
             @RequestHeader(name = Const.AUTHORIZATION, required = false) String token) {
-        return ResponseEntity.ok(cartService.getCartItem(request, response, token));
+        return ResponseEntity.ok(cartService.getCartItem(request, token));
     }
 
     /**
@@ -5,6 +5,7 @@ import hmw.ecommerce.entity.dto.Item.ItemMainViewDto;
 import hmw.ecommerce.entity.dto.Item.ItemRegisterDto;
 import hmw.ecommerce.entity.dto.Item.ItemUpdateForm;
 import hmw.ecommerce.entity.vo.Const;
+import hmw.ecommerce.service.FlashSaleService;
 import hmw.ecommerce.service.ItemService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class ItemController {
 
     private final ItemService itemService;
+    private final FlashSaleService flashSaleService;
 
     /**
      * 새로운 아이템을 등록
@@ -92,6 +94,34 @@ public class ItemController {
         return ResponseEntity.ok(itemService.modifyItem(token, itemId, updateForm));
     }
 
+    /**
+     * 아이템을 플래시 세일 모드로 전환합니다. 이후 주문은 Redis 재고 카운터로 처리됩니다.
+     *
+     * @param token 인증을 위한 JWT 토큰
+     * @param itemId 전환할 아이템 ID
+     * @return 전환된 아이템 ID
+     */
+    @PostMapping("/{itemId}/flash-sale")
+    public ResponseEntity<?> enableFlashSale(
+            @RequestHeader(Const.AUTHORIZATION) String token,
+            @PathVariable(name = "itemId") Long itemId) {
+        return ResponseEntity.ok(flashSaleService.enable(token, itemId));
+    }
+
+    /**
+     * 아이템의 플래시 세일 모드를 끕니다.
+     *
+     * @param token 인증을 위한 JWT 토큰
+     * @param itemId 해제할 아이템 ID
+     * @return 해제된 아이템 ID
+     */
+    @DeleteMapping("/{itemId}/flash-sale")
+    public ResponseEntity<?> disableFlashSale(
+            @RequestHeader(Const.AUTHORIZATION) String token,
+            @PathVariable(name = "itemId") Long itemId) {
+        return ResponseEntity.ok(flashSaleService.disable(token, itemId));
+    }
+
     /**
      * 카테고리, 타입으로 아이템을 검색하고 페이지네이션을 적용합니다.
      *
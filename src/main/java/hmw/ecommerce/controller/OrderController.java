@@ -2,12 +2,25 @@ package hmw.ecommerce.controller;
 
 import hmw.ecommerce.entity.dto.order.*;
 import hmw.ecommerce.entity.vo.Const;
+import hmw.ecommerce.entity.vo.ExportFormat;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.service.IdempotentOrderService;
+import hmw.ecommerce.service.OrderExportService;
 import hmw.ecommerce.service.OrderService;
+import hmw.ecommerce.service.SalesRollupService;
+import hmw.ecommerce.service.SellerOrderCountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
 
 import static hmw.ecommerce.entity.vo.Const.HAS_ROLE_MEMBER;
 import static hmw.ecommerce.entity.vo.Const.HAS_ROLE_SELLER;
@@ -18,23 +31,30 @@ import static hmw.ecommerce.entity.vo.Const.HAS_ROLE_SELLER;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
+    private final SellerOrderCountService sellerOrderCountService;
+    private final OrderExportService orderExportService;
+    private final SalesRollupService salesRollupService;
 
     /**
      * 회원이 주문을 생성하는 메서드.
      * 인증된 회원만 접근할 수 있습니다.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 새 주문을 만들지 않고 처음 주문의 ID를 반환합니다.
      *
      * @param request 주문 생성 요청 DTO.
      * @param token 로그인한 사용자의 인증 토큰 (JWT).
+     * @param idempotencyKey 재시도 시 중복 주문을 막기 위한 요청 키 (선택).
      * @return 생성된 주문 ID를 포함한 ResponseEntity.
      */
     @PreAuthorize(HAS_ROLE_MEMBER)
     @PostMapping
     public ResponseEntity<?> createOrder(
             @Valid @RequestBody(required = false) CreateOrderDto request,
-            @RequestHeader(name = Const.AUTHORIZATION) String token
+            @RequestHeader(name = Const.AUTHORIZATION) String token,
+            @RequestHeader(name = Const.IDEMPOTENCY_KEY, required = false) String idempotencyKey
     ) {
         return ResponseEntity.ok("orderId = " +
-                orderService.createOrder(token, request));
+                idempotentOrderService.createOrder(token, request, idempotencyKey));
     }
 
     /**
@@ -55,6 +75,25 @@ public class OrderController {
         return ResponseEntity.ok(orderService.getOrders(token, dtoRequest));
     }
 
+    /**
+     * 인증된 회원의 주문 내역을 최신순으로 커서 기반 조회하는 메서드.
+     * 응답의 nextCursor를 다음 요청의 cursor로 보내면 이어서 조회합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략).
+     * @param size 한 번에 조회할 개수.
+     * @param token 로그인한 사용자의 인증 토큰 (JWT).
+     * @return 주문 내역과 다음 페이지 커서를 포함한 ResponseEntity.
+     */
+    @PreAuthorize(HAS_ROLE_MEMBER)
+    @GetMapping("/history")
+    public ResponseEntity<?> getOrderHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(name = Const.AUTHORIZATION) String token
+    ) {
+        return ResponseEntity.ok(orderService.getOrderHistory(token, cursor, size));
+    }
+
     /**
      * 기존 주문을 취소하는 메서드.
      * 회원만 자신의 주문을 취소할 수 있습니다.
@@ -90,6 +129,86 @@ public class OrderController {
         return ResponseEntity.ok(orderService.getSellOrder(orderDto, token));
     }
 
+    /**
+     * 판매자의 상태별 주문 수를 조회하는 메서드.
+     * 주문마다 갱신되는 판매자별 개수를 읽으므로 주문 아이템 수와 관계없이 빠르게 응답합니다.
+     *
+     * @param token 로그인한 판매자의 인증 토큰 (JWT).
+     * @return 대기/취소/완료 주문 수와 전체 주문 수를 포함한 ResponseEntity.
+     */
+    @PreAuthorize(HAS_ROLE_SELLER)
+    @GetMapping("/seller/summary")
+    public ResponseEntity<?> getSellOrderSummary(
+            @RequestHeader(name = Const.AUTHORIZATION) String token
+    ) {
+        return ResponseEntity.ok(sellerOrderCountService.getSummaryByToken(token));
+    }
+
+    /**
+     * 판매자가 자신의 주문 아이템 전체를 파일로 내려받는 메서드.
+     * 결과를 메모리에 모으지 않고 DB에서 읽는 대로 응답에 쓰므로 주문이 많아도 한 번에 내려받을 수 있습니다.
+     *
+     * @param token 로그인한 판매자의 인증 토큰 (JWT).
+     * @param format 파일 형식 (CSV 또는 NDJSON, 기본값 CSV).
+     * @param from 이 날짜 이후의 주문만 (선택).
+     * @param to 이 날짜까지의 주문만 (선택).
+     * @param orderStatuses 내보낼 주문 상태 (선택, 없으면 전체).
+     * @return 주문 아이템 파일을 스트리밍하는 ResponseEntity.
+     */
+    @PreAuthorize(HAS_ROLE_SELLER)
+    @GetMapping("/seller/export")
+    public ResponseEntity<StreamingResponseBody> exportSellOrders(
+            @RequestHeader(name = Const.AUTHORIZATION) String token,
+            @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "status", required = false) List<OrderStatus> orderStatuses
+    ) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + format.getExtension() + "\"")
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .body(orderExportService.export(token, format, from, to, orderStatuses));
+    }
+
+    /**
+     * 판매자의 기간 내 일별 매출과 합계를 조회하는 메서드.
+     * 주문 아이템 대신 일 매출 집계에서 조회합니다.
+     *
+     * @param token 로그인한 판매자의 인증 토큰 (JWT).
+     * @param from 시작 일자 (포함).
+     * @param to 끝 일자 (포함).
+     * @return 일별 매출과 합계를 포함한 ResponseEntity.
+     */
+    @PreAuthorize(HAS_ROLE_SELLER)
+    @GetMapping("/seller/sales")
+    public ResponseEntity<?> getSellerSales(
+            @RequestHeader(name = Const.AUTHORIZATION) String token,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(salesRollupService.getDailySales(token, from, to));
+    }
+
+    /**
+     * 판매자의 기간 내 아이템별 매출을 순매출이 큰 순서로 조회하는 메서드.
+     *
+     * @param token 로그인한 판매자의 인증 토큰 (JWT).
+     * @param from 시작 일자 (포함).
+     * @param to 끝 일자 (포함).
+     * @param size 조회할 아이템 수 (기본값 20, 최대 100).
+     * @return 아이템별 매출을 포함한 ResponseEntity.
+     */
+    @PreAuthorize(HAS_ROLE_SELLER)
+    @GetMapping("/seller/sales/items")
+    public ResponseEntity<?> getSellerItemSales(
+            @RequestHeader(name = Const.AUTHORIZATION) String token,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(salesRollupService.getItemSales(token, from, to, size));
+    }
+
     /**
      * 판매자가 주문을 완료하는 메서드.
      * 판매자만 주문을 완료할 수 있습니다.
@@ -108,4 +227,21 @@ public class OrderController {
                 orderService.completeOrder(completeOrderDto, token));
     }
 
+    /**
+     * 판매자가 여러 주문을 한 번에 완료하는 메서드.
+     * 판매자만 자신의 주문을 완료할 수 있으며, 처리할 수 없는 주문이 있어도 나머지는 완료됩니다.
+     *
+     * @param request 완료할 (아이템 ID, 주문 ID) 목록을 포함한 요청 DTO.
+     * @param token 로그인한 판매자의 인증 토큰 (JWT).
+     * @return 주문별 처리 결과를 포함한 ResponseEntity.
+     */
+    @PreAuthorize(HAS_ROLE_SELLER)
+    @PostMapping("/complete/bulk")
+    public ResponseEntity<?> completeOrders(
+            @Valid @RequestBody BulkCompleteOrderDto.Request request,
+            @RequestHeader(name = Const.AUTHORIZATION) String token
+    ) {
+        return ResponseEntity.ok(orderService.completeOrders(request, token));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package hmw.ecommerce.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 플래시 세일 재고 차감 묶음을 DB에 반영한 기록.
+ * 재고 반영과 같은 트랜잭션에 저장되므로, 같은 묶음이 두 번 반영되지 않도록 막는 데 사용함.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlashStockFlush {
+
+    @Id
+    @Column(name = "batch_id")
+    private Long batchId;
+
+    private LocalDateTime appliedAt;
+
+}
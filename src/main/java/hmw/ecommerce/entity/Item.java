@@ -6,8 +6,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Getter
 @Builder
 @NoArgsConstructor
@@ -27,6 +29,13 @@ public class Item extends BaseEntity{
 
     private int viewCount;
 
+    /**
+     * 낙관적 락 버전. 재고를 JDBC로 직접 바꾸는 쿼리(InventoryRepositoryImpl)도 함께 올려,
+     * 아이템 수정이 그 사이의 재고 변경을 덮어쓰지 않고 충돌로 실패하게 함.
+     */
+    @Version
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -39,10 +48,6 @@ public class Item extends BaseEntity{
     @JoinColumn(name = "category_type_id")
     private CategoryType categoryType;
 
-    public void addViewCount() {
-        this.viewCount += 1;
-    }
-
     public void changeItemInfo(ItemUpdateForm updateForm) {
         this.title = updateForm.getTitle();
         this.itemName = updateForm.getItemName();
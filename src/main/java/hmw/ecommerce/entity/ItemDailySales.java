@@ -0,0 +1,48 @@
+package hmw.ecommerce.entity;
+
+import hmw.ecommerce.entity.vo.SalesCounts;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 아이템별 일 매출 집계.
+ * 판매자의 아이템별 매출 순위를 판매자 ID와 일자 인덱스로 조회할 수 있도록 판매자 ID를 함께 저장함.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_item_daily_sales_seller_date", columnList = "seller_id, sales_date"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ItemDailySales.Key.class)
+public class ItemDailySales {
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(name = "seller_id")
+    private String sellerId;
+
+    @Embedded
+    private SalesCounts counts;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long itemId;
+        private LocalDate salesDate;
+    }
+
+}
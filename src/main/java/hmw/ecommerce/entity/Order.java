@@ -1,5 +1,7 @@
 package hmw.ecommerce.entity;
 
+import hmw.ecommerce.entity.id.SnowflakeId;
+import hmw.ecommerce.entity.vo.IdempotencyClaim;
 import hmw.ecommerce.entity.vo.OrderStatus;
 import hmw.ecommerce.exception.ErrorCode;
 import hmw.ecommerce.exception.exceptions.OrderException;
@@ -12,7 +14,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+        indexes = @Index(name = "idx_orders_order_date", columnList = "order_date"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_orders_member_idempotency_key", columnNames = {"member_id", "idempotency_key"}))
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,7 +24,7 @@ import java.time.LocalDateTime;
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "order_id")
     private Long id;
 
@@ -32,18 +36,35 @@ public class Order extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
 
+    /**
+     * 주문을 만든 요청의 Idempotency-Key (보내지 않았으면 null). 회원별로 유일함.
+     */
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    /**
+     * 요청 키로 주문한 요청의 요약. Redis의 결과 값이 만료된 뒤 같은 키로 다른 주문을 요청하면 이 값과 비교해 거절함.
+     */
+    @Column(name = "idempotency_fingerprint", length = 64)
+    private String idempotencyFingerprint;
 
     public static Order createOrder(Member member, int count, int price, OrderStatus orderStatus) {
+        return createOrder(member, count, price, orderStatus, null);
+    }
+
+    public static Order createOrder(Member member, int count, int price, OrderStatus orderStatus, IdempotencyClaim claim) {
         return Order.builder()
                 .count(count)
                 .price(price)
                 .orderDate(LocalDateTime.now())
                 .orderStatus(orderStatus)
                 .member(member)
+                .idempotencyKey(claim == null ? null : claim.getKey())
+                .idempotencyFingerprint(claim == null ? null : claim.getFingerprint())
                 .build();
     }
 
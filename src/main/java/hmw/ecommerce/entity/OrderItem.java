@@ -1,5 +1,6 @@
 package hmw.ecommerce.entity;
 
+import hmw.ecommerce.entity.id.SnowflakeId;
 import hmw.ecommerce.entity.vo.OrderStatus;
 import hmw.ecommerce.exception.ErrorCode;
 import hmw.ecommerce.exception.exceptions.OrderException;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_order_item_seller_order_date", columnList = "seller_id, order_date"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -19,15 +21,15 @@ import java.time.LocalDateTime;
 public class OrderItem extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "order_item_id")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     private Order order;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "item_id")
     private Item item;
 
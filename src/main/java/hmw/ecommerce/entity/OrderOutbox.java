@@ -0,0 +1,42 @@
+package hmw.ecommerce.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 아웃박스.
+ * 주문 생성/취소/완료와 같은 트랜잭션에서 이벤트를 JSON으로 기록해 두고, OrderOutboxRelay가 꺼내 리스너에 전달한 뒤 지움.
+ * 처리에 실패한 행은 시도 횟수를 늘리고 다음 시도 일시(available_at)를 미루며, 최대 시도 횟수를 넘으면 남겨 둠.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = @Index(name = "idx_order_outbox_available_at", columnList = "available_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    private String eventType;
+
+    @Column(columnDefinition = "mediumtext")
+    private String payload;
+
+    private int attempts;
+
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    private LocalDateTime createdAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+}
@@ -0,0 +1,44 @@
+package hmw.ecommerce.entity;
+
+import hmw.ecommerce.entity.vo.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 읽기 모델.
+ * 주문 아이템 하나당 한 행으로, 구매자/판매자 주문 목록 응답에 필요한 값을 조인 없이 담고 있음.
+ * 주문 쓰기 이벤트(event 패키지)로 갱신되며, 주문/주문 아이템 테이블과 별도로 조회됨.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_order_view_buyer_order_date", columnList = "buyer_id, order_date, order_item_id"),
+        @Index(name = "idx_order_view_seller_order_date", columnList = "seller_id, order_date, order_item_id"),
+        @Index(name = "idx_order_view_seller_status_order_date", columnList = "seller_id, order_status, order_date")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderView {
+
+    @Id
+    @Column(name = "order_item_id")
+    private Long orderItemId;
+
+    private Long orderId;
+    private Long itemId;
+    private String buyerId;
+    private String sellerId;
+    private String itemName;
+    private int unitPrice;
+    private int unitCount;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private LocalDateTime orderDate;
+
+}
@@ -0,0 +1,49 @@
+package hmw.ecommerce.entity;
+
+import hmw.ecommerce.entity.vo.SalesCounts;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 판매자별 일 매출 집계.
+ * 주문 일자 기준으로 집계하므로 나중에 취소/완료되어도 주문한 날의 행이 갱신됨.
+ * 주문 생성/취소/완료와 같은 트랜잭션에서 갱신되며, 주문 아이템 테이블로 다시 만들 수 있음.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(SellerDailySales.Key.class)
+public class SellerDailySales {
+
+    @Id
+    @Column(name = "seller_id")
+    private String sellerId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Embedded
+    private SalesCounts counts;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String sellerId;
+        private LocalDate salesDate;
+    }
+
+}
@@ -0,0 +1,46 @@
+package hmw.ecommerce.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 판매자별 주문 아이템 상태 개수.
+ * 큰 판매자의 주문이 한 행에 몰려 락 경합이 생기지 않도록 판매자마다 여러 슬롯 행으로 나누어 저장하고, 조회 시 합산함.
+ * 주문 생성/취소/완료와 같은 트랜잭션에서 갱신됨.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(SellerOrderCount.Key.class)
+public class SellerOrderCount {
+
+    @Id
+    @Column(name = "seller_id")
+    private String sellerId;
+
+    @Id
+    private int slot;
+
+    private long pendingCount;
+    private long canceledCount;
+    private long completedCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String sellerId;
+        private int slot;
+    }
+
+}
@@ -1,12 +1,15 @@
 package hmw.ecommerce.entity.dto.Item;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import hmw.ecommerce.entity.Category;
 import hmw.ecommerce.entity.CategoryType;
 import hmw.ecommerce.entity.Item;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Builder
+@Jacksonized
 @Getter
 public class ItemDetailResponseDto {
 
@@ -22,6 +25,10 @@ public class ItemDetailResponseDto {
     private String categoryName;
     private String typeName;
 
+    // 캐시에 저장할 때 더 새 값을 덮어쓰지 않도록 비교하는 아이템 버전 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private long version;
+
 
     public static ItemDetailResponseDto fromEntity(Item item, Category category, CategoryType categoryType) {
         return ItemDetailResponseDto.builder()
@@ -34,6 +41,7 @@ public class ItemDetailResponseDto {
                 .nickName(item.getMember().getNickName())
                 .categoryName(category.getCategoryName())
                 .typeName(categoryType.getTypeName())
+                .version(item.getVersion())
                 .build();
     }
 
@@ -0,0 +1,43 @@
+package hmw.ecommerce.entity.dto.cart;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class BulkAddToCartDto {
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @Valid
+        @NotEmpty
+        @Size(max = 50)
+        private List<CartItem> cartItems;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CartItem {
+        @NotNull
+        private Long itemId;
+
+        @Min(1)
+        private int count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Response {
+        private List<AddToCartDto.Response> cartItems;
+    }
+
+}
@@ -1,28 +1,96 @@
 package hmw.ecommerce.entity.dto.cart;
 
+import hmw.ecommerce.entity.vo.CartLine;
+import hmw.ecommerce.entity.vo.ItemSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @Builder
 @Getter
 @AllArgsConstructor
 public class GetCartDto {
 
-    private Set<AddToCartDto.Response> addToCartDtos;
-    private int totalPrice;
-    private int totalCount;
+    private List<CartItem> cartItems;
+    private long totalPrice;
+    private long totalCount;
+    private boolean priceChanged;
+    private boolean outOfStock;
+
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    public static class CartItem {
+        private Long itemId;
+        private String itemName;
+        private int price;
+        private Integer addedPrice;
+        private int count;
+        private long linePrice;
+        private boolean priceChanged;
+        private boolean outOfStock;
+
+        public static CartItem of(CartLine cartLine, ItemSnapshot snapshot) {
+            Integer addedPrice = cartLine.getAddedPrice();
+            return CartItem.builder()
+                    .itemId(snapshot.getItemId())
+                    .itemName(snapshot.getItemName())
+                    .price(snapshot.getPrice())
+                    .addedPrice(addedPrice)
+                    .count(cartLine.getCount())
+                    .linePrice((long) snapshot.getPrice() * cartLine.getCount())
+                    .priceChanged(addedPrice != null && addedPrice != snapshot.getPrice())
+                    .outOfStock(snapshot.getStockQuantity() < cartLine.getCount())
+                    .build();
+        }
+    }
+
+    /**
+     * 장바구니 항목을 현재 가격과 재고로 다시 계산합니다.
+     * 삭제되어 스냅샷이 없는 아이템은 제외되며, 합계는 현재 가격 기준입니다.
+     *
+     * @param cartLines 장바구니 항목
+     * @param snapshots 아이템 ID별 현재 가격과 재고
+     * @return 장바구니 조회 응답
+     */
+    public static GetCartDto getCartDtoResponse(Collection<CartLine> cartLines, Map<Long, ItemSnapshot> snapshots) {
+        List<CartItem> cartItems = new ArrayList<>(cartLines.size());
+        long totalPrice = 0;
+        long totalCount = 0;
+        boolean priceChanged = false;
+        boolean outOfStock = false;
+
+        for (CartLine cartLine : cartLines) {
+            ItemSnapshot snapshot = snapshots.get(cartLine.getItemId());
+            if (snapshot == null) {
+                continue;
+            }
+
+            CartItem cartItem = CartItem.of(cartLine, snapshot);
+            cartItems.add(cartItem);
+            totalPrice += cartItem.getLinePrice();
+            totalCount += cartItem.getCount();
+            priceChanged |= cartItem.isPriceChanged();
+            outOfStock |= cartItem.isOutOfStock();
+        }
 
-    public static GetCartDto getCartDtoResponse(
-            Set<AddToCartDto.Response> responseSet,
-            int totalPrice,
-            int totalCount) {
         return GetCartDto.builder()
-                .addToCartDtos(responseSet)
-                .totalCount(totalCount)
+                .cartItems(cartItems)
                 .totalPrice(totalPrice)
+                .totalCount(totalCount)
+                .priceChanged(priceChanged)
+                .outOfStock(outOfStock)
+                .build();
+    }
+
+    public static GetCartDto empty() {
+        return GetCartDto.builder()
+                .cartItems(List.of())
                 .build();
     }
 }
@@ -0,0 +1,46 @@
+package hmw.ecommerce.entity.dto.order;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class BulkCompleteOrderDto {
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @Valid
+        @NotEmpty
+        @Size(max = 500)
+        private List<CompleteOrderDto> orderItems;
+    }
+
+    public enum Result {
+        COMPLETED, NOT_FOUND_ORDER, ALREADY_CANCELED, ALREADY_COMPLETED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Line {
+        @JsonSerialize(using = ToStringSerializer.class)
+        private Long orderId;
+        private Long itemId;
+        private Result result;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Response {
+        private int completedCount;
+        private List<Line> orderItems;
+    }
+
+}
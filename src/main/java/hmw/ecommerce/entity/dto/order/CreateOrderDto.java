@@ -1,5 +1,6 @@
 package hmw.ecommerce.entity.dto.order;
 
+import jakarta.validation.constraints.Min;
 import lombok.Getter;
 
 @Getter
@@ -7,6 +8,7 @@ import lombok.Getter;
 public class CreateOrderDto {
 
     private Long itemId;
+    @Min(1)
     private Integer count;
 
 }
@@ -0,0 +1,51 @@
+package hmw.ecommerce.entity.dto.order;
+
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.OrderException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+public class GetOrderHistoryDto {
+
+    /**
+     * 마지막으로 받은 주문 아이템의 (주문 일시, 주문 아이템 ID). 다음 페이지는 이 위치 이후부터 조회함.
+     * 클라이언트에는 Base64 URL-safe 문자열로 전달함.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+        private LocalDateTime orderDate;
+        private Long orderItemId;
+
+        public String encode() {
+            String raw = orderDate + "|" + orderItemId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int delimiter = raw.indexOf('|');
+                return new Cursor(
+                        LocalDateTime.parse(raw.substring(0, delimiter)),
+                        Long.valueOf(raw.substring(delimiter + 1)));
+            } catch (RuntimeException e) {
+                throw new OrderException(ErrorCode.INVALID_ORDER_CURSOR);
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Response {
+        private List<GetOrdersDto.Response> orders;
+        private String nextCursor;
+        private boolean hasNext;
+    }
+
+}
@@ -1,7 +1,9 @@
 package hmw.ecommerce.entity.dto.order;
 
-import hmw.ecommerce.entity.OrderItem;
+import hmw.ecommerce.entity.OrderView;
 import hmw.ecommerce.entity.vo.OrderStatus;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,24 +26,26 @@ public class GetOrdersDto {
     public static class Response {
         @DateTimeFormat(pattern = "yyyy-MM-dd")
         private LocalDateTime orderDate;
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long orderId;
         private Long itemId;
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long orderItemId;
         private String itemName;
         private int price;
         private int count;
         private OrderStatus orderStatus;
 
-        public static Response fromEntity(OrderItem orderItem) {
+        public static Response fromView(OrderView orderView) {
             return Response.builder()
-                    .orderId(orderItem.getOrder().getId())
-                    .itemId(orderItem.getItem().getId())
-                    .orderItemId(orderItem.getId())
-                    .orderDate(orderItem.getOrderDate())
-                    .itemName(orderItem.getItemName())
-                    .price(orderItem.getUnitPrice())
-                    .count(orderItem.getUnitCount())
-                    .orderStatus(orderItem.getOrderStatus())
+                    .orderId(orderView.getOrderId())
+                    .itemId(orderView.getItemId())
+                    .orderItemId(orderView.getOrderItemId())
+                    .orderDate(orderView.getOrderDate())
+                    .itemName(orderView.getItemName())
+                    .price(orderView.getUnitPrice())
+                    .count(orderView.getUnitCount())
+                    .orderStatus(orderView.getOrderStatus())
                     .build();
         }
 
@@ -1,12 +1,14 @@
 package hmw.ecommerce.entity.dto.order;
 
-import hmw.ecommerce.entity.OrderItem;
+import hmw.ecommerce.entity.OrderView;
 import hmw.ecommerce.entity.vo.OrderStatus;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 public class GetSellOrderDto {
 
@@ -20,6 +22,23 @@ public class GetSellOrderDto {
         private Boolean pending;
         private Boolean canceled;
         private Boolean completed;
+
+        /**
+         * 조회할 주문 상태 목록. 하나도 고르지 않으면 모든 상태를 조회합니다.
+         */
+        public Set<OrderStatus> getOrderStatuses() {
+            Set<OrderStatus> orderStatuses = EnumSet.noneOf(OrderStatus.class);
+            if (Boolean.TRUE.equals(pending)) {
+                orderStatuses.add(OrderStatus.PENDING);
+            }
+            if (Boolean.TRUE.equals(canceled)) {
+                orderStatuses.add(OrderStatus.CANCELED);
+            }
+            if (Boolean.TRUE.equals(completed)) {
+                orderStatuses.add(OrderStatus.COMPLETED);
+            }
+            return orderStatuses.isEmpty() ? EnumSet.allOf(OrderStatus.class) : orderStatuses;
+        }
     }
 
     @Getter
@@ -33,15 +52,15 @@ public class GetSellOrderDto {
         private OrderStatus orderStatus;
         private LocalDateTime orderDate;
 
-        public static Response fromEntity(OrderItem orderItem) {
+        public static Response fromView(OrderView orderView) {
             return GetSellOrderDto.Response.builder()
-                    .buyerId(orderItem.getBuyerId())
-                    .sellerId(orderItem.getSellerId())
-                    .unitCount(orderItem.getUnitCount())
-                    .unitPrice(orderItem.getUnitPrice())
-                    .itemName(orderItem.getItemName())
-                    .orderStatus(orderItem.getOrderStatus())
-                    .orderDate(orderItem.getOrderDate())
+                    .buyerId(orderView.getBuyerId())
+                    .sellerId(orderView.getSellerId())
+                    .unitCount(orderView.getUnitCount())
+                    .unitPrice(orderView.getUnitPrice())
+                    .itemName(orderView.getItemName())
+                    .orderStatus(orderView.getOrderStatus())
+                    .orderDate(orderView.getOrderDate())
                     .build();
         }
     }
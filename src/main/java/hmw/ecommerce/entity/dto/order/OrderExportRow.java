@@ -0,0 +1,26 @@
+package hmw.ecommerce.entity.dto.order;
+
+import hmw.ecommerce.entity.vo.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매 주문 내보내기의 한 줄. 행마다 만들고 바로 버리므로 내보내기 전체를 메모리에 담지 않음.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderExportRow {
+
+    private Long orderItemId;
+    private Long orderId;
+    private Long itemId;
+    private String buyerId;
+    private String itemName;
+    private int unitPrice;
+    private int unitCount;
+    private OrderStatus orderStatus;
+    private LocalDateTime orderDate;
+
+}
@@ -0,0 +1,21 @@
+package hmw.ecommerce.entity.dto.order;
+
+import hmw.ecommerce.entity.vo.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class OrderItemStatusDto {
+
+    private Long orderItemId;
+    private Long orderId;
+    private Long itemId;
+    private int unitPrice;
+    private int unitCount;
+    private LocalDateTime orderDate;
+    private OrderStatus orderStatus;
+
+}
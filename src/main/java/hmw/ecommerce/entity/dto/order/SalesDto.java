@@ -0,0 +1,54 @@
+package hmw.ecommerce.entity.dto.order;
+
+import hmw.ecommerce.entity.SellerDailySales;
+import hmw.ecommerce.entity.vo.SalesCounts;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class SalesDto {
+
+    @Getter
+    @AllArgsConstructor
+    public static class Daily {
+        private LocalDate salesDate;
+        private SalesCounts counts;
+
+        public static Daily fromEntity(SellerDailySales sellerDailySales) {
+            return new Daily(sellerDailySales.getSalesDate(), sellerDailySales.getCounts());
+        }
+    }
+
+    @Getter
+    public static class ItemSales {
+        private final Long itemId;
+        private final SalesCounts counts;
+
+        public ItemSales(Long itemId, Long orderedUnits, Long orderedRevenue, Long canceledUnits,
+                         Long canceledRevenue, Long completedUnits, Long completedRevenue) {
+            this.itemId = itemId;
+            this.counts = new SalesCounts(orderedUnits, orderedRevenue, canceledUnits,
+                    canceledRevenue, completedUnits, completedRevenue);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Response {
+        private LocalDate from;
+        private LocalDate to;
+        private SalesCounts total;
+        private List<Daily> days;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ItemResponse {
+        private LocalDate from;
+        private LocalDate to;
+        private List<ItemSales> items;
+    }
+
+}
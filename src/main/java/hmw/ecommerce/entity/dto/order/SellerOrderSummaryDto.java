@@ -0,0 +1,41 @@
+package hmw.ecommerce.entity.dto.order;
+
+import lombok.Getter;
+
+@Getter
+public class SellerOrderSummaryDto {
+
+    private final long pending;
+    private final long canceled;
+    private final long completed;
+
+    public SellerOrderSummaryDto(Long pending, Long canceled, Long completed) {
+        this.pending = pending == null ? 0 : pending;
+        this.canceled = canceled == null ? 0 : canceled;
+        this.completed = completed == null ? 0 : completed;
+    }
+
+    public long getTotal() {
+        return pending + canceled + completed;
+    }
+
+    /**
+     * 판매 주문 조회 조건에 해당하는 개수를 반환합니다. 상태를 하나도 고르지 않으면 전체 개수입니다.
+     *
+     * @param request 판매 주문 조회 요청
+     * @return 조건에 해당하는 주문 아이템 수
+     */
+    public long countOf(GetSellOrderDto.Request request) {
+        boolean pendingSelected = Boolean.TRUE.equals(request.getPending());
+        boolean canceledSelected = Boolean.TRUE.equals(request.getCanceled());
+        boolean completedSelected = Boolean.TRUE.equals(request.getCompleted());
+        if (!pendingSelected && !canceledSelected && !completedSelected) {
+            return getTotal();
+        }
+
+        return (pendingSelected ? pending : 0)
+                + (canceledSelected ? canceled : 0)
+                + (completedSelected ? completed : 0);
+    }
+
+}
@@ -0,0 +1,18 @@
+package hmw.ecommerce.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 Snowflake 방식으로 애플리케이션에서 생성함.
+ * IDENTITY와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치 INSERT를 사용할 수 있음.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
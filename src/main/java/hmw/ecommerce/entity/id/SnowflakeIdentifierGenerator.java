@@ -0,0 +1,37 @@
+package hmw.ecommerce.entity.id;
+
+import hmw.ecommerce.util.Snowflake;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * {@link SnowflakeId}가 붙은 식별자를 생성하는 Hibernate 생성기.
+ * 노드 ID는 Hibernate 설정 {@value #NODE_ID_SETTING} 값을 사용함. (HibernateConfig에서 spring.snowflake.node-id로 설정)
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "hmw.snowflake.node_id";
+
+    private final Snowflake snowflake;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Object nodeId = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID_SETTING);
+        if (nodeId == null) {
+            throw new IllegalStateException("Snowflake 노드 ID(" + NODE_ID_SETTING + ")가 설정되지 않았습니다.");
+        }
+        this.snowflake = Snowflake.forNode(Long.parseLong(String.valueOf(nodeId)));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return snowflake.nextId();
+    }
+
+}
@@ -0,0 +1,24 @@
+package hmw.ecommerce.entity.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 장바구니에 저장되는 한 줄의 아이템.
+ * 아이템 이름이나 현재 가격은 저장하지 않고, 조회 시 최신 정보로 채워짐.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CartLine {
+
+    private final Long itemId;
+    private final int count;
+
+    /**
+     * 장바구니에 담을 당시의 단가. 이전 형식의 장바구니처럼 알 수 없으면 null.
+     */
+    private final Integer addedPrice;
+
+}
@@ -0,0 +1,18 @@
+package hmw.ecommerce.entity.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장바구니에 여러 아이템을 합칠 때 이미 존재하는 아이템의 수량을 결정하는 규칙.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CartMergeRule {
+
+    REPLACE("replace"),
+    MAX("max"),
+    SUM("sum");
+
+    private final String scriptArgument;
+}
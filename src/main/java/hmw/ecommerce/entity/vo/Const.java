@@ -3,6 +3,7 @@ package hmw.ecommerce.entity.vo;
 public abstract class Const {
     public static final String AUTHORIZATION = "Authorization";
     public static final String BEARER  = "Bearer ";
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
     public static final String ROLE_MEMBER = "ROLE_MEMBER";
     public static final String ROLE_SELLER = "ROLE_SELLER";
@@ -13,6 +14,26 @@ public abstract class Const {
     public static final String TOP_RANKING_ITEM_KEY = "TOP_RANKING_ITEM_KEY";
     public static final String RANKING_KEY = "RANKING_KEY";
     public static final String VIEW_COUNT = "VIEW_COUNT";
+    public static final String ITEM_VIEW_COUNT_KEY = "ITEM_VIEW_COUNT";
 
     public static final String CART_ITEMS = "CART_ITEMS";
+    public static final String CART_KEY_PREFIX = "CART_ITEMS:";
+    public static final String ITEM_SNAPSHOT_KEY_PREFIX = "ITEM_SNAPSHOT:";
+    public static final String ITEM_DETAIL_KEY_PREFIX = "ITEM_DETAIL:";
+    public static final String ITEM_DETAIL_INVALIDATION_CHANNEL = "ITEM_DETAIL_INVALIDATION";
+
+    public static final String STOCK_RESERVATION_KEY_PREFIX = "STOCK_RESERVATION:";
+    public static final String STOCK_RESERVATION_COUNT_KEY_PREFIX = "STOCK_RESERVATION_COUNT:";
+    public static final String STOCK_RESERVED_KEY_PREFIX = "STOCK_RESERVED:";
+    public static final String STOCK_RESERVATION_ITEMS = "STOCK_RESERVATION_ITEMS";
+
+    public static final String FLASH_SALE_ITEMS = "FLASH_SALE_ITEMS";
+    public static final String FLASH_STOCK_KEY_PREFIX = "FLASH_STOCK:";
+    public static final String FLASH_STOCK_PENDING = "FLASH_STOCK_PENDING";
+    public static final String FLASH_STOCK_INFLIGHT = "FLASH_STOCK_INFLIGHT";
+    public static final String FLASH_STOCK_BATCH_SEQ = "FLASH_STOCK_BATCH_SEQ";
+
+    public static final String IDEMPOTENCY_KEY_PREFIX = "IDEMPOTENCY:";
+
+    public static final String ITEM_LEASE_KEY_PREFIX = "ITEM_LEASE:";
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package hmw.ecommerce.entity.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 요청 키(Idempotency-Key)를 선점한 주문 요청.
+ * 주문이 커밋되면 선점할 때 저장한 처리 중 표시 값을 결과 값으로 바꾸며,
+ * 요청 키는 주문 행에도 저장되어 Redis 값이 없어도 처음 생성된 주문을 찾을 수 있음.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class IdempotencyClaim {
+
+    private final String scope;
+    private final String key;
+
+    /**
+     * 같은 키로 다른 주문을 요청했는지 구분하는 요청 요약. 주문 행에도 함께 저장함.
+     */
+    private final String fingerprint;
+
+    private final String pendingValue;
+
+    /**
+     * 결과 값의 앞부분. 뒤에 주문 ID를 붙여 저장함.
+     */
+    private final String resultPrefix;
+
+    public String resultValue(Long orderId) {
+        return resultPrefix + orderId;
+    }
+
+}
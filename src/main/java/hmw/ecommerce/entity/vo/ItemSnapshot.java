@@ -0,0 +1,24 @@
+package hmw.ecommerce.entity.vo;
+
+import hmw.ecommerce.entity.Item;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 장바구니 조회 시 필요한 아이템의 현재 가격과 재고만 담은 스냅샷.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ItemSnapshot {
+
+    private final Long itemId;
+    private final String itemName;
+    private final int price;
+    private final int stockQuantity;
+
+    public static ItemSnapshot fromItemEntity(Item item) {
+        return new ItemSnapshot(item.getId(), item.getItemName(), item.getPrice(), item.getStockQuantity());
+    }
+}
@@ -0,0 +1,69 @@
+package hmw.ecommerce.entity.vo;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매출 집계 값. 주문된 수량/금액과 그중 취소, 완료된 수량/금액을 담음.
+ * 주문된 값은 줄지 않고, 취소/완료 값은 주문 아이템 상태가 바뀔 때 더하고 뺌.
+ */
+@Embeddable
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesCounts {
+
+    private long orderedUnits;
+    private long orderedRevenue;
+    private long canceledUnits;
+    private long canceledRevenue;
+    private long completedUnits;
+    private long completedRevenue;
+
+    /**
+     * 취소를 뺀 매출 금액입니다.
+     */
+    public long getNetRevenue() {
+        return orderedRevenue - canceledRevenue;
+    }
+
+    /**
+     * 새 주문 아이템을 더합니다.
+     *
+     * @param units 주문 수량
+     * @param revenue 주문 금액
+     */
+    public void place(long units, long revenue) {
+        orderedUnits += units;
+        orderedRevenue += revenue;
+    }
+
+    /**
+     * 주문 아이템의 상태 변경을 반영합니다.
+     *
+     * @param from 변경 전 상태
+     * @param to 변경 후 상태
+     * @param units 주문 수량
+     * @param revenue 주문 금액
+     */
+    public void changeStatus(OrderStatus from, OrderStatus to, long units, long revenue) {
+        if (from == to) {
+            return;
+        }
+        addStatus(from, -units, -revenue);
+        addStatus(to, units, revenue);
+    }
+
+    private void addStatus(OrderStatus orderStatus, long units, long revenue) {
+        if (orderStatus == OrderStatus.CANCELED) {
+            canceledUnits += units;
+            canceledRevenue += revenue;
+        } else if (orderStatus == OrderStatus.COMPLETED) {
+            completedUnits += units;
+            completedRevenue += revenue;
+        }
+    }
+
+}
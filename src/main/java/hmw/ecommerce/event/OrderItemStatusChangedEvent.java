@@ -0,0 +1,41 @@
+package hmw.ecommerce.event;
+
+import hmw.ecommerce.entity.OrderItem;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 아이템의 상태가 바뀌었음을 알리는 이벤트. (취소, 완료)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class OrderItemStatusChangedEvent {
+
+    private final Long orderItemId;
+    private final Long itemId;
+    private final String sellerId;
+    private final int unitPrice;
+    private final int unitCount;
+    private final LocalDateTime orderDate;
+    private final OrderStatus previousStatus;
+    private final OrderStatus orderStatus;
+
+    public static OrderItemStatusChangedEvent of(OrderItem orderItem, OrderStatus previousStatus) {
+        return new OrderItemStatusChangedEvent(
+                orderItem.getId(),
+                orderItem.getItem().getId(),
+                orderItem.getSellerId(),
+                orderItem.getUnitPrice(),
+                orderItem.getUnitCount(),
+                orderItem.getOrderDate(),
+                previousStatus,
+                orderItem.getOrderStatus());
+    }
+
+}
@@ -0,0 +1,52 @@
+package hmw.ecommerce.event;
+
+import hmw.ecommerce.entity.OrderItem;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문이 생성되어 주문 아이템이 저장되었음을 알리는 이벤트.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class OrderItemsPlacedEvent {
+
+    private final List<PlacedItem> items;
+
+    public static OrderItemsPlacedEvent of(List<OrderItem> orderItems) {
+        return new OrderItemsPlacedEvent(orderItems.stream()
+                .map(orderItem -> new PlacedItem(
+                        orderItem.getId(),
+                        orderItem.getOrder().getId(),
+                        orderItem.getItem().getId(),
+                        orderItem.getBuyerId(),
+                        orderItem.getSellerId(),
+                        orderItem.getItemName(),
+                        orderItem.getUnitPrice(),
+                        orderItem.getUnitCount(),
+                        orderItem.getOrderDate()))
+                .toList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+    public static class PlacedItem {
+        private final Long orderItemId;
+        private final Long orderId;
+        private final Long itemId;
+        private final String buyerId;
+        private final String sellerId;
+        private final String itemName;
+        private final int unitPrice;
+        private final int unitCount;
+        private final LocalDateTime orderDate;
+    }
+
+}
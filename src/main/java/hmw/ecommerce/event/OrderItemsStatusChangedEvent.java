@@ -0,0 +1,20 @@
+package hmw.ecommerce.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 주문 아이템의 상태가 한 번에 바뀌었음을 알리는 이벤트. (일괄 완료)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class OrderItemsStatusChangedEvent {
+
+    private final List<OrderItemStatusChangedEvent> changes;
+
+}
@@ -0,0 +1,19 @@
+package hmw.ecommerce.event;
+
+import java.util.List;
+
+/**
+ * 아웃박스에서 꺼낸 주문 이벤트를 받는 리스너.
+ * 구현체를 빈으로 등록하면 OrderOutboxRelay가 꺼낸 이벤트 묶음을 기록 순서대로 전달함.
+ * 이벤트 묶음은 아웃박스 행을 지우는 트랜잭션 안에서 전달되므로, 같은 DB에 기록하는 리스너는 이벤트를 정확히 한 번 반영함.
+ * 예외를 던지면 묶음 전체가 롤백된 뒤 이벤트마다 다시 전달됩니다.
+ */
+public interface OrderOutboxListener {
+
+    /**
+     * 주문 이벤트 묶음을 처리합니다. 관심 없는 종류의 이벤트는 무시합니다.
+     *
+     * @param events 주문 이벤트 목록 (OrderItemsPlacedEvent, OrderItemStatusChangedEvent, OrderItemsStatusChangedEvent)
+     */
+    void onEvents(List<Object> events);
+}
@@ -18,6 +18,7 @@ public enum ErrorCode {
     // 아이템 예외
     OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "재고가 부족합니다."),
     NOT_EXISTS_ITEM(HttpStatus.BAD_REQUEST, "아이템이 존재하지 않습니다."),
+    CONCURRENT_ITEM_UPDATE(HttpStatus.CONFLICT, "다른 요청이 아이템을 동시에 변경하고 있습니다. 잠시 후 다시 시도해주세요."),
 
     // 카테고리 예외
     NOT_EXISTS_CATEGORY_TYPE(HttpStatus.BAD_REQUEST, "카테고리타입이 존재하지 않습니다."),
@@ -44,6 +45,14 @@ public enum ErrorCode {
     NOT_FOUND_ORDER(HttpStatus.BAD_REQUEST, "해당 주문을 찾을 수 없습니다."),
     ALREADY_CANCELED(HttpStatus.BAD_REQUEST, "해당 주문은 이미 취소되었습니다."),
     ALREADY_COMPLETED(HttpStatus.BAD_REQUEST, "해당 주문은 이미 완료되었습니다."),
+    INVALID_ORDER_CURSOR(HttpStatus.BAD_REQUEST, "주문 내역 조회 위치가 올바르지 않습니다."),
+    ORDER_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "주문이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    ORDER_LOCK_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "주문이 몰려 재고를 확인하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    ORDER_RESULT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "주문 처리가 지연되고 있습니다. 주문 내역을 확인한 뒤 다시 시도해주세요."),
+    ORDER_IN_PROGRESS(HttpStatus.CONFLICT, "같은 요청 키의 주문이 처리 중입니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "요청 키는 1자 이상 64자 이하로 입력해야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "요청 키가 다른 주문 요청에 이미 사용되었습니다."),
+    INVALID_SALES_PERIOD(HttpStatus.BAD_REQUEST, "매출 조회 기간은 시작일부터 366일 이내로 입력해야 합니다."),
 
     // 기타 예외
     FAIL_TO_PARSE(HttpStatus.BAD_REQUEST, "파싱하는데 실패하였습니다."),
@@ -35,7 +35,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ItemException.class)
     public ResponseEntity<String> handleItemExceptionException(ItemException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(ex.getMessage(), ex.getErrorCode().getHttpStatus());
     }
 
     @ExceptionHandler(MemberException.class)
@@ -61,7 +61,7 @@ public class GlobalExceptionHandler {
         if (ex.getStockErrorList() != null && !ex.getStockErrorList().isEmpty()) {
             response.put("stockErrorList", ex.getStockErrorList());
         }
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(response, ex.getErrorCode().getHttpStatus());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
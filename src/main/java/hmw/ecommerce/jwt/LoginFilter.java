@@ -6,6 +6,7 @@ import hmw.ecommerce.entity.dto.member.LoginDto;
 import hmw.ecommerce.entity.vo.Const;
 import hmw.ecommerce.exception.ErrorCode;
 import hmw.ecommerce.exception.exceptions.ParseException;
+import hmw.ecommerce.service.CartService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +30,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
+    private final CartService cartService;
     private final static long JWT_EXPIRATION_TIME = 60 * 60 * 24L * 1000;
 
     /**
@@ -60,6 +62,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     /**
      * 인증에 성공하면 호출됩니다.
      * JWT 토큰을 생성하고, 이를 응답 헤더에 추가합니다.
+     * 쿠키에 비로그인 장바구니가 남아있으면 이 시점에 한 번만 Redis 장바구니로 병합합니다.
      *
      * @param request HTTP 요청
      * @param response HTTP 응답
@@ -80,6 +83,12 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         String role = auth.getAuthority();
         String token = jwtUtil.createJwt(loginId, role, JWT_EXPIRATION_TIME);
 
+        try {
+            cartService.mergeGuestCart(loginId, request, response);
+        } catch (Exception e) {
+            log.warn("로그인 시 비로그인 장바구니 병합에 실패했습니다. loginId={}", loginId, e);
+        }
+
         response.addHeader(Const.AUTHORIZATION, Const.BEARER + token);
         response.setContentType("application/json;charset=UTF-8");
         response.getWriter().write(loginId + " : 로그인 성공");
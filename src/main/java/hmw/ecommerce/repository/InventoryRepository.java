@@ -0,0 +1,13 @@
+package hmw.ecommerce.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface InventoryRepository {
+
+    List<Long> decreaseStock(Map<Long, Integer> counts);
+
+    void increaseStock(Long itemId, int count);
+
+    void applyStockDeltas(Map<Long, Long> decreases);
+}
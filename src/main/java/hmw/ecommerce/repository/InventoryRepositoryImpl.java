@@ -0,0 +1,90 @@
+package hmw.ecommerce.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 아이템 재고를 조건부 UPDATE 한 문장으로 변경하는 저장소 구현.
+ * 재고를 읽고 검사한 뒤 쓰는 대신 DB가 조건 검사와 차감을 함께 처리하므로, 락 없이도 동시 주문에 재고가 음수가 되지 않음.
+ * 같은 트랜잭션의 커넥션을 사용하므로 주문 저장이 실패하면 차감도 함께 롤백됨.
+ * 재고를 바꿀 때마다 아이템 버전도 올려, 같은 아이템을 읽어 둔 JPA 수정이 충돌을 감지하게 함.
+ */
+@RequiredArgsConstructor
+public class InventoryRepositoryImpl implements InventoryRepository {
+
+    private static final String DECREASE_STOCK_SQL =
+            "update item set stock_quantity = stock_quantity - ?, version = version + 1 " +
+            "where item_id = ? and stock_quantity >= ?";
+    private static final String INCREASE_STOCK_SQL =
+            "update item set stock_quantity = stock_quantity + ?, version = version + 1 where item_id = ?";
+
+    private static final String APPLY_STOCK_DELTA_SQL =
+            "update item set stock_quantity = stock_quantity - ?, version = version + 1 where item_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 아이템의 재고를 한 번의 배치로 차감합니다.
+     * 재고가 부족한 아이템은 변경되지 않고 실패 목록으로 반환되며, 호출한 쪽에서 트랜잭션을 롤백해야 합니다.
+     * 동시에 실행되는 주문끼리 교착 상태가 생기지 않도록 아이템 ID 순서로 갱신합니다.
+     * 문장별 변경 행 수로 재고 부족을 판단하므로, 드라이버가 행 수를 돌려주지 않으면(rewriteBatchedStatements 등으로 SUCCESS_NO_INFO)
+     * 차감 성공 여부를 알 수 없어 예외를 던집니다.
+     *
+     * @param counts 아이템 ID별 차감할 수량
+     * @return 재고가 부족하여 차감하지 못한 아이템 ID 목록 (모두 성공하면 빈 목록)
+     * @throws IllegalStateException 드라이버가 문장별 변경 행 수를 돌려주지 않은 경우
+     */
+    @Override
+    public List<Long> decreaseStock(Map<Long, Integer> counts) {
+        List<Long> itemIds = new ArrayList<>(new TreeMap<>(counts).keySet());
+        List<Object[]> batchArgs = new ArrayList<>(itemIds.size());
+        for (Long itemId : itemIds) {
+            int count = counts.get(itemId);
+            batchArgs.add(new Object[]{count, itemId, count});
+        }
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, batchArgs);
+
+        List<Long> failedItemIds = new ArrayList<>();
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("JDBC 드라이버가 재고 차감 문장의 변경 행 수를 돌려주지 않았습니다. rewriteBatchedStatements 설정을 확인해주세요.");
+            }
+            if (updatedRows[i] == 0) {
+                failedItemIds.add(itemIds.get(i));
+            }
+        }
+        return failedItemIds;
+    }
+
+    /**
+     * 아이템의 재고를 증가시킵니다.
+     *
+     * @param itemId 아이템 ID
+     * @param count 증가시킬 수량
+     */
+    @Override
+    public void increaseStock(Long itemId, int count) {
+        jdbcTemplate.update(INCREASE_STOCK_SQL, count, itemId);
+    }
+
+    /**
+     * 다른 곳(플래시 세일 재고 카운터)에서 이미 검증한 차감 수량을 조건 없이 한 번의 배치로 반영합니다.
+     * 음수는 재고 증가를 뜻합니다.
+     *
+     * @param decreases 아이템 ID별 차감할 수량
+     */
+    @Override
+    public void applyStockDeltas(Map<Long, Long> decreases) {
+        List<Object[]> batchArgs = new ArrayList<>(decreases.size());
+        new TreeMap<>(decreases).forEach((itemId, decrease) -> batchArgs.add(new Object[]{decrease, itemId}));
+        jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA_SQL, batchArgs);
+    }
+
+}
@@ -0,0 +1,196 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.OrderView;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 오래된 주문을 보관 테이블(orders_archive, order_item_archive, order_view_archive)로 옮기고 읽는 저장소.
+ * 보관 테이블은 주문 일시 월 단위로 파티션되어 있어, 기간 조건이 있는 조회는 해당 월 파티션만 읽음.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderArchiveRepository {
+
+    private static final List<String> ARCHIVE_TABLES = List.of("orders_archive", "order_item_archive", "order_view_archive");
+    private static final String MAX_PARTITION = "p_max";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String ORDER_COLUMNS =
+            "order_id, count, price, order_date, order_status, member_id, created_at, modified_at";
+    private static final String ORDER_ITEM_COLUMNS =
+            "order_item_id, order_id, item_id, buyer_id, seller_id, unit_count, unit_price, item_name, order_status, " +
+            "order_date, created_at, modified_at";
+    private static final String ORDER_VIEW_COLUMNS =
+            "order_item_id, order_id, item_id, buyer_id, seller_id, item_name, unit_price, unit_count, order_status, order_date";
+
+    private static final RowMapper<OrderView> ORDER_VIEW_ROW_MAPPER = (rs, rowNum) -> new OrderView(
+            rs.getLong("order_item_id"),
+            rs.getLong("order_id"),
+            rs.getLong("item_id"),
+            rs.getString("buyer_id"),
+            rs.getString("seller_id"),
+            rs.getString("item_name"),
+            rs.getInt("unit_price"),
+            rs.getInt("unit_count"),
+            OrderStatus.valueOf(rs.getString("order_status")),
+            rs.getTimestamp("order_date").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 보관 테이블이 없으면 생성합니다.
+     */
+    public void createTablesIfNotExist() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("db/order_archive_schema.sql"));
+        DatabasePopulatorUtils.execute(populator, Objects.requireNonNull(jdbcTemplate.getDataSource()));
+    }
+
+    /**
+     * 주어진 달까지의 월 파티션이 있도록 p_max 파티션을 나눕니다.
+     * 월 파티션은 가장 마지막 월 파티션 뒤에만 추가할 수 있으므로, 처음에는 가장 오래된 주문의 달부터 만들어야 합니다.
+     *
+     * @param from 처음 만들 때 시작할 달
+     * @param to 마지막으로 필요한 달
+     */
+    public void ensureMonthlyPartitions(YearMonth from, YearMonth to) {
+        for (String table : ARCHIVE_TABLES) {
+            YearMonth start = findLastPartitionMonth(table).map(YearMonth::plusMonths).orElse(from);
+            if (start.isAfter(to)) {
+                continue;
+            }
+
+            List<String> partitions = new ArrayList<>();
+            for (YearMonth month = start; !month.isAfter(to); month = month.plusMonths(1)) {
+                partitions.add("partition " + PARTITION_NAME.format(month.atDay(1))
+                        + " values less than ('" + month.plusMonths(1).atDay(1) + "')");
+            }
+            partitions.add("partition " + MAX_PARTITION + " values less than (maxvalue)");
+            jdbcTemplate.execute("alter table " + table + " reorganize partition " + MAX_PARTITION
+                    + " into (" + String.join(", ", partitions) + ")");
+        }
+    }
+
+    /**
+     * 보관되지 않은 주문 중 가장 오래된 주문 일시를 조회합니다.
+     *
+     * @return 가장 오래된 주문 일시 (주문이 없으면 null)
+     */
+    public LocalDateTime findOldestOrderDate() {
+        Timestamp oldest = jdbcTemplate.queryForObject("select min(order_date) from orders", Timestamp.class);
+        return oldest == null ? null : oldest.toLocalDateTime();
+    }
+
+    /**
+     * 기준 일시 이전에 주문되었고 모든 주문 아이템이 취소/완료된 주문을 잠그고 가져옵니다.
+     * 다른 트랜잭션이 잡고 있는 주문은 건너뜁니다.
+     *
+     * @param cutoff 기준 일시
+     * @param limit 가져올 최대 개수
+     * @return 보관할 주문 ID 목록
+     */
+    public List<Long> lockArchivableOrderIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(
+                "select o.order_id from orders o where o.order_date < ? " +
+                "and not exists (select 1 from order_item oi where oi.order_id = o.order_id and oi.order_status = ?) " +
+                "order by o.order_date limit ? for update skip locked",
+                Long.class, Timestamp.valueOf(cutoff), OrderStatus.PENDING.ordinal(), limit);
+    }
+
+    /**
+     * 주문과 주문 아이템, 주문 읽기 모델 행을 보관 테이블로 옮깁니다. 호출한 쪽의 트랜잭션 안에서 실행해야 합니다.
+     *
+     * @param orderIds 옮길 주문 ID 목록
+     */
+    public void moveToArchive(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        String in = String.join(", ", Collections.nCopies(orderIds.size(), "?"));
+        Object[] args = orderIds.toArray();
+
+        jdbcTemplate.update("insert into orders_archive (" + ORDER_COLUMNS + ") select " + ORDER_COLUMNS
+                + " from orders where order_id in (" + in + ")", args);
+        jdbcTemplate.update("insert into order_item_archive (" + ORDER_ITEM_COLUMNS + ") select " + ORDER_ITEM_COLUMNS
+                + " from order_item where order_id in (" + in + ")", args);
+        jdbcTemplate.update("insert into order_view_archive (" + ORDER_VIEW_COLUMNS + ") select " + ORDER_VIEW_COLUMNS
+                + " from order_view where order_id in (" + in + ")", args);
+
+        jdbcTemplate.update("delete from order_view where order_id in (" + in + ")", args);
+        jdbcTemplate.update("delete from order_item where order_id in (" + in + ")", args);
+        jdbcTemplate.update("delete from orders where order_id in (" + in + ")", args);
+    }
+
+    /**
+     * 보관된 구매자 주문 내역을 (주문 일시, 주문 아이템 ID) 내림차순으로 가져옵니다.
+     *
+     * @param buyerId 구매자 ID
+     * @param orderDate 이 위치 이후부터 조회 (처음부터면 null)
+     * @param orderItemId 이 위치 이후부터 조회 (처음부터면 null)
+     * @param limit 가져올 최대 개수
+     * @return 보관된 주문 내역
+     */
+    public List<OrderView> findViewsByBuyerId(String buyerId, LocalDateTime orderDate, Long orderItemId, int limit) {
+        if (orderDate == null) {
+            return jdbcTemplate.query(
+                    "select " + ORDER_VIEW_COLUMNS + " from order_view_archive where buyer_id = ? " +
+                    "order by order_date desc, order_item_id desc limit ?",
+                    ORDER_VIEW_ROW_MAPPER, buyerId, limit);
+        }
+        Timestamp after = Timestamp.valueOf(orderDate);
+        return jdbcTemplate.query(
+                "select " + ORDER_VIEW_COLUMNS + " from order_view_archive where buyer_id = ? " +
+                "and (order_date < ? or (order_date = ? and order_item_id < ?)) " +
+                "order by order_date desc, order_item_id desc limit ?",
+                ORDER_VIEW_ROW_MAPPER, buyerId, after, after, orderItemId, limit);
+    }
+
+    /**
+     * 보관된 판매자 주문 내역을 최신순으로 가져옵니다.
+     *
+     * @param sellerId 판매자 ID
+     * @param orderStatuses 조회할 주문 상태
+     * @param limit 가져올 최대 개수
+     * @return 보관된 주문 내역
+     */
+    public List<OrderView> findViewsBySellerId(String sellerId, Collection<OrderStatus> orderStatuses, int limit) {
+        List<Object> args = new ArrayList<>();
+        args.add(sellerId);
+        orderStatuses.forEach(orderStatus -> args.add(orderStatus.name()));
+        args.add(limit);
+        return jdbcTemplate.query(
+                "select " + ORDER_VIEW_COLUMNS + " from order_view_archive where seller_id = ? " +
+                "and order_status in (" + String.join(", ", Collections.nCopies(orderStatuses.size(), "?")) + ") " +
+                "order by order_date desc, order_item_id desc limit ?",
+                ORDER_VIEW_ROW_MAPPER, args.toArray());
+    }
+
+    private Optional<YearMonth> findLastPartitionMonth(String table) {
+        List<String> names = jdbcTemplate.queryForList(
+                "select partition_name from information_schema.partitions " +
+                "where table_schema = database() and table_name = ? and partition_name <> ?",
+                String.class, table, MAX_PARTITION);
+        return names.stream()
+                .map(name -> YearMonth.from(LocalDate.parse(name.substring(1) + "01", DateTimeFormatter.BASIC_ISO_DATE)))
+                .max(YearMonth::compareTo);
+    }
+
+}
@@ -0,0 +1,93 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.dto.order.OrderExportRow;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 판매자의 주문 아이템을 한 행씩 흘려 읽는(streaming) 저장소.
+ * MySQL 드라이버는 fetch size가 Integer.MIN_VALUE인 전방 전용(forward-only) 읽기 전용 결과를 서버에서 한 행씩 받아오므로,
+ * 결과가 수백만 행이어도 드라이버와 힙에 쌓이지 않음.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderExportRepository {
+
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+    private static final String COLUMNS =
+            "order_item_id, order_id, item_id, buyer_id, item_name, unit_price, unit_count, order_status, order_date";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 판매자의 주문 아이템을 주문 일시(같으면 주문 아이템 ID) 순으로 한 행씩 넘겨줍니다.
+     * 테이블이 여럿이면 union all로 합쳐 DB가 한 번에 정렬하므로, 테이블을 합쳐도 순서가 유지됩니다.
+     *
+     * @param tables 읽을 테이블 (order_item, order_item_archive)
+     * @param sellerId 판매자 ID
+     * @param from 이 일시 이후 주문만 (없으면 null)
+     * @param to 이 일시 이전 주문만 (없으면 null)
+     * @param orderStatuses 내보낼 주문 상태
+     * @param consumer 행을 받을 함수
+     */
+    public void streamSellerOrderItems(List<String> tables, String sellerId, LocalDateTime from, LocalDateTime to,
+                                       Collection<OrderStatus> orderStatuses, Consumer<OrderExportRow> consumer) {
+        StringBuilder sql = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        for (String table : tables) {
+            if (!sql.isEmpty()) {
+                sql.append(" union all ");
+            }
+            sql.append("select ").append(COLUMNS).append(" from ").append(table).append(" where seller_id = ?");
+            args.add(sellerId);
+            if (from != null) {
+                sql.append(" and order_date >= ?");
+                args.add(Timestamp.valueOf(from));
+            }
+            if (to != null) {
+                sql.append(" and order_date < ?");
+                args.add(Timestamp.valueOf(to));
+            }
+            sql.append(" and order_status in (")
+                    .append(String.join(", ", Collections.nCopies(orderStatuses.size(), "?")))
+                    .append(")");
+            orderStatuses.forEach(orderStatus -> args.add(orderStatus.ordinal()));
+        }
+        sql.append(" order by order_date, order_item_id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAMING_FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(new OrderExportRow(
+                rs.getLong("order_item_id"),
+                rs.getLong("order_id"),
+                rs.getLong("item_id"),
+                rs.getString("buyer_id"),
+                rs.getString("item_name"),
+                rs.getInt("unit_price"),
+                rs.getInt("unit_count"),
+                ORDER_STATUSES[rs.getInt("order_status")],
+                rs.getTimestamp("order_date").toLocalDateTime())));
+    }
+
+}
@@ -0,0 +1,162 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.OrderOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 주문 이벤트 아웃박스(order_outbox)를 기록하고 꺼내는 저장소.
+ * 꺼낼 때는 다른 트랜잭션이 잠근 행을 건너뛰므로(SKIP LOCKED), 여러 서버가 동시에 서로 다른 행을 나누어 처리할 수 있음.
+ * 매출 집계를 다시 만드는 동안에는 MySQL 이름 락(GET_LOCK)으로 모든 서버의 전달을 멈춤.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderOutboxRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String RELAY_PAUSE_LOCK = "order_outbox_relay_pause";
+
+    private static final RowMapper<OrderOutbox> ROW_MAPPER = (rs, rowNum) -> new OrderOutbox(
+            rs.getLong("outbox_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts"),
+            rs.getTimestamp("available_at").toLocalDateTime(),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getString("last_error"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이벤트를 아웃박스에 기록합니다. 호출한 트랜잭션이 커밋되어야 꺼낼 수 있습니다.
+     *
+     * @param eventType 이벤트 종류
+     * @param payload 이벤트 JSON
+     * @param now 기록 일시
+     */
+    public void insert(String eventType, String payload, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(
+                "insert into order_outbox (event_type, payload, attempts, available_at, created_at) values (?, ?, 0, ?, ?)",
+                eventType, payload, timestamp, timestamp);
+    }
+
+    /**
+     * 처리할 차례가 된 아웃박스 행을 기록 순서대로 잠그고 가져옵니다. 다른 트랜잭션이 잡고 있는 행은 건너뜁니다.
+     *
+     * @param limit 가져올 최대 개수
+     * @param maxAttempts 최대 시도 횟수 (이 횟수만큼 실패한 행은 가져오지 않음)
+     * @param now 현재 일시
+     * @return 잠근 아웃박스 행 목록
+     */
+    public List<OrderOutbox> claim(int limit, int maxAttempts, LocalDateTime now) {
+        return jdbcTemplate.query(
+                "select outbox_id, event_type, payload, attempts, available_at, created_at, last_error " +
+                "from order_outbox where available_at <= ? and attempts < ? " +
+                "order by outbox_id limit ? for update skip locked",
+                ROW_MAPPER, Timestamp.valueOf(now), maxAttempts, limit);
+    }
+
+    /**
+     * 처리한 아웃박스 행을 지웁니다.
+     *
+     * @param ids 아웃박스 행 ID 목록
+     */
+    public void deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            batchArgs.add(new Object[]{id});
+        }
+        jdbcTemplate.batchUpdate("delete from order_outbox where outbox_id = ?", batchArgs);
+    }
+
+    /**
+     * 처리에 실패한 아웃박스 행의 시도 횟수를 늘리고 다음 시도 일시를 미룹니다.
+     *
+     * @param id 아웃박스 행 ID
+     * @param availableAt 다음 시도 일시
+     * @param error 실패 사유
+     */
+    public void markFailed(Long id, LocalDateTime availableAt, String error) {
+        String lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        jdbcTemplate.update(
+                "update order_outbox set attempts = attempts + 1, available_at = ?, last_error = ? where outbox_id = ?",
+                Timestamp.valueOf(availableAt), lastError, id);
+    }
+
+    /**
+     * 처리할 수 있는(최대 시도 횟수를 넘지 않은) 아웃박스 행을 모두 기록 순서대로 가져옵니다. 행을 잠그지 않습니다.
+     *
+     * @param maxAttempts 최대 시도 횟수
+     * @return 아웃박스 행 목록
+     */
+    public List<OrderOutbox> findPending(int maxAttempts) {
+        return jdbcTemplate.query(
+                "select outbox_id, event_type, payload, attempts, available_at, created_at, last_error " +
+                "from order_outbox where attempts < ? order by outbox_id",
+                ROW_MAPPER, maxAttempts);
+    }
+
+    /**
+     * 모든 서버의 아웃박스 전달을 멈춘 채로 작업을 실행합니다.
+     * 한 커넥션에서 이름 락을 잡고 있는 동안 OrderOutboxRelay는 꺼낸 행을 전달하지 않고 돌려놓습니다.
+     * 락을 잡은 뒤, 그 전에 행을 꺼내 전달하던 트랜잭션이 끝날 때까지 기다렸다가 작업을 시작합니다.
+     *
+     * @param action 전달을 멈춘 동안 실행할 작업
+     * @return 작업 결과 (다른 서버가 이미 전달을 멈추고 작업 중이면 실행하지 않고 empty)
+     */
+    public <T> Optional<T> runWithRelayPaused(Supplier<T> action) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+            if (!namedLock(connection, "select get_lock(?, 0)")) {
+                return Optional.empty();
+            }
+            try {
+                // 락을 잡기 전에 행을 꺼내 전달하던 트랜잭션은 행 잠금을 풀 때까지 기다림
+                jdbcTemplate.query("select outbox_id from order_outbox for update", rs -> {
+                });
+                return Optional.ofNullable(action.get());
+            } finally {
+                namedLock(connection, "select release_lock(?)");
+            }
+        });
+    }
+
+    /**
+     * 아웃박스 전달이 멈춰 있는지 확인합니다. 꺼낸 행을 잠근 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @return 전달이 멈춰 있으면 true
+     */
+    public boolean isRelayPaused() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select is_used_lock(?) is not null", Boolean.class, RELAY_PAUSE_LOCK));
+    }
+
+    private boolean namedLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, RELAY_PAUSE_LOCK);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+}
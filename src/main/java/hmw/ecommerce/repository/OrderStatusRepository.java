@@ -0,0 +1,16 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.vo.OrderStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface OrderStatusRepository {
+
+    List<Long> completeOrderItems(List<Long> orderItemIds);
+
+    void completeOrders(Collection<Long> orderIds);
+
+    Map<Long, OrderStatus> findCurrentStatuses(Collection<Long> orderItemIds);
+}
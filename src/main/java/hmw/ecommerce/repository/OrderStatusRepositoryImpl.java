@@ -0,0 +1,99 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.vo.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 주문/주문 아이템 상태를 조건부 UPDATE 배치로 변경하는 저장소 구현.
+ * 엔티티를 읽어 변경 감지로 갱신하는 대신, 대기 상태인 행만 바꾸는 문장을 한 번의 배치로 보내고 문장별 변경 행 수로 결과를 판단함.
+ * 같은 트랜잭션의 커넥션을 사용하므로 호출한 쪽의 트랜잭션과 함께 커밋/롤백됨.
+ */
+@RequiredArgsConstructor
+public class OrderStatusRepositoryImpl implements OrderStatusRepository {
+
+    /**
+     * 주문 아이템의 order_status는 OrderStatus 순서 값으로 저장되어 있음.
+     */
+    private static final String COMPLETE_ORDER_ITEM_SQL =
+            "update order_item set order_status = ?, modified_at = now(6) where order_item_id = ? and order_status = ?";
+    private static final String COMPLETE_ORDER_SQL =
+            "update orders set order_status = ?, modified_at = now(6) where order_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대기 상태인 주문 아이템을 완료 상태로 바꿉니다.
+     * 동시에 실행되는 요청끼리 교착 상태가 생기지 않도록 ID 순서로 갱신합니다.
+     *
+     * @param orderItemIds 완료할 주문 아이템 ID 목록
+     * @return 실제로 완료된 주문 아이템 ID 목록 (그 사이 상태가 바뀐 행은 제외)
+     * @throws IllegalStateException 드라이버가 문장별 변경 행 수를 돌려주지 않은 경우 (rewriteBatchedStatements 등으로 SUCCESS_NO_INFO)
+     */
+    @Override
+    public List<Long> completeOrderItems(List<Long> orderItemIds) {
+        List<Long> sortedIds = new ArrayList<>(new TreeSet<>(orderItemIds));
+        List<Object[]> batchArgs = new ArrayList<>(sortedIds.size());
+        for (Long orderItemId : sortedIds) {
+            batchArgs.add(new Object[]{OrderStatus.COMPLETED.ordinal(), orderItemId, OrderStatus.PENDING.ordinal()});
+        }
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(COMPLETE_ORDER_ITEM_SQL, batchArgs);
+
+        List<Long> completedIds = new ArrayList<>(sortedIds.size());
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("JDBC 드라이버가 주문 완료 문장의 변경 행 수를 돌려주지 않았습니다. rewriteBatchedStatements 설정을 확인해주세요.");
+            }
+            if (updatedRows[i] > 0) {
+                completedIds.add(sortedIds.get(i));
+            }
+        }
+        return completedIds;
+    }
+
+    /**
+     * 주문의 상태를 완료로 바꿉니다. (Order.complete와 같은 규칙)
+     *
+     * @param orderIds 완료할 주문 ID 목록
+     */
+    @Override
+    public void completeOrders(Collection<Long> orderIds) {
+        List<Object[]> batchArgs = new ArrayList<>(orderIds.size());
+        for (Long orderId : new TreeSet<>(orderIds)) {
+            batchArgs.add(new Object[]{OrderStatus.COMPLETED.name(), orderId});
+        }
+        jdbcTemplate.batchUpdate(COMPLETE_ORDER_SQL, batchArgs);
+    }
+
+    /**
+     * 주문 아이템의 현재 상태를 공유 락을 잡아 조회합니다.
+     * 트랜잭션 앞에서 읽은 스냅샷이 아닌 마지막으로 커밋된 상태를 읽으므로, 조건부 UPDATE에서 빠진 행이 왜 빠졌는지 확인할 때 사용합니다.
+     *
+     * @param orderItemIds 주문 아이템 ID 목록
+     * @return 주문 아이템 ID별 현재 상태 (없어진 행은 제외)
+     */
+    @Override
+    public Map<Long, OrderStatus> findCurrentStatuses(Collection<Long> orderItemIds) {
+        List<Long> sortedIds = new ArrayList<>(new TreeSet<>(orderItemIds));
+        Map<Long, OrderStatus> statuses = new HashMap<>();
+        jdbcTemplate.query(
+                "select order_item_id, order_status from order_item where order_item_id in (" +
+                String.join(", ", Collections.nCopies(sortedIds.size(), "?")) + ") for share",
+                rs -> {
+                    statuses.put(rs.getLong("order_item_id"), OrderStatus.values()[rs.getInt("order_status")]);
+                },
+                sortedIds.toArray());
+        return statuses;
+    }
+
+}
@@ -0,0 +1,20 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.event.OrderItemStatusChangedEvent;
+import hmw.ecommerce.event.OrderItemsPlacedEvent;
+
+import java.util.List;
+
+public interface OrderViewWriteRepository {
+
+    void insertAll(List<OrderItemsPlacedEvent.PlacedItem> items);
+
+    void updateStatus(Long orderItemId, OrderStatus orderStatus);
+
+    void updateStatuses(List<OrderItemStatusChangedEvent> changes);
+
+    Long rebuildAfter(Long lastOrderItemId, int chunkSize);
+
+    boolean dropLegacyBuyerHistoryIndex();
+}
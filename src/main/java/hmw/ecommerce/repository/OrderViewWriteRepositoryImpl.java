@@ -0,0 +1,129 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.event.OrderItemStatusChangedEvent;
+import hmw.ecommerce.event.OrderItemsPlacedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 읽기 모델(order_view)을 JDBC 배치로 갱신하는 저장소 구현.
+ * 행 ID가 주문 아이템 ID로 정해져 있어 JPA로 저장하면 행마다 존재 여부를 먼저 조회하므로, 한 번의 배치 upsert로 기록함.
+ */
+@RequiredArgsConstructor
+public class OrderViewWriteRepositoryImpl implements OrderViewWriteRepository {
+
+    private static final String COLUMNS =
+            "order_item_id, order_id, item_id, buyer_id, seller_id, item_name, unit_price, unit_count, order_status, order_date";
+
+    private static final String INSERT_SQL =
+            "insert into order_view (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "on duplicate key update order_status = order_status";
+
+    private static final String LEGACY_BUYER_HISTORY_INDEX = "idx_order_item_buyer_order_date";
+
+    private static final String UPDATE_STATUS_SQL =
+            "update order_view set order_status = ? where order_item_id = ?";
+
+    /**
+     * 주문 아이템 테이블의 order_status는 OrderStatus 순서 값(PENDING, CANCELED, COMPLETED)으로 저장되어 있음.
+     */
+    private static final String REBUILD_SQL =
+            "insert into order_view (" + COLUMNS + ") " +
+            "select oi.order_item_id, oi.order_id, oi.item_id, oi.buyer_id, oi.seller_id, oi.item_name, " +
+            "oi.unit_price, oi.unit_count, " +
+            "case oi.order_status when 0 then 'PENDING' when 1 then 'CANCELED' else 'COMPLETED' end, oi.order_date " +
+            "from order_item oi where oi.order_item_id > ? and oi.order_item_id <= ? " +
+            "on duplicate key update order_status = values(order_status), item_name = values(item_name)";
+
+    private static final String CHUNK_END_SQL =
+            "select max(order_item_id) from " +
+            "(select order_item_id from order_item where order_item_id > ? order by order_item_id limit ?) chunk";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 주문 아이템을 읽기 모델에 추가합니다. 이미 있는 행은 그대로 둡니다.
+     *
+     * @param items 주문 아이템 목록
+     */
+    @Override
+    public void insertAll(List<OrderItemsPlacedEvent.PlacedItem> items) {
+        List<Object[]> batchArgs = new ArrayList<>(items.size());
+        for (OrderItemsPlacedEvent.PlacedItem item : items) {
+            batchArgs.add(new Object[]{
+                    item.getOrderItemId(), item.getOrderId(), item.getItemId(),
+                    item.getBuyerId(), item.getSellerId(), item.getItemName(),
+                    item.getUnitPrice(), item.getUnitCount(), OrderStatus.PENDING.name(),
+                    Timestamp.valueOf(item.getOrderDate())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    /**
+     * 읽기 모델의 주문 상태를 변경합니다.
+     *
+     * @param orderItemId 주문 아이템 ID
+     * @param orderStatus 변경할 상태
+     */
+    @Override
+    public void updateStatus(Long orderItemId, OrderStatus orderStatus) {
+        jdbcTemplate.update(UPDATE_STATUS_SQL, orderStatus.name(), orderItemId);
+    }
+
+    /**
+     * 여러 주문 아이템의 상태를 한 번의 배치로 변경합니다.
+     *
+     * @param changes 주문 아이템별 상태 변경
+     */
+    @Override
+    public void updateStatuses(List<OrderItemStatusChangedEvent> changes) {
+        List<Object[]> batchArgs = new ArrayList<>(changes.size());
+        for (OrderItemStatusChangedEvent change : changes) {
+            batchArgs.add(new Object[]{change.getOrderStatus().name(), change.getOrderItemId()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, batchArgs);
+    }
+
+    /**
+     * 주문 아이템 테이블에서 ID 순으로 다음 묶음을 읽어 읽기 모델에 다시 기록합니다.
+     *
+     * @param lastOrderItemId 이전 묶음의 마지막 주문 아이템 ID (처음이면 0)
+     * @param chunkSize 묶음 크기
+     * @return 이번 묶음의 마지막 주문 아이템 ID (더 이상 없으면 null)
+     */
+    @Override
+    public Long rebuildAfter(Long lastOrderItemId, int chunkSize) {
+        Long chunkEnd = jdbcTemplate.queryForObject(CHUNK_END_SQL, Long.class, lastOrderItemId, chunkSize);
+        if (chunkEnd == null) {
+            return null;
+        }
+        jdbcTemplate.update(REBUILD_SQL, lastOrderItemId, chunkEnd);
+        return chunkEnd;
+    }
+
+    /**
+     * 구매자 주문 내역을 주문 아이템 테이블에서 읽던 때 쓰던 인덱스(idx_order_item_buyer_order_date)가 남아 있으면 지웁니다.
+     * 주문 내역은 읽기 모델에서 읽으므로 이 인덱스는 주문 아이템 쓰기 비용만 늘립니다.
+     * 엔티티에서 인덱스를 지워도 ddl-auto가 기존 인덱스를 지우지 않으므로 직접 지웁니다.
+     *
+     * @return 인덱스를 지웠으면 true
+     */
+    @Override
+    public boolean dropLegacyBuyerHistoryIndex() {
+        Integer exists = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics " +
+                "where table_schema = database() and table_name = 'order_item' and index_name = ?",
+                Integer.class, LEGACY_BUYER_HISTORY_INDEX);
+        if (exists == null || exists == 0) {
+            return false;
+        }
+        jdbcTemplate.execute("alter table order_item drop index " + LEGACY_BUYER_HISTORY_INDEX);
+        return true;
+    }
+
+}
@@ -3,7 +3,6 @@ package hmw.ecommerce.repository;
 import hmw.ecommerce.entity.Item;
 import hmw.ecommerce.entity.OrderItem;
 import hmw.ecommerce.entity.Review;
-import hmw.ecommerce.entity.dto.order.GetSellOrderDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -32,6 +31,4 @@ public interface QueryDslRepository {
     Optional<OrderItem> findOrderItemByBuyerId(String loginId, Long itemId, Long orderId);
 
     Optional<OrderItem> findOrderItemBySellerId(String sellerId, Long itemId, Long orderId);
-
-    Page<OrderItem> findSellLatestBySellerId(String loginId, GetSellOrderDto.Request request, Pageable pageable);
 }
@@ -1,12 +1,9 @@
 package hmw.ecommerce.repository;
 
-import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import hmw.ecommerce.entity.*;
-import hmw.ecommerce.entity.dto.order.GetSellOrderDto;
-import hmw.ecommerce.entity.vo.OrderStatus;
 import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -80,10 +77,9 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
     public Optional<Item> findItemFetchMemberAndCategoryByItemId(Long itemId) {
         return Optional.ofNullable(
                 queryFactory.selectFrom(item)
-                        .join(item.member)
-                        .join(item.category)
-                        .join(item.categoryType)
-                        .fetchJoin()
+                        .join(item.member).fetchJoin()
+                        .join(item.category).fetchJoin()
+                        .join(item.categoryType).fetchJoin()
                         .where(item.id.eq(itemId))
                         .fetchOne());
     }
@@ -113,8 +109,9 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
 
         JPAQuery<Long> countQuery = queryFactory
                 .select(item.count())
-                .leftJoin(item.category, category).fetchJoin()
-                .leftJoin(item.categoryType, categoryType).fetchJoin()
+                .from(item)
+                .leftJoin(item.category, category)
+                .leftJoin(item.categoryType, categoryType)
                 .where(
                         categoryNameEq(categoryName),
                         typeNameEq(type)
@@ -136,7 +133,7 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
                 .select(review)
                 .from(review)
                 .leftJoin(review.member, member).fetchJoin()
-                .where(item.id.eq(itemId))
+                .where(review.item.id.eq(itemId))
                 .orderBy(review.createdAt.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -145,7 +142,7 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
         JPAQuery<Long> countQuery = queryFactory
                 .select(review.count())
                 .from(review)
-                .where(item.id.eq(itemId));
+                .where(review.item.id.eq(itemId));
 
         return PageableExecutionUtils.getPage(reviews, pageable, countQuery::fetchOne);
     }
@@ -163,7 +160,7 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
                 .select(review)
                 .from(review)
                 .leftJoin(review.member, member).fetchJoin()
-                .where(item.id.eq(itemId))
+                .where(review.item.id.eq(itemId))
                 .orderBy(review.createdAt.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -172,7 +169,7 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
         JPAQuery<Long> countQuery = queryFactory
                 .select(review.count())
                 .from(review)
-                .where(item.id.eq(itemId));
+                .where(review.item.id.eq(itemId));
 
         return PageableExecutionUtils.getPage(reviews, pageable, countQuery::fetchOne);
     }
@@ -190,7 +187,7 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
                 .select(review)
                 .from(review)
                 .leftJoin(review.member, member).fetchJoin()
-                .where(item.id.eq(itemId))
+                .where(review.item.id.eq(itemId))
                 .orderBy(review.rating.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -199,7 +196,7 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
         JPAQuery<Long> countQuery = queryFactory
                 .select(review.count())
                 .from(review)
-                .where(item.id.eq(itemId));
+                .where(review.item.id.eq(itemId));
 
         return PageableExecutionUtils.getPage(reviews, pageable, countQuery::fetchOne);
     }
@@ -217,7 +214,7 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
                 .select(review)
                 .from(review)
                 .leftJoin(review.member, member).fetchJoin()
-                .where(item.id.eq(itemId))
+                .where(review.item.id.eq(itemId))
                 .orderBy(review.rating.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -226,45 +223,14 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
         JPAQuery<Long> countQuery = queryFactory
                 .select(review.count())
                 .from(review)
-                .where(item.id.eq(itemId));
+                .where(review.item.id.eq(itemId));
 
         return PageableExecutionUtils.getPage(reviews, pageable, countQuery::fetchOne);
     }
 
     /**
-     * 판매자 ID에 해당하는 최신 주문 아이템을 페이징 처리하여 가져옵니다.
-     *
-     * @param sellerId 판매자 ID
-     * @param request 주문 조건
-     * @param pageable 페이징 정보
-     * @return 판매자의 최신 주문 아이템 리스트
-     */
-    @Override
-    public Page<OrderItem> findSellLatestBySellerId(String sellerId, GetSellOrderDto.Request request, Pageable pageable) {
-        List<OrderItem> orderItems =
-                queryFactory
-                        .selectFrom(orderItem)
-                .where(
-                        orderItem.sellerId.eq(sellerId),
-                        orderStatusEq(request)
-                )
-                .orderBy(orderItem.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        JPAQuery<Long> countQuery = queryFactory.select(orderItem.count())
-                .from(orderItem)
-                .where(
-                        orderItem.sellerId.eq(sellerId),
-                        orderStatusEq(request)
-                );
-
-        return PageableExecutionUtils.getPage(orderItems, pageable, countQuery::fetchOne);
-    }
-
-    /**
-     * 구매자 ID, 아이템 ID, 주문 ID에 해당하는 주문 아이템을 가져옵니다.
+     * 구매자 ID, 아이템 ID, 주문 ID에 해당하는 주문 아이템을 주문과 함께 가져옵니다. (주문 취소용)
+     * 아이템은 ID만 필요하므로 함께 읽지 않습니다.
      *
      * @param buyerId 구매자 ID
      * @param itemId 아이템 ID
@@ -276,8 +242,7 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
         return Optional.ofNullable(
                 queryFactory
                         .selectFrom(orderItem)
-                        .leftJoin(orderItem.order).fetchJoin()
-                        .leftJoin(orderItem.item).fetchJoin()
+                        .join(orderItem.order).fetchJoin()
                         .where(orderItem.buyerId.eq(buyerId))
                         .where(orderItem.item.id.eq(itemId))
                         .where(orderItem.order.id.eq(orderId))
@@ -285,7 +250,8 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
     }
 
     /**
-     * 판매자 ID, 아이템 ID, 주문 ID에 해당하는 주문 아이템을 가져옵니다.
+     * 판매자 ID, 아이템 ID, 주문 ID에 해당하는 주문 아이템을 주문과 함께 가져옵니다. (주문 완료용)
+     * 아이템은 ID만 필요하므로 함께 읽지 않습니다.
      *
      * @param sellerId 판매자 ID
      * @param itemId 아이템 ID
@@ -297,36 +263,13 @@ public class QueryDslRepositoryImpl implements QueryDslRepository {
         return Optional.ofNullable(
                 queryFactory
                         .selectFrom(orderItem)
-                        .leftJoin(orderItem.order).fetchJoin()
-                        .leftJoin(orderItem.item).fetchJoin()
+                        .join(orderItem.order).fetchJoin()
                         .where(orderItem.sellerId.eq(sellerId))
                         .where(orderItem.item.id.eq(itemId))
                         .where(orderItem.order.id.eq(orderId))
                         .fetchOne());
     }
 
-    /**
-     * 주문 상태에 맞는 조건을 빌드하는 메서드
-     *
-     * @param request 주문 상태를 포함한 요청 데이터
-     * @return 주문 상태 조건을 추가한 BooleanBuilder
-     */
-    private BooleanBuilder orderStatusEq(GetSellOrderDto.Request request) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        if (Boolean.TRUE.equals(request.getPending())) {
-            builder.or(orderItem.orderStatus.eq(OrderStatus.PENDING));
-        }
-        if (Boolean.TRUE.equals(request.getCanceled())) {
-            builder.or(orderItem.orderStatus.eq(OrderStatus.CANCELED));
-        }
-        if (Boolean.TRUE.equals(request.getCompleted())) {
-            builder.or(orderItem.orderStatus.eq(OrderStatus.COMPLETED));
-        }
-
-        return builder;
-    }
-
     /**
      * 카테고리 이름이 주어진 값과 일치하는지 확인하는 조건을 반환합니다.
      *
@@ -0,0 +1,17 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.ItemDailySales;
+import hmw.ecommerce.entity.SellerDailySales;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesRollupWriteRepository {
+
+    void addAll(List<SellerDailySales> sellerSales, List<ItemDailySales> itemSales);
+
+    int rebuild(LocalDate from, LocalDate to, boolean includeArchive);
+
+    LocalDateTime findOldestOrderDate(boolean includeArchive);
+}
@@ -0,0 +1,153 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.ItemDailySales;
+import hmw.ecommerce.entity.SellerDailySales;
+import hmw.ecommerce.entity.vo.SalesCounts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매출 집계 테이블(seller_daily_sales, item_daily_sales)을 JDBC로 갱신하는 저장소 구현.
+ * 변경분은 행마다 더하는 upsert 배치로 기록하고, 다시 만들 때는 일자 구간의 행을 지우고 주문 아이템에서 한 번에 집계해 넣음.
+ */
+@RequiredArgsConstructor
+public class SalesRollupWriteRepositoryImpl implements SalesRollupWriteRepository {
+
+    private static final String COUNT_COLUMNS =
+            "ordered_units, ordered_revenue, canceled_units, canceled_revenue, completed_units, completed_revenue";
+
+    private static final String ADD_COUNTS =
+            "ordered_units = ordered_units + values(ordered_units), " +
+            "ordered_revenue = ordered_revenue + values(ordered_revenue), " +
+            "canceled_units = canceled_units + values(canceled_units), " +
+            "canceled_revenue = canceled_revenue + values(canceled_revenue), " +
+            "completed_units = completed_units + values(completed_units), " +
+            "completed_revenue = completed_revenue + values(completed_revenue)";
+
+    private static final String SELLER_UPSERT_SQL =
+            "insert into seller_daily_sales (seller_id, sales_date, " + COUNT_COLUMNS + ") " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?) on duplicate key update " + ADD_COUNTS;
+
+    private static final String ITEM_UPSERT_SQL =
+            "insert into item_daily_sales (item_id, sales_date, seller_id, " + COUNT_COLUMNS + ") " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?) on duplicate key update " + ADD_COUNTS;
+
+    /**
+     * 주문 아이템 테이블의 order_status는 OrderStatus 순서 값(PENDING, CANCELED, COMPLETED)으로 저장되어 있음.
+     */
+    private static final String SUM_COUNTS =
+            "sum(unit_count), sum(unit_count * unit_price), " +
+            "sum(case when order_status = 1 then unit_count else 0 end), " +
+            "sum(case when order_status = 1 then unit_count * unit_price else 0 end), " +
+            "sum(case when order_status = 2 then unit_count else 0 end), " +
+            "sum(case when order_status = 2 then unit_count * unit_price else 0 end)";
+
+    private static final String SOURCE_COLUMNS = "item_id, seller_id, unit_count, unit_price, order_status, order_date";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 매출 변경분을 집계 행에 더합니다. 행이 없으면 새로 만듭니다.
+     * 여러 트랜잭션이 같은 행들을 갱신할 때 서로 기다리며 교착되지 않도록, 호출하는 쪽에서 키 순서로 정렬해 넘겨야 합니다.
+     *
+     * @param sellerSales 판매자별 일 매출 변경분
+     * @param itemSales 아이템별 일 매출 변경분
+     */
+    @Override
+    public void addAll(List<SellerDailySales> sellerSales, List<ItemDailySales> itemSales) {
+        if (!sellerSales.isEmpty()) {
+            List<Object[]> batchArgs = new ArrayList<>(sellerSales.size());
+            for (SellerDailySales sales : sellerSales) {
+                batchArgs.add(withCounts(sales.getCounts(), sales.getSellerId(), Date.valueOf(sales.getSalesDate())));
+            }
+            jdbcTemplate.batchUpdate(SELLER_UPSERT_SQL, batchArgs);
+        }
+
+        if (!itemSales.isEmpty()) {
+            List<Object[]> batchArgs = new ArrayList<>(itemSales.size());
+            for (ItemDailySales sales : itemSales) {
+                batchArgs.add(withCounts(sales.getCounts(),
+                        sales.getItemId(), Date.valueOf(sales.getSalesDate()), sales.getSellerId()));
+            }
+            jdbcTemplate.batchUpdate(ITEM_UPSERT_SQL, batchArgs);
+        }
+    }
+
+    /**
+     * 주문 일자 구간 [from, to)의 집계 행을 지우고 주문 아이템으로 다시 집계합니다.
+     *
+     * @param from 시작 일자 (포함)
+     * @param to 끝 일자 (제외)
+     * @param includeArchive 보관된 주문 아이템도 집계할지 여부
+     * @return 새로 기록한 판매자별 일 매출 행 수
+     */
+    @Override
+    public int rebuild(LocalDate from, LocalDate to, boolean includeArchive) {
+        Date fromDate = Date.valueOf(from);
+        Date toDate = Date.valueOf(to);
+        Timestamp fromDateTime = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp toDateTime = Timestamp.valueOf(to.atStartOfDay());
+        Object[] sourceArgs = includeArchive
+                ? new Object[]{fromDateTime, toDateTime, fromDateTime, toDateTime}
+                : new Object[]{fromDateTime, toDateTime};
+        String source = source(includeArchive);
+
+        jdbcTemplate.update("delete from seller_daily_sales where sales_date >= ? and sales_date < ?", fromDate, toDate);
+        jdbcTemplate.update("delete from item_daily_sales where sales_date >= ? and sales_date < ?", fromDate, toDate);
+
+        int sellerRows = jdbcTemplate.update(
+                "insert into seller_daily_sales (seller_id, sales_date, " + COUNT_COLUMNS + ") " +
+                "select seller_id, date(order_date), " + SUM_COUNTS + " from " + source +
+                " group by seller_id, date(order_date)", sourceArgs);
+        jdbcTemplate.update(
+                "insert into item_daily_sales (item_id, sales_date, seller_id, " + COUNT_COLUMNS + ") " +
+                "select item_id, date(order_date), max(seller_id), " + SUM_COUNTS + " from " + source +
+                " group by item_id, date(order_date)", sourceArgs);
+        return sellerRows;
+    }
+
+    /**
+     * 가장 오래된 주문 아이템의 주문 일시를 조회합니다.
+     *
+     * @param includeArchive 보관된 주문 아이템도 볼지 여부
+     * @return 가장 오래된 주문 일시 (주문이 없으면 null)
+     */
+    @Override
+    public LocalDateTime findOldestOrderDate(boolean includeArchive) {
+        String sql = includeArchive
+                ? "select min(order_date) from (select min(order_date) order_date from order_item " +
+                  "union all select min(order_date) from order_item_archive) oldest"
+                : "select min(order_date) from order_item";
+        Timestamp oldest = jdbcTemplate.queryForObject(sql, Timestamp.class);
+        return oldest == null ? null : oldest.toLocalDateTime();
+    }
+
+    private String source(boolean includeArchive) {
+        String current = "select " + SOURCE_COLUMNS + " from order_item where order_date >= ? and order_date < ?";
+        if (!includeArchive) {
+            return "(" + current + ") source";
+        }
+        return "(" + current + " union all select " + SOURCE_COLUMNS +
+               " from order_item_archive where order_date >= ? and order_date < ?) source";
+    }
+
+    private Object[] withCounts(SalesCounts counts, Object... keys) {
+        Object[] args = new Object[keys.length + 6];
+        System.arraycopy(keys, 0, args, 0, keys.length);
+        args[keys.length] = counts.getOrderedUnits();
+        args[keys.length + 1] = counts.getOrderedRevenue();
+        args[keys.length + 2] = counts.getCanceledUnits();
+        args[keys.length + 3] = counts.getCanceledRevenue();
+        args[keys.length + 4] = counts.getCompletedUnits();
+        args[keys.length + 5] = counts.getCompletedRevenue();
+        return args;
+    }
+
+}
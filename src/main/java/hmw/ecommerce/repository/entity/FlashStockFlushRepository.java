@@ -0,0 +1,9 @@
+package hmw.ecommerce.repository.entity;
+
+import hmw.ecommerce.entity.FlashStockFlush;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FlashStockFlushRepository extends JpaRepository<FlashStockFlush, Long> {
+}
@@ -0,0 +1,26 @@
+package hmw.ecommerce.repository.entity;
+
+import hmw.ecommerce.entity.ItemDailySales;
+import hmw.ecommerce.entity.dto.order.SalesDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ItemDailySalesRepository extends JpaRepository<ItemDailySales, ItemDailySales.Key> {
+
+    @Query("select new hmw.ecommerce.entity.dto.order.SalesDto$ItemSales(s.itemId, " +
+            "sum(s.counts.orderedUnits), sum(s.counts.orderedRevenue), sum(s.counts.canceledUnits), " +
+            "sum(s.counts.canceledRevenue), sum(s.counts.completedUnits), sum(s.counts.completedRevenue)) " +
+            "from ItemDailySales s where s.sellerId = :sellerId and s.salesDate between :from and :to " +
+            "group by s.itemId order by sum(s.counts.orderedRevenue) - sum(s.counts.canceledRevenue) desc, s.itemId")
+    List<SalesDto.ItemSales> findTopItemsBySellerId(@Param("sellerId") String sellerId,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to,
+                                                    Pageable pageable);
+}
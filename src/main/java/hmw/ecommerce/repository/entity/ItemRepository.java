@@ -1,15 +1,26 @@
 package hmw.ecommerce.repository.entity;
 
 import hmw.ecommerce.entity.Item;
+import hmw.ecommerce.repository.InventoryRepository;
 import hmw.ecommerce.repository.QueryDslRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long>, QueryDslRepository {
+public interface ItemRepository extends JpaRepository<Item, Long>, QueryDslRepository, InventoryRepository {
 
     Page<Item> findByOrderByCreatedAtDesc(Pageable pageable);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i join fetch i.member where i.id = :itemId")
+    Optional<Item> findItemFetchMemberByItemIdForUpdate(@Param("itemId") Long itemId);
+
 }
\ No newline at end of file
@@ -1,14 +1,21 @@
 package hmw.ecommerce.repository.entity;
 
 import hmw.ecommerce.entity.OrderItem;
+import hmw.ecommerce.entity.dto.order.OrderItemStatusDto;
+import hmw.ecommerce.repository.OrderStatusRepository;
 import hmw.ecommerce.repository.QueryDslRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, QueryDslRepository {
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, QueryDslRepository, OrderStatusRepository {
 
-    Page<OrderItem> findOrderItemsByBuyerId(String buyerId, Pageable pageable);
+    @Query("select new hmw.ecommerce.entity.dto.order.OrderItemStatusDto(" +
+            "oi.id, oi.order.id, oi.item.id, oi.unitPrice, oi.unitCount, oi.orderDate, oi.orderStatus) " +
+            "from OrderItem oi where oi.sellerId = :sellerId and oi.order.id in :orderIds")
+    List<OrderItemStatusDto> findStatusesBySellerIdAndOrderIds(@Param("sellerId") String sellerId,
+                                                               @Param("orderIds") Collection<Long> orderIds);
 }
@@ -2,6 +2,26 @@ package hmw.ecommerce.repository.entity;
 
 import hmw.ecommerce.entity.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Query("select o.id as id, o.idempotencyFingerprint as idempotencyFingerprint from Order o " +
+            "where o.member.loginId = :loginId and o.idempotencyKey = :idempotencyKey")
+    Optional<IdempotentOrder> findIdempotentOrder(@Param("loginId") String loginId,
+                                                  @Param("idempotencyKey") String idempotencyKey);
+
+    /**
+     * 요청 키로 생성된 주문의 ID와 요청 요약.
+     */
+    interface IdempotentOrder {
+
+        Long getId();
+
+        String getIdempotencyFingerprint();
+    }
+
 }
@@ -0,0 +1,35 @@
+package hmw.ecommerce.repository.entity;
+
+import hmw.ecommerce.entity.OrderView;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.repository.OrderViewWriteRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderViewRepository extends JpaRepository<OrderView, Long>, OrderViewWriteRepository {
+
+    Optional<OrderView> findFirstBy();
+
+    Slice<OrderView> findByBuyerIdOrderByOrderDateDescOrderItemIdDesc(String buyerId, Pageable pageable);
+
+    @Query("select v from OrderView v where v.buyerId = :buyerId " +
+            "and (v.orderDate < :orderDate or (v.orderDate = :orderDate and v.orderItemId < :orderItemId)) " +
+            "order by v.orderDate desc, v.orderItemId desc")
+    Slice<OrderView> findByBuyerIdAfter(@Param("buyerId") String buyerId,
+                                        @Param("orderDate") LocalDateTime orderDate,
+                                        @Param("orderItemId") Long orderItemId,
+                                        Pageable pageable);
+
+    List<OrderView> findBySellerIdAndOrderStatusInOrderByOrderDateDescOrderItemIdDesc(
+            String sellerId, Collection<OrderStatus> orderStatuses, Pageable pageable);
+}
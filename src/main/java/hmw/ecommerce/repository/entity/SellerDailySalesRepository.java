@@ -0,0 +1,15 @@
+package hmw.ecommerce.repository.entity;
+
+import hmw.ecommerce.entity.SellerDailySales;
+import hmw.ecommerce.repository.SalesRollupWriteRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SellerDailySalesRepository extends JpaRepository<SellerDailySales, SellerDailySales.Key>, SalesRollupWriteRepository {
+
+    List<SellerDailySales> findBySellerIdAndSalesDateBetweenOrderBySalesDate(String sellerId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,40 @@
+package hmw.ecommerce.repository.entity;
+
+import hmw.ecommerce.entity.SellerOrderCount;
+import hmw.ecommerce.entity.dto.order.SellerOrderSummaryDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SellerOrderCountRepository extends JpaRepository<SellerOrderCount, SellerOrderCount.Key> {
+
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "insert into seller_order_count (seller_id, slot, pending_count, canceled_count, completed_count) " +
+            "values (:sellerId, :slot, :pending, :canceled, :completed) " +
+            "on duplicate key update pending_count = pending_count + :pending, " +
+            "canceled_count = canceled_count + :canceled, completed_count = completed_count + :completed")
+    void add(@Param("sellerId") String sellerId,
+             @Param("slot") int slot,
+             @Param("pending") long pending,
+             @Param("canceled") long canceled,
+             @Param("completed") long completed);
+
+    @Query("select new hmw.ecommerce.entity.dto.order.SellerOrderSummaryDto(" +
+            "sum(c.pendingCount), sum(c.canceledCount), sum(c.completedCount)) " +
+            "from SellerOrderCount c where c.sellerId = :sellerId")
+    SellerOrderSummaryDto summarize(@Param("sellerId") String sellerId);
+
+    /**
+     * 기존 주문 아이템으로 판매자별 개수를 0번 슬롯에 채웁니다. (OrderStatus 순서: PENDING, CANCELED, COMPLETED)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "insert into seller_order_count (seller_id, slot, pending_count, canceled_count, completed_count) " +
+            "select seller_id, 0, sum(order_status = 0), sum(order_status = 1), sum(order_status = 2) " +
+            "from order_item group by seller_id")
+    int backfill();
+}
@@ -0,0 +1,265 @@
+package hmw.ecommerce.repository.redis;
+
+import hmw.ecommerce.entity.vo.CartLine;
+import hmw.ecommerce.entity.vo.CartMergeRule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static hmw.ecommerce.entity.vo.Const.CART_KEY_PREFIX;
+
+/**
+ * 로그인 사용자의 장바구니를 Redis에 저장하는 저장소.
+ * 사용자마다 하나의 해시 키(CART_ITEMS:{loginId})를 사용하고, 해시 필드는 아이템 ID, 값은 수량으로 저장함.
+ * 담을 당시 가격은 같은 해시의 "{아이템 ID}:price" 필드에 함께 저장함.
+ * 변경 연산은 모두 Lua 스크립트로 실행되어 한 번의 왕복으로 원자적으로 처리되며, 만료 시간도 사용자별로 관리됨.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CartRedisRepository {
+
+    private static final Duration CART_TTL = Duration.ofDays(1);
+    private static final String PRICE_FIELD_SUFFIX = ":price";
+    private static final Object PENDING_DELETES_RESOURCE = new Object();
+
+    private static final RedisScript<Long> SET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/cart/cart_set.lua"), Long.class);
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/cart/cart_update.lua"), Long.class);
+    private static final RedisScript<Long> REMOVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/cart/cart_remove.lua"), Long.class);
+    private static final RedisScript<Long> MERGE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/cart/cart_merge.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 애플리케이션 시작 시 장바구니 스크립트를 Redis에 미리 등록합니다.
+     * 이후 호출은 EVALSHA로 실행되며, Redis가 재시작되어 스크립트가 사라진 경우에는 EVAL로 자동 재시도됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadScripts() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                loadScript(connection, SET_SCRIPT);
+                loadScript(connection, UPDATE_SCRIPT);
+                loadScript(connection, REMOVE_SCRIPT);
+                loadScript(connection, MERGE_SCRIPT);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("장바구니 스크립트를 미리 등록하지 못했습니다. 최초 호출 시 등록됩니다.", e);
+        }
+    }
+
+    /**
+     * 사용자의 장바구니 전체를 조회합니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @return 아이템 ID별 장바구니 항목 (장바구니가 없으면 빈 Map)
+     */
+    public Map<Long, CartLine> findAll(String loginId) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        Map<String, String> entries = hashOperations.entries(cartKey(loginId));
+
+        Map<Long, CartLine> cartItems = new LinkedHashMap<>();
+        entries.forEach((field, value) -> {
+            if (field.endsWith(PRICE_FIELD_SUFFIX)) {
+                return;
+            }
+            Long itemId = Long.valueOf(field);
+            cartItems.put(itemId, new CartLine(itemId, Integer.parseInt(value), parsePrice(entries.get(field + PRICE_FIELD_SUFFIX))));
+        });
+        return cartItems;
+    }
+
+    /**
+     * 아이템 수량과 담을 당시 가격을 저장합니다. 이미 존재하면 덮어씁니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param cartLine 저장할 장바구니 항목
+     */
+    public void setCount(String loginId, CartLine cartLine) {
+        stringRedisTemplate.execute(
+                SET_SCRIPT,
+                List.of(cartKey(loginId)),
+                String.valueOf(cartLine.getItemId()),
+                String.valueOf(cartLine.getCount()),
+                priceArgument(cartLine),
+                ttlSeconds());
+    }
+
+    /**
+     * 장바구니에 이미 존재하는 아이템의 수량과 가격만 수정합니다.
+     * 존재 여부 확인과 수정이 하나의 스크립트에서 실행되므로 동시에 삭제된 아이템이 다시 생기지 않습니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param cartLine 수정할 장바구니 항목
+     * @return 수정이 성공했으면 true, 장바구니에 아이템이 없으면 false
+     */
+    public boolean updateCount(String loginId, CartLine cartLine) {
+        Long updated = stringRedisTemplate.execute(
+                UPDATE_SCRIPT,
+                List.of(cartKey(loginId)),
+                String.valueOf(cartLine.getItemId()),
+                String.valueOf(cartLine.getCount()),
+                priceArgument(cartLine),
+                ttlSeconds());
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 여러 아이템을 주어진 규칙으로 장바구니에 한 번에 합칩니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param cartLines 합칠 장바구니 항목
+     * @param rule 이미 존재하는 아이템의 수량을 결정하는 규칙
+     */
+    public void merge(String loginId, Collection<CartLine> cartLines, CartMergeRule rule) {
+        if (cartLines.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(cartLines.size() * 3 + 2);
+        args.add(ttlSeconds());
+        args.add(rule.getScriptArgument());
+        for (CartLine cartLine : cartLines) {
+            args.add(String.valueOf(cartLine.getItemId()));
+            args.add(String.valueOf(cartLine.getCount()));
+            args.add(priceArgument(cartLine));
+        }
+
+        stringRedisTemplate.execute(MERGE_SCRIPT, List.of(cartKey(loginId)), args.toArray());
+    }
+
+    /**
+     * 장바구니에서 아이템을 삭제합니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param itemId 삭제할 아이템 ID
+     * @return 삭제된 아이템이 있으면 true
+     */
+    public boolean remove(String loginId, Long itemId) {
+        Long removed = stringRedisTemplate.execute(
+                REMOVE_SCRIPT,
+                List.of(cartKey(loginId)),
+                String.valueOf(itemId), ttlSeconds());
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 사용자의 장바구니를 비웁니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     */
+    public void deleteAll(String loginId) {
+        stringRedisTemplate.delete(cartKey(loginId));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 사용자의 장바구니를 비웁니다. 트랜잭션 밖에서 호출되면 바로 비웁니다.
+     * 트랜잭션이 롤백되면 장바구니가 그대로 남으므로, 같은 장바구니로 다시 주문할 수 있습니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     */
+    public void deleteAllAfterCommit(String loginId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteAll(loginId);
+            return;
+        }
+
+        pendingDeletes().add(loginId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteAll(loginId);
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션에서 이미 비우기로 한 장바구니인지 확인합니다.
+     * 여러 주문을 한 트랜잭션으로 커밋할 때 같은 장바구니로 주문이 두 번 만들어지지 않게 합니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @return 커밋 후 비울 예정이면 true
+     */
+    public boolean isDeletePending(String loginId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> loginIds = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_DELETES_RESOURCE);
+        return loginIds != null && loginIds.contains(loginId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> pendingDeletes() {
+        Set<String> loginIds = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_DELETES_RESOURCE);
+        if (loginIds == null) {
+            Set<String> bound = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_DELETES_RESOURCE, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELETES_RESOURCE);
+                }
+            });
+            loginIds = bound;
+        }
+        return loginIds;
+    }
+
+    private void loadScript(RedisConnection connection, RedisScript<?> script) {
+        connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String cartKey(String loginId) {
+        return CART_KEY_PREFIX + loginId;
+    }
+
+    /**
+     * 저장된 가격을 읽습니다. 값이 없거나 숫자가 아니면 알 수 없는 가격(null)으로 취급합니다.
+     */
+    private Integer parsePrice(String price) {
+        if (price == null || price.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(price);
+        } catch (NumberFormatException e) {
+            log.warn("장바구니에 저장된 가격을 읽을 수 없습니다. price={}", price);
+            return null;
+        }
+    }
+
+    private String priceArgument(CartLine cartLine) {
+        return cartLine.getAddedPrice() == null ? "" : String.valueOf(cartLine.getAddedPrice());
+    }
+
+    private String ttlSeconds() {
+        return String.valueOf(CART_TTL.toSeconds());
+    }
+
+}
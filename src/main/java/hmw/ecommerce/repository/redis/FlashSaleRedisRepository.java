@@ -0,0 +1,274 @@
+package hmw.ecommerce.repository.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static hmw.ecommerce.entity.vo.Const.*;
+
+/**
+ * 플래시 세일 아이템의 재고를 Redis 카운터(FLASH_STOCK:{itemId})로 관리하는 저장소.
+ * 주문으로 차감된 수량은 FLASH_STOCK_PENDING 해시에 모아 두었다가 묶음 단위로 DB에 반영함.
+ * 반영 중인 묶음은 FLASH_STOCK_INFLIGHT 해시로 옮겨 두어, 반영이 실패하면 같은 묶음을 다시 반영함.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class FlashSaleRedisRepository {
+
+    private static final RedisScript<Long> DECREASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/flash/flash_decrease.lua"), Long.class);
+    private static final RedisScript<Long> INCREASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/flash/flash_increase.lua"), Long.class);
+    private static final RedisScript<Long> ENABLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/flash/flash_enable.lua"), Long.class);
+    private static final RedisScript<Long> DISABLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/flash/flash_disable.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/flash/flash_drain.lua"), List.class);
+    private static final RedisScript<Long> COMPLETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/flash/flash_complete.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 애플리케이션 시작 시 플래시 세일 스크립트를 Redis에 미리 등록합니다.
+     */
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadScripts() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                loadScript(connection, DECREASE_SCRIPT);
+                loadScript(connection, INCREASE_SCRIPT);
+                loadScript(connection, ENABLE_SCRIPT);
+                loadScript(connection, DISABLE_SCRIPT);
+                loadScript(connection, DRAIN_SCRIPT);
+                loadScript(connection, COMPLETE_SCRIPT);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("플래시 세일 스크립트를 미리 등록하지 못했습니다. 최초 호출 시 등록됩니다.", e);
+        }
+    }
+
+    /**
+     * 주어진 아이템 중 플래시 세일 모드인 아이템을 조회합니다.
+     *
+     * @param itemIds 확인할 아이템 ID 목록
+     * @return 플래시 세일 모드인 아이템 ID 집합
+     */
+    public Set<Long> findFlashSaleItemIds(Collection<Long> itemIds) {
+        Set<Long> flashSaleItemIds = new HashSet<>();
+        if (itemIds.isEmpty()) {
+            return flashSaleItemIds;
+        }
+
+        Map<Object, Boolean> members = stringRedisTemplate.opsForSet()
+                .isMember(FLASH_SALE_ITEMS, itemIds.stream().map(String::valueOf).toArray());
+        if (members == null) {
+            return flashSaleItemIds;
+        }
+
+        members.forEach((itemId, member) -> {
+            if (Boolean.TRUE.equals(member)) {
+                flashSaleItemIds.add(Long.valueOf((String) itemId));
+            }
+        });
+        return flashSaleItemIds;
+    }
+
+    /**
+     * 플래시 세일 모드인 모든 아이템 ID를 조회합니다.
+     *
+     * @return 아이템 ID 집합
+     */
+    public Set<String> findAllFlashSaleItemIds() {
+        return stringRedisTemplate.opsForSet().members(FLASH_SALE_ITEMS);
+    }
+
+    /**
+     * 재고 카운터의 현재 값을 조회합니다.
+     *
+     * @param itemId 아이템 ID
+     * @return 재고 카운터 값 (카운터가 없으면 null)
+     */
+    public Long findStock(Long itemId) {
+        String stock = stringRedisTemplate.opsForValue().get(stockKey(itemId));
+        return stock == null ? null : Long.valueOf(stock);
+    }
+
+    /**
+     * 아직 DB에 반영하지 않은 차감 수량을 조회합니다. 반영 중인 묶음도 포함합니다.
+     *
+     * @param itemId 아이템 ID
+     * @return 반영하지 않은 차감 수량
+     */
+    public long findUnappliedDecrease(Long itemId) {
+        long unapplied = 0;
+        for (String key : List.of(FLASH_STOCK_PENDING, FLASH_STOCK_INFLIGHT)) {
+            Object value = stringRedisTemplate.opsForHash().get(key, String.valueOf(itemId));
+            if (value != null) {
+                unapplied += Long.parseLong((String) value);
+            }
+        }
+        return unapplied;
+    }
+
+    /**
+     * 여러 플래시 세일 아이템의 재고를 한꺼번에 차감합니다. 하나라도 부족하면 아무것도 차감하지 않습니다.
+     *
+     * @param counts 아이템 ID별 차감 수량
+     * @return 모두 차감되었으면 null, 아니면 재고가 부족한 아이템 ID
+     */
+    public Long decrease(Map<Long, Integer> counts) {
+        List<String> keys = new ArrayList<>(counts.size() + 1);
+        keys.add(FLASH_STOCK_PENDING);
+        List<String> args = new ArrayList<>(counts.size() * 2);
+        counts.forEach((itemId, count) -> {
+            keys.add(stockKey(itemId));
+            args.add(String.valueOf(itemId));
+            args.add(String.valueOf(count));
+        });
+
+        Long failedItemId = stringRedisTemplate.execute(DECREASE_SCRIPT, keys, args.toArray());
+        return failedItemId == null || failedItemId == 0 ? null : failedItemId;
+    }
+
+    /**
+     * 플래시 세일 아이템의 재고를 되돌립니다.
+     *
+     * @param itemId 아이템 ID
+     * @param count 되돌릴 수량
+     * @return 되돌렸으면 true, 플래시 세일 모드가 아니면 false
+     */
+    public boolean increase(Long itemId, int count) {
+        Long increased = stringRedisTemplate.execute(
+                INCREASE_SCRIPT,
+                List.of(FLASH_STOCK_PENDING, stockKey(itemId)),
+                String.valueOf(itemId), String.valueOf(count));
+        return increased != null && increased > 0;
+    }
+
+    /**
+     * 아이템을 플래시 세일 모드로 전환합니다.
+     *
+     * @param itemId 아이템 ID
+     * @param stock 재고 카운터의 초기 값
+     * @return 새로 전환했으면 true, 이미 플래시 세일 모드이면 false
+     */
+    public boolean enable(Long itemId, int stock) {
+        Long enabled = stringRedisTemplate.execute(
+                ENABLE_SCRIPT,
+                List.of(FLASH_SALE_ITEMS, stockKey(itemId)),
+                String.valueOf(itemId), String.valueOf(stock));
+        return enabled != null && enabled > 0;
+    }
+
+    /**
+     * 아이템의 플래시 세일 모드를 끕니다.
+     *
+     * @param itemId 아이템 ID
+     * @return DB에 바로 반영해야 할 차감 수량
+     */
+    public long disable(Long itemId) {
+        Long pending = stringRedisTemplate.execute(
+                DISABLE_SCRIPT,
+                List.of(FLASH_SALE_ITEMS, stockKey(itemId), FLASH_STOCK_PENDING),
+                String.valueOf(itemId));
+        return pending == null ? 0 : pending;
+    }
+
+    /**
+     * DB에 반영하지 못한 차감 수량을 대기 중인 차감 수량에 다시 더합니다.
+     * 다음 묶음 반영에서 DB에 반영됩니다.
+     *
+     * @param itemId 아이템 ID
+     * @param decrease 다시 더할 차감 수량
+     */
+    public void restorePending(Long itemId, long decrease) {
+        stringRedisTemplate.opsForHash().increment(FLASH_STOCK_PENDING, String.valueOf(itemId), decrease);
+    }
+
+    /**
+     * 재고 카운터가 없는 경우에만 초기화합니다.
+     *
+     * @param itemId 아이템 ID
+     * @param stock 재고 카운터의 초기 값
+     * @return 새로 초기화했으면 true
+     */
+    public boolean initStockIfAbsent(Long itemId, long stock) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(stockKey(itemId), String.valueOf(stock)));
+    }
+
+    /**
+     * DB에 반영할 차감 수량 묶음을 꺼냅니다.
+     * 이전 묶음이 아직 반영 완료되지 않았다면 그 묶음을 다시 돌려줍니다.
+     *
+     * @return 묶음 (반영할 것이 없으면 null)
+     */
+    public FlushBatch drain() {
+        List<?> result = stringRedisTemplate.execute(
+                DRAIN_SCRIPT, List.of(FLASH_STOCK_PENDING, FLASH_STOCK_INFLIGHT, FLASH_STOCK_BATCH_SEQ));
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Long> decreases = new LinkedHashMap<>();
+        for (int i = 1; i < result.size(); i += 2) {
+            long decrease = Long.parseLong((String) result.get(i + 1));
+            if (decrease != 0) {
+                decreases.put(Long.valueOf((String) result.get(i)), decrease);
+            }
+        }
+        return new FlushBatch(Long.parseLong((String) result.get(0)), decreases);
+    }
+
+    /**
+     * DB 반영이 끝난 묶음을 삭제합니다. 이미 다른 묶음으로 바뀌었다면 그대로 둡니다.
+     *
+     * @param batchId 반영을 마친 묶음 번호
+     */
+    public void completeDrain(long batchId) {
+        stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(FLASH_STOCK_INFLIGHT), String.valueOf(batchId));
+    }
+
+    private String stockKey(Long itemId) {
+        return FLASH_STOCK_KEY_PREFIX + itemId;
+    }
+
+    private void loadScript(RedisConnection connection, RedisScript<?> script) {
+        connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * DB에 반영할 차감 수량 묶음.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FlushBatch {
+        private final long batchId;
+        private final Map<Long, Long> decreases;
+    }
+
+}
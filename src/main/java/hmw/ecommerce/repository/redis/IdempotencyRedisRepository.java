@@ -0,0 +1,147 @@
+package hmw.ecommerce.repository.redis;
+
+import hmw.ecommerce.entity.vo.IdempotencyClaim;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static hmw.ecommerce.entity.vo.Const.IDEMPOTENCY_KEY_PREFIX;
+
+/**
+ * 멱등 키(Idempotency-Key)별 요청 처리 상태를 저장하는 저장소.
+ * 처리 중에는 짧은 만료 시간의 잠금 값을, 처리가 끝나면 결과 값을 같은 키(IDEMPOTENCY:{scope}:{key})에 저장함.
+ * 값 비교와 변경은 Lua 스크립트로 실행되어, 잠금이 만료된 뒤 다른 요청이 가져간 키를 덮어쓰지 않음.
+ * 결과는 주문 트랜잭션이 커밋된 직후(spring.order.idempotency-ttl 동안 보관) 저장됨.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRedisRepository {
+
+    private static final RedisScript<String> BEGIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/idempotency/idempotency_begin.lua"), String.class);
+    private static final RedisScript<Long> COMPLETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/idempotency/idempotency_complete.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/idempotency/idempotency_release.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${spring.order.idempotency-ttl:24h}")
+    private Duration resultTtl;
+
+    /**
+     * 애플리케이션 시작 시 멱등 키 스크립트를 Redis에 미리 등록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadScripts() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                loadScript(connection, BEGIN_SCRIPT);
+                loadScript(connection, COMPLETE_SCRIPT);
+                loadScript(connection, RELEASE_SCRIPT);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("멱등 키 스크립트를 미리 등록하지 못했습니다. 최초 호출 시 등록됩니다.", e);
+        }
+    }
+
+    /**
+     * 처리 중 잠금을 걸고 처리를 시작합니다.
+     *
+     * @param scope 키를 구분하는 범위 (예: 사용자)
+     * @param key 멱등 키
+     * @param pendingValue 처리 중 표시 값
+     * @param lockTtl 처리 중 잠금 시간
+     * @return 처리를 시작했으면 null, 이미 키가 있으면 저장된 값
+     */
+    public String begin(String scope, String key, String pendingValue, Duration lockTtl) {
+        String existing = stringRedisTemplate.execute(
+                BEGIN_SCRIPT, List.of(idempotencyKey(scope, key)), pendingValue, String.valueOf(lockTtl.toSeconds()));
+        return StringUtils.hasText(existing) ? existing : null;
+    }
+
+    /**
+     * 처리 결과를 저장합니다.
+     *
+     * @param scope 키를 구분하는 범위
+     * @param key 멱등 키
+     * @param pendingValue 처리 중 표시 값
+     * @param resultValue 저장할 결과 값
+     * @param resultTtl 결과 보관 시간
+     * @return 저장했으면 true, 잠금이 만료되어 다른 요청이 키를 가져갔으면 false
+     */
+    public boolean complete(String scope, String key, String pendingValue, String resultValue, Duration resultTtl) {
+        Long completed = stringRedisTemplate.execute(
+                COMPLETE_SCRIPT, List.of(idempotencyKey(scope, key)),
+                pendingValue, resultValue, String.valueOf(resultTtl.toSeconds()));
+        return completed != null && completed > 0;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 주문 결과를 저장합니다. 트랜잭션 밖에서 호출되면 바로 저장합니다.
+     * 저장에 실패해도 주문 행에 요청 키가 남아 있으므로, 재요청은 DB에서 주문을 찾아 응답합니다.
+     *
+     * @param claim 선점한 요청 키
+     * @param orderId 생성된 주문 ID
+     */
+    public void completeAfterCommit(IdempotencyClaim claim, Long orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeQuietly(claim, orderId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                completeQuietly(claim, orderId);
+            }
+        });
+    }
+
+    /**
+     * 처리 중 잠금을 해제합니다.
+     *
+     * @param scope 키를 구분하는 범위
+     * @param key 멱등 키
+     * @param pendingValue 처리 중 표시 값
+     */
+    public void release(String scope, String key, String pendingValue) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(idempotencyKey(scope, key)), pendingValue);
+    }
+
+    private void completeQuietly(IdempotencyClaim claim, Long orderId) {
+        try {
+            if (!complete(claim.getScope(), claim.getKey(), claim.getPendingValue(), claim.resultValue(orderId), resultTtl)) {
+                log.warn("요청 키의 잠금이 만료된 뒤 주문이 완료되었습니다. key={}, orderId={}", claim.getKey(), orderId);
+            }
+        } catch (Exception e) {
+            log.error("주문 결과를 요청 키에 저장하지 못했습니다. key={}, orderId={}", claim.getKey(), orderId, e);
+        }
+    }
+
+    private String idempotencyKey(String scope, String key) {
+        return IDEMPOTENCY_KEY_PREFIX + scope + ":" + key;
+    }
+
+    private void loadScript(RedisConnection connection, RedisScript<?> script) {
+        connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,122 @@
+package hmw.ecommerce.repository.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hmw.ecommerce.entity.dto.Item.ItemDetailResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static hmw.ecommerce.entity.vo.Const.ITEM_DETAIL_INVALIDATION_CHANNEL;
+import static hmw.ecommerce.entity.vo.Const.ITEM_DETAIL_KEY_PREFIX;
+
+/**
+ * 아이템 상세 정보를 JSON으로 캐시하고, 캐시 무효화를 모든 서버에 알리는 저장소.
+ * 값은 아이템 버전과 함께 "{버전}|{JSON}"으로 저장하며, 더 새 버전이 저장되어 있으면 덮어쓰지 않음.
+ * 무효화할 때는 값을 지우는 대신 커밋된 버전만 남긴 표시(tombstone)를 저장하여,
+ * 무효화 전에 옛 행을 읽은 요청이 뒤늦게 옛 값을 다시 채우지 못하게 함.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ItemDetailRedisRepository {
+
+    private static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/item/item_detail_put.lua"), Long.class);
+    private static final String VERSION_SEPARATOR = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 애플리케이션 시작 시 저장 스크립트를 Redis에 미리 등록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadScripts() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.scriptingCommands()
+                        .scriptLoad(PUT_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("아이템 상세 캐시 스크립트를 미리 등록하지 못했습니다. 최초 호출 시 등록됩니다.", e);
+        }
+    }
+
+    /**
+     * 캐시된 아이템 상세 정보를 조회합니다.
+     *
+     * @param itemId 아이템 ID
+     * @return 아이템 상세 정보 (없거나 무효화 표시만 있으면 null)
+     */
+    public ItemDetailResponseDto find(Long itemId) {
+        String value = stringRedisTemplate.opsForValue().get(detailKey(itemId));
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf(VERSION_SEPARATOR);
+        if (separator < 0) {
+            stringRedisTemplate.delete(detailKey(itemId));
+            return null;
+        }
+        if (separator == value.length() - 1) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value.substring(separator + 1), ItemDetailResponseDto.class);
+        } catch (JsonProcessingException e) {
+            stringRedisTemplate.delete(detailKey(itemId));
+            return null;
+        }
+    }
+
+    /**
+     * 아이템 상세 정보를 만료 시간과 함께 저장합니다. 더 새 버전(또는 무효화 표시)이 있으면 저장하지 않습니다.
+     *
+     * @param itemId 아이템 ID
+     * @param detail 아이템 상세 정보 (읽은 행의 버전 포함)
+     * @param ttl 만료 시간
+     * @return 저장했으면 true, 더 새 버전이 있어 저장하지 않았으면 false
+     */
+    public boolean save(Long itemId, ItemDetailResponseDto detail, Duration ttl) {
+        try {
+            return put(itemId, detail.getVersion(), objectMapper.writeValueAsString(detail), ttl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아이템 상세 정보를 캐시할 수 없습니다. itemId=" + itemId, e);
+        }
+    }
+
+    /**
+     * 캐시된 아이템 상세 정보를 커밋된 버전의 무효화 표시로 바꾸고, 다른 서버의 로컬 캐시도 지우도록 알립니다.
+     *
+     * @param itemId 아이템 ID
+     * @param version 커밋된 아이템 버전 (삭제된 아이템이면 Long.MAX_VALUE)
+     * @param ttl 무효화 표시의 만료 시간
+     */
+    public void invalidateAndPublish(Long itemId, long version, Duration ttl) {
+        put(itemId, version, "", ttl);
+        stringRedisTemplate.convertAndSend(ITEM_DETAIL_INVALIDATION_CHANNEL, String.valueOf(itemId));
+    }
+
+    private boolean put(Long itemId, long version, String json, Duration ttl) {
+        Long saved = stringRedisTemplate.execute(PUT_SCRIPT, List.of(detailKey(itemId)),
+                String.valueOf(version), json, String.valueOf(ttl.toMillis()));
+        return saved != null && saved == 1L;
+    }
+
+    private String detailKey(Long itemId) {
+        return ITEM_DETAIL_KEY_PREFIX + itemId;
+    }
+
+}
@@ -0,0 +1,80 @@
+package hmw.ecommerce.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static hmw.ecommerce.entity.vo.Const.ITEM_LEASE_KEY_PREFIX;
+
+/**
+ * 여러 서버가 같은 아이템의 주문을 동시에 처리하지 않도록 아이템별 임대(lease)를 저장하는 저장소.
+ * 키(ITEM_LEASE:{itemId})에는 임대를 잡은 요청의 토큰을 저장하고, 서버가 죽어도 임대 시간이 지나면 자동으로 풀림.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ItemLeaseRedisRepository {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/lock/item_lease_release.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 애플리케이션 시작 시 임대 해제 스크립트를 Redis에 미리 등록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadScripts() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.scriptingCommands()
+                        .scriptLoad(RELEASE_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("아이템 임대 스크립트를 미리 등록하지 못했습니다. 최초 호출 시 등록됩니다.", e);
+        }
+    }
+
+    /**
+     * 아이템 임대를 잡습니다.
+     *
+     * @param itemId 아이템 ID
+     * @param token 임대를 잡는 요청의 토큰
+     * @param leaseTime 임대 시간
+     * @return 임대를 잡았으면 true, 다른 요청이 이미 잡고 있으면 false
+     */
+    public boolean acquire(Long itemId, String token, Duration leaseTime) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(leaseKey(itemId), token, leaseTime));
+    }
+
+    /**
+     * 이 요청이 잡은 아이템 임대를 해제합니다.
+     *
+     * @param itemIds 아이템 ID 목록
+     * @param token 임대를 잡을 때 사용한 토큰
+     */
+    public void release(Collection<Long> itemIds, String token) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = itemIds.stream().map(this::leaseKey).toList();
+        stringRedisTemplate.execute(RELEASE_SCRIPT, keys, token);
+    }
+
+    private String leaseKey(Long itemId) {
+        return ITEM_LEASE_KEY_PREFIX + itemId;
+    }
+
+}
@@ -0,0 +1,123 @@
+package hmw.ecommerce.repository.redis;
+
+import hmw.ecommerce.entity.vo.ItemSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static hmw.ecommerce.entity.vo.Const.ITEM_SNAPSHOT_KEY_PREFIX;
+
+/**
+ * 아이템의 현재 가격과 재고를 짧은 시간 동안 캐시하는 저장소.
+ * 값은 "가격|재고|아이템 이름" 형태의 문자열로 저장하며, 여러 아이템을 MGET 한 번으로 조회함.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemSnapshotRedisRepository {
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofSeconds(30);
+    private static final String DELIMITER = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 캐시에 있는 아이템 스냅샷을 한 번에 조회합니다.
+     *
+     * @param itemIds 조회할 아이템 ID 목록
+     * @return 캐시에 존재하는 아이템 ID별 스냅샷 (없는 아이템은 포함되지 않음)
+     */
+    public Map<Long, ItemSnapshot> findAll(Collection<Long> itemIds) {
+        Map<Long, ItemSnapshot> snapshots = new HashMap<>();
+        if (itemIds.isEmpty()) {
+            return snapshots;
+        }
+
+        List<Long> ids = new ArrayList<>(itemIds);
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(ids.stream().map(this::snapshotKey).toList());
+        if (values == null) {
+            return snapshots;
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                snapshots.put(ids.get(i), parse(ids.get(i), value));
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * 아이템 스냅샷을 파이프라인으로 한 번에 저장합니다.
+     *
+     * @param snapshots 저장할 스냅샷 목록
+     */
+    public void saveAll(Collection<ItemSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (ItemSnapshot snapshot : snapshots) {
+                stringConnection.setEx(snapshotKey(snapshot.getItemId()), SNAPSHOT_TTL.toSeconds(), format(snapshot));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 아이템 스냅샷을 삭제합니다.
+     * 트랜잭션 밖에서 호출되면 바로 삭제합니다.
+     *
+     * @param itemIds 삭제할 아이템 ID 목록
+     */
+    public void evictAfterCommit(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = itemIds.stream().map(this::snapshotKey).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stringRedisTemplate.delete(keys);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stringRedisTemplate.delete(keys);
+            }
+        });
+    }
+
+    private String snapshotKey(Long itemId) {
+        return ITEM_SNAPSHOT_KEY_PREFIX + itemId;
+    }
+
+    private String format(ItemSnapshot snapshot) {
+        return snapshot.getPrice() + DELIMITER + snapshot.getStockQuantity() + DELIMITER + snapshot.getItemName();
+    }
+
+    private ItemSnapshot parse(Long itemId, String value) {
+        int priceEnd = value.indexOf(DELIMITER);
+        int stockEnd = value.indexOf(DELIMITER, priceEnd + 1);
+        return new ItemSnapshot(
+                itemId,
+                value.substring(stockEnd + 1),
+                Integer.parseInt(value.substring(0, priceEnd)),
+                Integer.parseInt(value.substring(priceEnd + 1, stockEnd)));
+    }
+
+}
@@ -0,0 +1,176 @@
+package hmw.ecommerce.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static hmw.ecommerce.entity.vo.Const.*;
+
+/**
+ * 장바구니에 담긴 수량만큼 재고를 일정 시간 동안 잡아두는 예약 저장소.
+ * 아이템마다 세 개의 키를 사용함.
+ * <ul>
+ *     <li>STOCK_RESERVATION:{itemId} : 로그인 ID별 예약 만료 시각(ms)을 점수로 가지는 ZSET</li>
+ *     <li>STOCK_RESERVATION_COUNT:{itemId} : 로그인 ID별 예약 수량 HASH</li>
+ *     <li>STOCK_RESERVED:{itemId} : 만료되지 않은 예약 수량의 합</li>
+ * </ul>
+ * 예약이 남아 있는 아이템 ID는 STOCK_RESERVATION_ITEMS 집합에 모아 두고 만료 정리 시 사용함.
+ * 모든 변경은 Lua 스크립트로 실행되며, 스크립트는 먼저 만료된 예약을 정리한 뒤 계산함.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class StockReservationRedisRepository {
+
+    private static final RedisScript<Long> RESERVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/reservation/reservation_reserve.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/reservation/reservation_release.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> OTHERS_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/reservation/reservation_others.lua"), List.class);
+    private static final RedisScript<Long> PURGE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/reservation/reservation_purge.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 애플리케이션 시작 시 예약 스크립트를 Redis에 미리 등록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadScripts() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                loadScript(connection, RESERVE_SCRIPT);
+                loadScript(connection, RELEASE_SCRIPT);
+                loadScript(connection, OTHERS_SCRIPT);
+                loadScript(connection, PURGE_SCRIPT);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("재고 예약 스크립트를 미리 등록하지 못했습니다. 최초 호출 시 등록됩니다.", e);
+        }
+    }
+
+    /**
+     * 여러 아이템의 재고를 한꺼번에 예약합니다. 이미 예약한 아이템은 수량과 만료 시각이 새 값으로 바뀝니다.
+     * 하나라도 (재고 - 다른 사용자의 예약)보다 많이 요청하면 아무것도 예약하지 않습니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param counts 아이템 ID별 예약 수량
+     * @param stocks 아이템 ID별 현재 재고
+     * @param now 현재 시각(ms)
+     * @param expireAt 예약 만료 시각(ms)
+     * @return 모두 예약되었으면 null, 아니면 재고가 부족한 아이템 ID
+     */
+    public Long reserve(String loginId, Map<Long, Integer> counts, Map<Long, Integer> stocks, long now, long expireAt) {
+        List<String> keys = new ArrayList<>(counts.size() * 3 + 1);
+        keys.add(STOCK_RESERVATION_ITEMS);
+        List<String> args = new ArrayList<>(counts.size() * 3 + 3);
+        args.add(loginId);
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(expireAt));
+
+        counts.forEach((itemId, count) -> {
+            addItemKeys(keys, itemId);
+            args.add(String.valueOf(itemId));
+            args.add(String.valueOf(count));
+            args.add(String.valueOf(stocks.get(itemId)));
+        });
+
+        Long failedItemId = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        return failedItemId == null || failedItemId == 0 ? null : failedItemId;
+    }
+
+    /**
+     * 사용자의 예약을 여러 아이템에서 해제합니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param itemIds 예약을 해제할 아이템 ID 목록
+     */
+    public void release(String loginId, Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(itemIds.size() * 3);
+        itemIds.forEach(itemId -> addItemKeys(keys, itemId));
+        stringRedisTemplate.execute(RELEASE_SCRIPT, keys, loginId);
+    }
+
+    /**
+     * 아이템마다 다른 사용자들이 예약한 수량을 조회합니다. 조회 전에 만료된 예약은 정리됩니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param itemIds 조회할 아이템 ID 목록
+     * @param now 현재 시각(ms)
+     * @return 아이템 ID별 다른 사용자들의 예약 수량
+     */
+    public Map<Long, Long> findReservedByOthers(String loginId, Collection<Long> itemIds, long now) {
+        Map<Long, Long> reserved = new HashMap<>();
+        if (itemIds.isEmpty()) {
+            return reserved;
+        }
+
+        List<Long> ids = new ArrayList<>(itemIds);
+        List<String> keys = new ArrayList<>(ids.size() * 3);
+        ids.forEach(itemId -> addItemKeys(keys, itemId));
+
+        List<?> result = stringRedisTemplate.execute(OTHERS_SCRIPT, keys, loginId, String.valueOf(now));
+        for (int i = 0; i < ids.size(); i++) {
+            reserved.put(ids.get(i), result == null ? 0L : ((Number) result.get(i)).longValue());
+        }
+        return reserved;
+    }
+
+    /**
+     * 예약이 남아 있는 아이템 ID 목록을 조회합니다.
+     *
+     * @return 아이템 ID 목록
+     */
+    public Set<String> findReservedItemIds() {
+        return stringRedisTemplate.opsForSet().members(STOCK_RESERVATION_ITEMS);
+    }
+
+    /**
+     * 한 아이템의 만료된 예약을 정리합니다. 남은 예약이 없으면 아이템 ID를 목록에서 제거합니다.
+     *
+     * @param itemId 정리할 아이템 ID
+     * @param now 현재 시각(ms)
+     * @return 돌려놓은 예약 수량
+     */
+    public long purgeExpired(Long itemId, long now) {
+        List<String> keys = new ArrayList<>(4);
+        keys.add(STOCK_RESERVATION_ITEMS);
+        addItemKeys(keys, itemId);
+
+        Long returned = stringRedisTemplate.execute(PURGE_SCRIPT, keys, String.valueOf(itemId), String.valueOf(now));
+        return returned == null ? 0 : returned;
+    }
+
+    private void addItemKeys(List<String> keys, Long itemId) {
+        keys.add(STOCK_RESERVATION_KEY_PREFIX + itemId);
+        keys.add(STOCK_RESERVATION_COUNT_KEY_PREFIX + itemId);
+        keys.add(STOCK_RESERVED_KEY_PREFIX + itemId);
+    }
+
+    private void loadScript(RedisConnection connection, RedisScript<?> script) {
+        connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+    }
+
+}
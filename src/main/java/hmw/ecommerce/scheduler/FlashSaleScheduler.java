@@ -0,0 +1,28 @@
+package hmw.ecommerce.scheduler;
+
+import hmw.ecommerce.service.FlashSaleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FlashSaleScheduler {
+
+    private final FlashSaleService flashSaleService;
+
+    /**
+     * 플래시 세일 아이템에서 차감된 재고를 주기적으로 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.flash-sale.flush-interval:1000}")
+    public void flushFlashSaleStock() {
+        try {
+            flashSaleService.flush();
+        } catch (Exception e) {
+            log.warn("플래시 세일 재고를 DB에 반영하지 못했습니다. 다음 실행에서 다시 시도합니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package hmw.ecommerce.scheduler;
+
+import hmw.ecommerce.service.OrderArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveService orderArchiveService;
+
+    /**
+     * 매일 새벽에 오래된 주문을 보관 테이블로 옮깁니다.
+     */
+    @Scheduled(cron = "${spring.order.archive.cron:0 0 4 * * *}")
+    public void archiveOldOrders() {
+        try {
+            orderArchiveService.archive();
+        } catch (Exception e) {
+            log.warn("오래된 주문을 보관하지 못했습니다. 다음 실행에서 다시 시도합니다.", e);
+        }
+    }
+
+}
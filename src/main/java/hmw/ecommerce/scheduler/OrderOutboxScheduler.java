@@ -0,0 +1,29 @@
+package hmw.ecommerce.scheduler;
+
+import hmw.ecommerce.service.OrderOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderOutboxScheduler {
+
+    private final OrderOutboxRelay orderOutboxRelay;
+
+    /**
+     * 주기적으로 아웃박스의 주문 이벤트를 리스너에 전달합니다.
+     * 여러 서버에서 동시에 실행되어도 서로 다른 이벤트를 나누어 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.order.outbox.poll-interval:500}")
+    public void relayOrderEvents() {
+        try {
+            orderOutboxRelay.relay();
+        } catch (Exception e) {
+            log.warn("주문 이벤트를 전달하지 못했습니다. 다음 실행에서 다시 시도합니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package hmw.ecommerce.scheduler;
+
+import hmw.ecommerce.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StockReservationScheduler {
+
+    private final StockReservationService stockReservationService;
+
+    /**
+     * 주기적으로 만료된 재고 예약을 정리하여 예약된 재고를 돌려놓습니다.
+     * 조회와 예약 시에도 해당 아이템의 만료된 예약은 정리되므로, 이 작업은 아무도 찾지 않는 아이템의 예약을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.cart.reservation-sweep-interval:60000}")
+    public void purgeExpiredReservations() {
+        try {
+            long returned = stockReservationService.purgeExpired();
+            if (returned > 0) {
+                log.info("만료된 재고 예약 {}개를 정리했습니다.", returned);
+            }
+        } catch (Exception e) {
+            log.warn("만료된 재고 예약을 정리하지 못했습니다.", e);
+        }
+    }
+
+}
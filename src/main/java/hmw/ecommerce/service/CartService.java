@@ -1,30 +1,36 @@
 package hmw.ecommerce.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import hmw.ecommerce.entity.Item;
 import hmw.ecommerce.entity.dto.cart.AddToCartDto;
+import hmw.ecommerce.entity.dto.cart.BulkAddToCartDto;
 import hmw.ecommerce.entity.dto.cart.EditToCartDto;
 import hmw.ecommerce.entity.dto.cart.GetCartDto;
+import hmw.ecommerce.entity.vo.CartLine;
+import hmw.ecommerce.entity.vo.CartMergeRule;
+import hmw.ecommerce.entity.vo.ItemSnapshot;
 import hmw.ecommerce.exception.ErrorCode;
 import hmw.ecommerce.exception.exceptions.CartException;
 import hmw.ecommerce.exception.exceptions.ItemException;
 import hmw.ecommerce.jwt.JWTUtil;
 import hmw.ecommerce.repository.entity.ItemRepository;
-import hmw.ecommerce.util.AESUtil;
+import hmw.ecommerce.repository.redis.CartRedisRepository;
+import hmw.ecommerce.repository.redis.ItemSnapshotRedisRepository;
+import hmw.ecommerce.util.CartCookieCodec;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 import static hmw.ecommerce.entity.vo.Const.CART_ITEMS;
 
@@ -36,10 +42,14 @@ public class CartService {
     private static final int CART_EXPIRE_TIME = 60 * 60 * 24;
 
     private final ItemRepository itemRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CartRedisRepository cartRedisRepository;
+    private final ItemSnapshotRedisRepository itemSnapshotRedisRepository;
     private final JWTUtil jwtUtil;
-    private final AESUtil aesUtil;
-    private final ObjectMapper objectMapper;
+    private final CartCookieCodec cartCookieCodec;
+    private final StockReservationService stockReservationService;
+
+    @Value("${spring.cart.merge-rule:MAX}")
+    private CartMergeRule cartMergeRule;
 
     /**
      * 장바구니에 아이템을 추가합니다.
@@ -70,43 +80,91 @@ public class CartService {
         if (!StringUtils.hasText(loginId)) {
             addCartInCookie(request, response, cartDtoResponse);
         } else {
-            addCartInRedis(request, response, loginId, cartDtoResponse);
+            stockReservationService.reserve(loginId, findItem, count);
+            addCartInRedis(loginId, cartDtoResponse);
         }
 
         return cartDtoResponse;
     }
 
+    /**
+     * 여러 아이템을 한 번에 장바구니에 추가합니다.
+     * 모든 아이템을 한 번의 조회로 검증한 뒤, 장바구니에는 한 번만 기록합니다.
+     * 같은 아이템이 여러 번 요청되면 마지막 수량이 적용되고, 이미 담긴 아이템은 요청한 수량으로 변경됩니다.
+     *
+     * @param cartRequest  추가할 아이템 ID와 수량 목록
+     * @param token        사용자 인증 토큰
+     * @param request      로그인 상태가 아닌 경우 쿠키에 넣기 위해 가져옴
+     * @param response     로그인 상태가 아닌 경우 쿠키에 넣기 위해 가져옴
+     * @return 추가된 장바구니 아이템 정보 목록
+     * @throws ItemException 존재하지 않는 아이템이 있거나 재고가 부족한 아이템이 있으면 예외 발생
+     */
+    public BulkAddToCartDto.Response addAllToCart(
+            BulkAddToCartDto.Request cartRequest,
+            String token,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (BulkAddToCartDto.CartItem cartItem : cartRequest.getCartItems()) {
+            counts.put(cartItem.getItemId(), cartItem.getCount());
+        }
+
+        Map<Long, Item> items = new HashMap<>();
+        for (Item item : itemRepository.findAllById(counts.keySet())) {
+            items.put(item.getId(), item);
+        }
+
+        List<AddToCartDto.Response> cartDtoResponses = new ArrayList<>(counts.size());
+        for (Map.Entry<Long, Integer> count : counts.entrySet()) {
+            Item item = items.get(count.getKey());
+            if (item == null) {
+                throw new ItemException(ErrorCode.NOT_EXISTS_ITEM);
+            }
+            if (!item.isStockAvailability(count.getValue())) {
+                throw new ItemException(ErrorCode.OUT_OF_STOCK);
+            }
+            cartDtoResponses.add(AddToCartDto.Response.fromItemEntity(item, count.getValue()));
+        }
+
+        String loginId = getLoginId(token);
+        List<CartLine> cartLines = cartDtoResponses.stream()
+                .map(this::toCartLine)
+                .toList();
+
+        if (!StringUtils.hasText(loginId)) {
+            addAllCartInCookie(request, response, cartLines);
+        } else {
+            stockReservationService.reserveAll(loginId, items.values(), counts);
+            cartRedisRepository.merge(loginId, cartLines, CartMergeRule.REPLACE);
+        }
+
+        return new BulkAddToCartDto.Response(cartDtoResponses);
+    }
+
     /**
      * 현재 장바구니 정보를 가져옵니다.
      *
      * @param request  로그인 상태가 아닌 경우 쿠키에서 들고오기 위해 가져옴
-     * @param res      로그인 상태가 아닌 경우 쿠키에서 들고오기 위해 가져옴
      * @param token    사용자 인증 토큰
-     * @return 장바구니에 담긴 아이템 목록과 총 가격 및 수량
+     * @return 현재 가격으로 다시 계산한 장바구니 아이템 목록과 총 가격 및 수량, 가격 변경/재고 부족 여부
      */
     @Transactional(readOnly = true)
-    public GetCartDto getCartItem(HttpServletRequest request, HttpServletResponse res, String token) {
+    public GetCartDto getCartItem(HttpServletRequest request, String token) {
         String loginId = getLoginId(token);
 
-        Set<AddToCartDto.Response> responseSet;
+        Map<Long, CartLine> cartItems;
         if (!StringUtils.hasText(loginId)) {
-            responseSet = getCartFromCookie(request);
+            cartItems = getCartFromCookie(request);
         } else {
-            responseSet = getCartFromRedis(loginId, request, res);
-        }
-
-        if (responseSet == null || responseSet.isEmpty()) {
-            return new GetCartDto(null, 0, 0);
+            cartItems = cartRedisRepository.findAll(loginId);
         }
 
-        int totalCount = 0;
-        int totalPrice = 0;
-        for (AddToCartDto.Response response : responseSet) {
-            totalCount += response.getCount();
-            totalPrice += response.getPrice() * response.getCount();
+        if (cartItems == null || cartItems.isEmpty()) {
+            return GetCartDto.empty();
         }
 
-        return GetCartDto.getCartDtoResponse(responseSet, totalPrice, totalCount);
+        return GetCartDto.getCartDtoResponse(cartItems.values(), getItemSnapshots(cartItems.keySet()));
     }
 
     /**
@@ -128,7 +186,7 @@ public class CartService {
 
         int count = cartRequest.getCount();
         Item findItem = getItemIfExist(itemId);
-        if (findItem.isStockAvailability(count)) {
+        if (!findItem.isStockAvailability(count)) {
             throw new ItemException(ErrorCode.OUT_OF_STOCK);
         }
         String loginId = getLoginId(token);
@@ -138,7 +196,11 @@ public class CartService {
         if (!StringUtils.hasText(loginId)) {
             updateExist = updateCartInCookie(request, response, cartDtoResponse);
         } else {
+            stockReservationService.reserve(loginId, findItem, count);
             updateExist = updateCartInRedis(loginId, cartDtoResponse);
+            if (!updateExist) {
+                stockReservationService.release(loginId, List.of(itemId));
+            }
         }
 
         if (!updateExist) {
@@ -167,6 +229,7 @@ public class CartService {
             deleteExist = deleteCartFromCookie(request, response, itemId);
         } else {
             deleteExist = deleteCartFromRedis(loginId, itemId);
+            stockReservationService.release(loginId, List.of(itemId));
         }
 
         if (!deleteExist) {
@@ -176,6 +239,32 @@ public class CartService {
         return itemId;
     }
 
+    /**
+     * 로그인 시 쿠키에 남아있는 비로그인 장바구니를 Redis 장바구니에 병합하고 쿠키를 삭제합니다.
+     * 이미 Redis에 있는 아이템의 수량은 설정된 병합 규칙(spring.cart.merge-rule)에 따라 결정되며,
+     * 병합은 하나의 스크립트 호출로 원자적으로 처리됩니다. 로그인 당 한 번만 호출됩니다.
+     *
+     * @param loginId  로그인한 사용자의 ID
+     * @param request  장바구니 쿠키를 읽기 위한 요청 객체
+     * @param response 장바구니 쿠키를 삭제하기 위한 응답 객체
+     */
+    public void mergeGuestCart(String loginId, HttpServletRequest request, HttpServletResponse response) {
+        Map<Long, CartLine> guestCartItems;
+        try {
+            guestCartItems = getCartFromCookie(request);
+        } catch (CartException e) {
+            expireCartCookie(response);
+            return;
+        }
+
+        if (guestCartItems == null) {
+            return;
+        }
+
+        cartRedisRepository.merge(loginId, guestCartItems.values(), cartMergeRule);
+        expireCartCookie(response);
+    }
+
     /**
      * 쿠키에 장바구니 아이템을 추가합니다.
      *
@@ -187,149 +276,60 @@ public class CartService {
             HttpServletRequest request,
             HttpServletResponse response,
             AddToCartDto.Response cartDtoResponse) {
-        String prevCart = getEncodedCartItemsFromCookie(request);
-        try {
-            if (!StringUtils.hasText(prevCart)) {
-                Set<AddToCartDto.Response> cartList = new HashSet<>();
-                cartList.add(cartDtoResponse);
-                String jsonResponse = objectMapper.writeValueAsString(cartList);
-                String encryptedResponse = aesUtil.encrypt(jsonResponse);
-
-                Cookie cookie = new Cookie(CART_ITEMS, encryptedResponse);
-                cookie.setMaxAge(CART_EXPIRE_TIME);
-                cookie.setPath("/");
-                response.addCookie(cookie);
-            } else {
-                String prevCartDecode = aesUtil.decrypt(prevCart);
-                Set<AddToCartDto.Response> cartItems = objectMapper.readValue(prevCartDecode, new TypeReference<>(){});
-                boolean alreadyExist = false;
-                for (AddToCartDto.Response cartItem : cartItems) {
-                    if (cartItem.getItemId().equals(cartDtoResponse.getItemId())) {
-                        cartItem.setCount(cartDtoResponse.getCount());
-                        alreadyExist = true;
-                        break;
-                    }
-                }
-                if (!alreadyExist) {
-                    cartItems.add(cartDtoResponse);
-                }
+        Map<Long, CartLine> cartItems = getCartFromCookie(request);
+        if (cartItems == null) {
+            cartItems = new LinkedHashMap<>();
+        }
 
-                String updatedJson = objectMapper.writeValueAsString(cartItems);
-                String updatedEncrypted = aesUtil.encrypt(updatedJson);
+        cartItems.put(cartDtoResponse.getItemId(), toCartLine(cartDtoResponse));
+        writeCartCookie(response, cartItems);
+    }
 
-                Cookie cookie = new Cookie(CART_ITEMS, "");
-                cookie.setMaxAge(0);
-                cookie.setPath("/");
-                response.addCookie(cookie);
+    /**
+     * 쿠키에 여러 장바구니 아이템을 추가합니다. 쿠키는 한 번만 읽고 씁니다.
+     *
+     * @param request   로그인 상태가 아닌 경우 쿠키에서 가져오기 위해 사용
+     * @param response  로그인 상태가 아닌 경우 쿠키에 추가하기 위해 사용
+     * @param cartLines 추가할 장바구니 항목
+     */
+    private void addAllCartInCookie(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            List<CartLine> cartLines) {
+        Map<Long, CartLine> cartItems = getCartFromCookie(request);
+        if (cartItems == null) {
+            cartItems = new LinkedHashMap<>();
+        }
 
-                cookie = new Cookie(CART_ITEMS, updatedEncrypted);
-                cookie.setMaxAge(CART_EXPIRE_TIME);
-                cookie.setPath("/");
-                response.addCookie(cookie);
-            }
-        } catch (ItemException e) {
-            throw new ItemException(ErrorCode.ALREADY_EXIST_ITEM_TO_CART);
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new CartException(ErrorCode.CAN_NOT_ADD_TO_CART);
+        for (CartLine cartLine : cartLines) {
+            cartItems.put(cartLine.getItemId(), cartLine);
         }
+        writeCartCookie(response, cartItems);
     }
 
     /**
      * Redis에 장바구니 아이템을 추가합니다.
      *
-     * @param request      로그인 상태 이므로 쿠키에 있을경우 레디스로 옮기고 쿠키 삭제함
-     * @param response     로그인 상태 이므로 쿠키에 있을경우 레디스로 옮기고 쿠키 삭제함
      * @param loginId      사용자 로그인 ID
      * @param cartDtoResponse  추가할 장바구니 아이템 정보
      */
-    private void addCartInRedis(HttpServletRequest request, HttpServletResponse response, String loginId, AddToCartDto.Response cartDtoResponse) {
-        String prevCart = getEncodedCartItemsFromCookie(request);
-        Set<AddToCartDto.Response> prevCartItems = null;
-        if (StringUtils.hasText(prevCart)) {
-            try {
-                String prevCartDecode = aesUtil.decrypt(prevCart);
-                prevCartItems = objectMapper.readValue(prevCartDecode, new TypeReference<>() {});
-
-                Cookie cookie = new Cookie(CART_ITEMS, "");
-                cookie.setMaxAge(0);
-                cookie.setPath("/");
-                response.addCookie(cookie);
-            } catch (ItemException e) {
-                throw new ItemException(ErrorCode.ALREADY_EXIST_ITEM_TO_CART);
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw new CartException(ErrorCode.CAN_NOT_ADD_TO_CART);
-            }
-        }
-
-        HashOperations<String, String, Set<AddToCartDto.Response>> hashOperations = redisTemplate.opsForHash();
-        Set<AddToCartDto.Response> cartItems = hashOperations.get(CART_ITEMS, loginId);
-        if (cartItems == null) {
-            cartItems = new HashSet<>();
-        }
-        if (prevCartItems != null) {
-            cartItems.addAll(prevCartItems);
-        }
-
-        boolean itemExist = false;
-        for (AddToCartDto.Response cartItem : cartItems) {
-            if (cartItem.getItemId().equals(cartDtoResponse.getItemId())) {
-                cartItem.setCount(cartDtoResponse.getCount());
-                itemExist = true;
-                break;
-            }
-        }
-        if (!itemExist) {
-            cartItems.add(cartDtoResponse);
-        }
-        hashOperations.put(CART_ITEMS, loginId, cartItems);
-        redisTemplate.expire(CART_ITEMS, 1, TimeUnit.DAYS);
+    private void addCartInRedis(String loginId, AddToCartDto.Response cartDtoResponse) {
+        cartRedisRepository.setCount(loginId, toCartLine(cartDtoResponse));
     }
 
     /**
      * 쿠키에서 장바구니 정보를 가져옵니다.
      *
      * @param request 클라이언트 요청 객체
-     * @return 쿠키에 저장된 장바구니 정보 (없으면 null)
+     * @return 쿠키에 저장된 아이템 ID별 장바구니 항목 (없으면 null)
      */
-    private Set<AddToCartDto.Response> getCartFromCookie(HttpServletRequest request) {
+    private Map<Long, CartLine> getCartFromCookie(HttpServletRequest request) {
         String encodedCartItems = getEncodedCartItemsFromCookie(request);
         if (!StringUtils.hasText(encodedCartItems)) {
             return null;
         }
 
-        try {
-            String prevCartDecode = aesUtil.decrypt(encodedCartItems);
-            return objectMapper.readValue(prevCartDecode, new TypeReference<>(){});
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new CartException(ErrorCode.CANNOT_FOUND_CART_ITEM);
-        }
-    }
-
-    /**
-     * Redis에서 장바구니 정보를 가져옵니다.
-     *
-     * @param loginId 사용자의 로그인 ID
-     * @param request 로그인 상태이므로 쿠키에 장바구니 정보 있을경우 레디스로 가져오고 반환
-     * @param response 로그인 상태이므로 쿠키에 장바구니 정보 있을경우 레디스로 가져오고 반환
-     * @return Redis에 저장된 장바구니 정보
-     */
-    private Set<AddToCartDto.Response> getCartFromRedis(String loginId, HttpServletRequest request, HttpServletResponse response) {
-        Set<AddToCartDto.Response> addToCartDtoFromCookie = getCartFromCookie(request);
-        HashOperations<String, String, Set<AddToCartDto.Response>> hashOperations = redisTemplate.opsForHash();
-
-        if (addToCartDtoFromCookie == null) {
-            return hashOperations.get(CART_ITEMS, loginId);
-        }
-
-        hashOperations.put(CART_ITEMS, loginId, addToCartDtoFromCookie);
-        Cookie cookie = new Cookie(CART_ITEMS, "");
-        cookie.setMaxAge(0);
-        cookie.setPath("/");
-        response.addCookie(cookie);
-        return hashOperations.get(CART_ITEMS, loginId);
+        return cartCookieCodec.decode(encodedCartItems);
     }
 
     /**
@@ -345,35 +345,17 @@ public class CartService {
             HttpServletResponse response,
             EditToCartDto.Response cartDtoResponse) {
 
-        Set<AddToCartDto.Response> cartItems = getCartFromCookie(request);
+        Map<Long, CartLine> cartItems = getCartFromCookie(request);
         if (cartItems == null || cartItems.isEmpty()) {
             throw new CartException(ErrorCode.CANNOT_EDIT_CART_ITEM);
         }
 
-        boolean updateExist = false;
-
-        for (AddToCartDto.Response cartItem : cartItems) {
-            if (cartItem.getItemId().equals(cartDtoResponse.getItemId())) {
-                cartItem.setCount(cartDtoResponse.getCount());
-                updateExist = true;
-                break;
-            }
-        }
-        if (!updateExist) {
+        if (!cartItems.containsKey(cartDtoResponse.getItemId())) {
             return false;
         }
 
-        try {
-            String updatedCart = objectMapper.writeValueAsString(cartItems);
-            String encryptedCart = aesUtil.encrypt(updatedCart);
-            Cookie cartCookie = new Cookie(CART_ITEMS, encryptedCart);
-            cartCookie.setMaxAge(CART_EXPIRE_TIME);
-            cartCookie.setPath("/");
-            response.addCookie(cartCookie);
-        } catch (Exception e) {
-            throw new CartException(ErrorCode.CANNOT_EDIT_CART_ITEM);
-        }
-
+        cartItems.put(cartDtoResponse.getItemId(), toCartLine(cartDtoResponse));
+        writeCartCookie(response, cartItems);
         return true;
     }
 
@@ -387,29 +369,7 @@ public class CartService {
     private boolean updateCartInRedis(
             String loginId,
             EditToCartDto.Response cartDtoResponse) {
-
-        HashOperations<String, String, Set<AddToCartDto.Response>> hashOperations = redisTemplate.opsForHash();
-        Set<AddToCartDto.Response> cartItems = hashOperations.get(CART_ITEMS, loginId);
-        if (cartItems == null || cartItems.isEmpty()) {
-            throw new CartException(ErrorCode.CANNOT_EDIT_CART_ITEM);
-        }
-
-        boolean updateExist = false;
-        for (AddToCartDto.Response cartItem : cartItems) {
-            if (cartItem.getItemId().equals(cartDtoResponse.getItemId())) {
-                cartItem.setCount(cartDtoResponse.getCount());
-                updateExist = true;
-                break;
-            }
-        }
-
-        if (!updateExist) {
-            return false;
-        }
-
-        hashOperations.put(CART_ITEMS, loginId, cartItems);
-        redisTemplate.expire(CART_ITEMS, 1, TimeUnit.DAYS);
-        return true;
+        return cartRedisRepository.updateCount(loginId, toCartLine(cartDtoResponse));
     }
 
     /**
@@ -421,42 +381,20 @@ public class CartService {
      * @return 삭제 성공 여부
      */
     private boolean deleteCartFromCookie(HttpServletRequest request, HttpServletResponse response, Long itemId) {
-        Set<AddToCartDto.Response> cartDtoSetFromCookie = getCartFromCookie(request);
-        if (cartDtoSetFromCookie == null || cartDtoSetFromCookie.isEmpty()) {
+        Map<Long, CartLine> cartItems = getCartFromCookie(request);
+        if (cartItems == null || cartItems.isEmpty()) {
             throw new CartException(ErrorCode.CANNOT_DELETE_CART_ITEM);
         }
-        boolean deleteExist = false;
-        for (AddToCartDto.Response cartResponse : cartDtoSetFromCookie) {
-            if (cartResponse.getItemId().equals(itemId)) {
-                cartDtoSetFromCookie.remove(cartResponse);
-                deleteExist = true;
-                break;
-            }
-        }
 
-        if (!deleteExist) {
+        if (cartItems.remove(itemId) == null) {
             return false;
         }
 
-        if (cartDtoSetFromCookie.isEmpty()) {
-            Cookie cookie = new Cookie(CART_ITEMS, "");
-            cookie.setMaxAge(0);
-            cookie.setPath("/");
-            response.addCookie(cookie);
-            return true;
-        }
-
-        try {
-            String jsonSet = objectMapper.writeValueAsString(cartDtoSetFromCookie);
-            String encryptJsonSet = aesUtil.encrypt(jsonSet);
-            Cookie cookie = new Cookie(CART_ITEMS, encryptJsonSet);
-            cookie.setMaxAge(60 * 60 * 24);
-            cookie.setPath("/");
-            response.addCookie(cookie);
-        } catch (Exception e) {
-            throw new CartException(ErrorCode.CANNOT_DELETE_CART_ITEM);
+        if (cartItems.isEmpty()) {
+            expireCartCookie(response);
+        } else {
+            writeCartCookie(response, cartItems);
         }
-
         return true;
     }
 
@@ -468,25 +406,69 @@ public class CartService {
      * @return 삭제 성공 여부
      */
     private boolean deleteCartFromRedis(String loginId, Long itemId) {
-        HashOperations<String, String, Set<AddToCartDto.Response>> hashOperations = redisTemplate.opsForHash();
-        Set<AddToCartDto.Response> cartItems = hashOperations.get(CART_ITEMS, loginId);
-        if (cartItems == null || cartItems.isEmpty()) {
-            throw new CartException(ErrorCode.CANNOT_DELETE_CART_ITEM);
-        }
-        boolean deleteExist = false;
-        for (AddToCartDto.Response cartResponse : cartItems) {
-            if (cartResponse.getItemId().equals(itemId)) {
-                cartItems.remove(cartResponse);
-                deleteExist = true;
-                break;
-            }
+        return cartRedisRepository.remove(loginId, itemId);
+    }
+
+    /**
+     * 장바구니 아이템들의 현재 가격과 재고를 한 번에 조회합니다.
+     * 캐시에서 먼저 찾고, 캐시에 없는 아이템만 한 번의 findAllById로 조회한 뒤 캐시에 채워 넣습니다.
+     * 삭제된 아이템은 결과에 포함되지 않습니다.
+     *
+     * @param itemIds 조회할 아이템 ID 목록
+     * @return 아이템 ID별 스냅샷
+     */
+    private Map<Long, ItemSnapshot> getItemSnapshots(Set<Long> itemIds) {
+        Map<Long, ItemSnapshot> snapshots = itemSnapshotRedisRepository.findAll(itemIds);
+        if (snapshots.size() == itemIds.size()) {
+            return snapshots;
         }
-        if (!deleteExist) {
-            return false;
+
+        List<Long> missingIds = itemIds.stream()
+                .filter(itemId -> !snapshots.containsKey(itemId))
+                .toList();
+
+        List<ItemSnapshot> loaded = new ArrayList<>(missingIds.size());
+        for (Item item : itemRepository.findAllById(missingIds)) {
+            ItemSnapshot snapshot = ItemSnapshot.fromItemEntity(item);
+            loaded.add(snapshot);
+            snapshots.put(snapshot.getItemId(), snapshot);
         }
-        hashOperations.put(CART_ITEMS, loginId, cartItems);
-        redisTemplate.expire(CART_ITEMS, 1, TimeUnit.DAYS);
-        return true;
+
+        itemSnapshotRedisRepository.saveAll(loaded);
+        return snapshots;
+    }
+
+    private CartLine toCartLine(AddToCartDto.Response cartDtoResponse) {
+        return new CartLine(cartDtoResponse.getItemId(), cartDtoResponse.getCount(), cartDtoResponse.getPrice());
+    }
+
+    private CartLine toCartLine(EditToCartDto.Response cartDtoResponse) {
+        return new CartLine(cartDtoResponse.getItemId(), cartDtoResponse.getCount(), cartDtoResponse.getPrice());
+    }
+
+    /**
+     * 장바구니를 인코딩하여 쿠키에 저장합니다.
+     *
+     * @param response 쿠키를 추가할 응답 객체
+     * @param cartItems 저장할 아이템 ID별 장바구니 항목
+     */
+    private void writeCartCookie(HttpServletResponse response, Map<Long, CartLine> cartItems) {
+        Cookie cookie = new Cookie(CART_ITEMS, cartCookieCodec.encode(cartItems));
+        cookie.setMaxAge(CART_EXPIRE_TIME);
+        cookie.setPath("/");
+        response.addCookie(cookie);
+    }
+
+    /**
+     * 장바구니 쿠키를 만료시킵니다.
+     *
+     * @param response 쿠키를 추가할 응답 객체
+     */
+    private void expireCartCookie(HttpServletResponse response) {
+        Cookie cookie = new Cookie(CART_ITEMS, "");
+        cookie.setMaxAge(0);
+        cookie.setPath("/");
+        response.addCookie(cookie);
     }
 
     /**
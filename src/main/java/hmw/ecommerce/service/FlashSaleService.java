@@ -0,0 +1,278 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.FlashStockFlush;
+import hmw.ecommerce.entity.Item;
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.ItemException;
+import hmw.ecommerce.jwt.JWTUtil;
+import hmw.ecommerce.repository.entity.FlashStockFlushRepository;
+import hmw.ecommerce.repository.entity.ItemRepository;
+import hmw.ecommerce.repository.redis.FlashSaleRedisRepository;
+import hmw.ecommerce.repository.redis.FlashSaleRedisRepository.FlushBatch;
+import hmw.ecommerce.repository.redis.ItemSnapshotRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 플래시 세일 재고 서비스.
+ * 플래시 세일 모드인 아이템은 주문 시 DB 행 대신 Redis 재고 카운터를 차감하여 행 락 경합 없이 주문을 받고,
+ * 차감된 수량은 스케줄러가 묶음 단위로 Item.stockQuantity에 반영(write-behind)함.
+ * 묶음마다 반영 기록(FlashStockFlush)을 같은 트랜잭션에 남겨 같은 묶음이 두 번 반영되지 않음.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlashSaleService {
+
+    private final FlashSaleRedisRepository flashSaleRedisRepository;
+    private final ItemRepository itemRepository;
+    private final FlashStockFlushRepository flashStockFlushRepository;
+    private final ItemSnapshotRedisRepository itemSnapshotRedisRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JWTUtil jwtUtil;
+
+    /**
+     * 아이템을 플래시 세일 모드로 전환합니다.
+     * 아이템 행을 잠근 상태에서 (DB 재고 - 아직 반영되지 않은 차감 수량)으로 재고 카운터를 초기화합니다.
+     * 진행 중인 일반 주문과 겹치지 않도록 판매 시작 전에 전환해야 합니다.
+     *
+     * @param token 판매자 JWT 토큰
+     * @param itemId 아이템 ID
+     * @return 아이템 ID
+     */
+    @Transactional
+    public Long enable(String token, Long itemId) {
+        Item findItem = getOwnedItemForUpdate(token, itemId);
+        long stock = findItem.getStockQuantity() - flashSaleRedisRepository.findUnappliedDecrease(itemId);
+        flashSaleRedisRepository.enable(itemId, (int) stock);
+        return itemId;
+    }
+
+    /**
+     * 아이템의 플래시 세일 모드를 끄고, 아직 반영하지 않은 차감 수량을 바로 DB에 반영합니다.
+     * 트랜잭션이 롤백되면 꺼낸 차감 수량을 대기 중인 차감 수량에 되돌려, 다음 묶음 반영에서 DB에 반영되게 합니다.
+     *
+     * @param token 판매자 JWT 토큰
+     * @param itemId 아이템 ID
+     * @return 아이템 ID
+     */
+    @Transactional
+    public Long disable(String token, Long itemId) {
+        getOwnedItemForUpdate(token, itemId);
+        long pending = flashSaleRedisRepository.disable(itemId);
+        if (pending != 0) {
+            restorePendingOnRollback(itemId, pending);
+            itemRepository.applyStockDeltas(Map.of(itemId, pending));
+        }
+        itemSnapshotRedisRepository.evictAfterCommit(List.of(itemId));
+        return itemId;
+    }
+
+    /**
+     * 주어진 아이템 중 플래시 세일 모드인 아이템을 조회합니다.
+     *
+     * @param itemIds 확인할 아이템 ID 목록
+     * @return 플래시 세일 모드인 아이템 ID 집합
+     */
+    public Set<Long> getFlashSaleItemIds(Collection<Long> itemIds) {
+        return flashSaleRedisRepository.findFlashSaleItemIds(itemIds);
+    }
+
+    /**
+     * 플래시 세일 아이템들의 재고 카운터를 한꺼번에 차감합니다.
+     * 현재 트랜잭션이 롤백되면 차감한 수량을 되돌립니다.
+     *
+     * @param counts 아이템 ID별 차감 수량
+     * @return 모두 차감되었으면 null, 아니면 재고가 부족한 아이템 ID
+     */
+    public Long decrease(Map<Long, Integer> counts) {
+        if (counts.isEmpty()) {
+            return null;
+        }
+
+        Long failedItemId = flashSaleRedisRepository.decrease(counts);
+        if (failedItemId == null) {
+            onRollback(new HashMap<>(counts));
+        }
+        return failedItemId;
+    }
+
+    /**
+     * 플래시 세일 아이템의 재고 카운터를 되돌립니다. 현재 트랜잭션이 롤백되면 다시 차감합니다.
+     *
+     * @param itemId 아이템 ID
+     * @param count 되돌릴 수량
+     * @return 되돌렸으면 true, 플래시 세일 모드가 아니면 false
+     */
+    public boolean increase(Long itemId, int count) {
+        boolean increased = flashSaleRedisRepository.increase(itemId, count);
+        if (increased) {
+            onRollback(Map.of(itemId, -count));
+        }
+        return increased;
+    }
+
+    /**
+     * 대기 중인 차감 수량 묶음을 DB에 반영합니다.
+     * 반영에 실패하면 묶음이 Redis에 남아 다음 실행에서 같은 묶음 번호로 다시 반영됩니다.
+     *
+     * @return 반영한 아이템 수
+     */
+    public int flush() {
+        FlushBatch batch = flashSaleRedisRepository.drain();
+        if (batch == null) {
+            return 0;
+        }
+
+        Boolean applied = transactionTemplate.execute(status -> {
+            if (flashStockFlushRepository.existsById(batch.getBatchId())) {
+                return false;
+            }
+            if (!batch.getDecreases().isEmpty()) {
+                itemRepository.applyStockDeltas(batch.getDecreases());
+            }
+            flashStockFlushRepository.save(new FlashStockFlush(batch.getBatchId(), LocalDateTime.now()));
+            return true;
+        });
+
+        flashSaleRedisRepository.completeDrain(batch.getBatchId());
+        itemSnapshotRedisRepository.evictAfterCommit(batch.getDecreases().keySet());
+        return Boolean.TRUE.equals(applied) ? batch.getDecreases().size() : 0;
+    }
+
+    /**
+     * 애플리케이션 시작 시 남아 있는 차감 수량을 DB에 반영하고, 재고 카운터를 DB와 대조합니다.
+     * Redis가 재시작되어 카운터가 사라진 아이템은 (DB 재고 - 반영되지 않은 차감 수량)으로 다시 만들고,
+     * 값이 다른 아이템은 다른 인스턴스가 주문을 받는 중일 수 있으므로 경고만 남깁니다.
+     */
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        try {
+            flush();
+
+            Set<String> itemIds = flashSaleRedisRepository.findAllFlashSaleItemIds();
+            if (itemIds == null) {
+                return;
+            }
+
+            for (String id : itemIds) {
+                Long itemId = Long.valueOf(id);
+                Item item = itemRepository.findById(itemId).orElse(null);
+                if (item == null) {
+                    continue;
+                }
+
+                long expected = item.getStockQuantity() - flashSaleRedisRepository.findUnappliedDecrease(itemId);
+                if (flashSaleRedisRepository.initStockIfAbsent(itemId, expected)) {
+                    log.warn("플래시 세일 재고 카운터가 없어 다시 만들었습니다. itemId={}, stock={}", itemId, expected);
+                    continue;
+                }
+
+                Long stock = flashSaleRedisRepository.findStock(itemId);
+                if (stock != null && stock != expected) {
+                    log.warn("플래시 세일 재고가 DB와 다릅니다. itemId={}, redis={}, db={}", itemId, stock, expected);
+                }
+            }
+        } catch (Exception e) {
+            log.error("플래시 세일 재고를 대조하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 재고 카운터를 되돌립니다.
+     * 그 사이 플래시 세일 모드가 꺼져 카운터가 없으면, 꺼질 때 대기 중인 차감 수량이 이미 DB에 반영되었으므로
+     * 주문 취소와 같이 DB 재고를 직접 되돌립니다.
+     *
+     * @param restore 아이템 ID별 되돌릴 수량 (음수면 다시 차감)
+     */
+    private void onRollback(Map<Long, Integer> restore) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    restore.forEach(FlashSaleService.this::restore);
+                }
+            }
+        });
+    }
+
+    private void restore(Long itemId, int count) {
+        try {
+            if (flashSaleRedisRepository.increase(itemId, count)) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    itemRepository.applyStockDeltas(Map.of(itemId, (long) -count)));
+            itemSnapshotRedisRepository.evictAfterCommit(List.of(itemId));
+            log.info("플래시 세일 모드가 꺼져 롤백된 재고를 DB에 되돌렸습니다. itemId={}, count={}", itemId, count);
+        } catch (Exception e) {
+            log.error("롤백된 플래시 세일 재고를 되돌리지 못했습니다. 확인이 필요합니다. itemId={}, count={}", itemId, count, e);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 DB에 반영하지 못한 차감 수량을 대기 중인 차감 수량으로 되돌립니다.
+     * 커밋 여부를 알 수 없는 경우에는 두 번 반영되지 않도록 되돌리지 않고 기록만 남깁니다.
+     *
+     * @param itemId 아이템 ID
+     * @param pending 되돌릴 차감 수량
+     */
+    private void restorePendingOnRollback(Long itemId, long pending) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                if (status == STATUS_UNKNOWN) {
+                    log.error("플래시 세일 차감 수량의 반영 여부를 알 수 없습니다. 확인이 필요합니다. itemId={}, decrease={}", itemId, pending);
+                    return;
+                }
+                try {
+                    flashSaleRedisRepository.restorePending(itemId, pending);
+                } catch (Exception e) {
+                    log.error("플래시 세일 차감 수량을 되돌리지 못했습니다. itemId={}, decrease={}", itemId, pending, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 판매자 본인의 아이템을 행 잠금과 함께 조회합니다.
+     *
+     * @param token 판매자 JWT 토큰
+     * @param itemId 아이템 ID
+     * @return 아이템
+     */
+    private Item getOwnedItemForUpdate(String token, Long itemId) {
+        Item findItem = itemRepository.findItemFetchMemberByItemIdForUpdate(itemId)
+                .orElseThrow(() -> new ItemException(ErrorCode.NOT_EXISTS_ITEM));
+
+        String loginId = jwtUtil.extractLoginIdFromToken(token);
+        if (!findItem.getMember().getLoginId().equals(loginId)) {
+            throw new ItemException(ErrorCode.INVALID_ACCESS);
+        }
+        return findItem;
+    }
+
+}
@@ -0,0 +1,161 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.dto.order.CreateOrderDto;
+import hmw.ecommerce.entity.vo.IdempotencyClaim;
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.OrderException;
+import hmw.ecommerce.jwt.JWTUtil;
+import hmw.ecommerce.repository.entity.OrderRepository;
+import hmw.ecommerce.repository.entity.OrderRepository.IdempotentOrder;
+import hmw.ecommerce.repository.redis.IdempotencyRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 헤더로 같은 주문 요청의 재시도를 한 번만 처리하는 서비스.
+ * 키는 사용자별로 구분되며, 처리 중에는 짧은 잠금(spring.order.idempotency-lock-ttl)을,
+ * 주문이 커밋되면 주문 ID를 일정 시간(spring.order.idempotency-ttl) 동안 보관하여 재요청에 같은 결과를 돌려줌.
+ * 주문 결과는 주문 트랜잭션이 커밋된 직후 저장되며, 이 서비스 자체는 트랜잭션을 열지 않음.
+ *
+ * <p>요청 키는 주문 행에도 (회원, 요청 키) 유일 제약과 함께 저장됨. 결과 저장이 실패했거나 주문 처리 중 응답이 끊긴 경우에도
+ * 재요청은 DB에서 처음 생성된 주문을 찾아 돌려주며, 같은 키로 주문이 두 번 생성되지 않음.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotentOrderService {
+
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final String PENDING = "PENDING";
+    private static final String DONE = "DONE";
+    private static final String DELIMITER = "|";
+
+    private final OrderIngestionPipeline orderIngestionPipeline;
+    private final IdempotencyRedisRepository idempotencyRedisRepository;
+    private final OrderRepository orderRepository;
+    private final JWTUtil jwtUtil;
+
+    @Value("${spring.order.idempotency-lock-ttl:30s}")
+    private Duration lockTtl;
+
+    /**
+     * 주문을 생성합니다. 요청 키가 없으면 매번 새 주문을 생성합니다.
+     *
+     * @param token 로그인 토큰.
+     * @param orderDto 주문 생성 DTO.
+     * @param idempotencyKey 클라이언트가 보낸 요청 키 (없으면 null).
+     * @return 생성된 주문의 ID. 이미 처리된 요청 키면 처음 생성된 주문의 ID.
+     * @throws OrderException 같은 키의 요청이 처리 중이거나, 다른 주문 요청에 사용된 키인 경우
+     */
+    public Long createOrder(String token, CreateOrderDto orderDto, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return orderIngestionPipeline.createOrder(token, orderDto, null);
+        }
+        if (!StringUtils.hasText(idempotencyKey) || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new OrderException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String loginId = jwtUtil.extractLoginIdFromToken(token);
+        String fingerprint = fingerprint(orderDto);
+        IdempotencyClaim claim = new IdempotencyClaim(
+                "ORDER:" + loginId,
+                idempotencyKey,
+                fingerprint,
+                String.join(DELIMITER, PENDING, fingerprint, UUID.randomUUID().toString()),
+                String.join(DELIMITER, DONE, fingerprint, ""));
+
+        String existing = idempotencyRedisRepository.begin(claim.getScope(), idempotencyKey, claim.getPendingValue(), lockTtl);
+        if (existing != null) {
+            return replay(existing, fingerprint, claim, loginId);
+        }
+
+        try {
+            return orderIngestionPipeline.createOrder(token, orderDto, claim);
+        } catch (RuntimeException e) {
+            // 커밋된 뒤 응답만 실패했거나, 결과 값이 사라진 키로 다시 주문하여 유일 제약에 걸린 경우
+            IdempotentOrder committedOrder = findCommittedOrder(loginId, idempotencyKey);
+            if (committedOrder == null) {
+                idempotencyRedisRepository.release(claim.getScope(), idempotencyKey, claim.getPendingValue());
+                throw e;
+            }
+            if (!sameRequest(committedOrder, fingerprint)) {
+                // 결과 값이 만료된 키를 다른 주문 요청에 다시 사용함
+                idempotencyRedisRepository.release(claim.getScope(), idempotencyKey, claim.getPendingValue());
+                throw new OrderException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            idempotencyRedisRepository.completeAfterCommit(claim, committedOrder.getId());
+            return committedOrder.getId();
+        }
+    }
+
+    /**
+     * 이미 저장된 요청 키의 값으로 응답합니다.
+     * 처리 중 표시가 남아 있더라도 주문이 이미 커밋되었으면, 결과를 저장하고 그 주문의 ID를 돌려줍니다.
+     *
+     * @param existing 저장된 값 ("PENDING|요청 요약|토큰" 또는 "DONE|요청 요약|주문 ID")
+     * @param fingerprint 현재 요청의 요약
+     * @param claim 현재 요청이 만든 선점 값 (결과 값 형식을 얻는 데 사용)
+     * @param loginId 회원의 로그인 ID
+     * @return 처음 생성된 주문의 ID
+     */
+    private Long replay(String existing, String fingerprint, IdempotencyClaim claim, String loginId) {
+        String[] parts = existing.split("\\" + DELIMITER, 3);
+        if (parts.length != 3 || !parts[1].equals(fingerprint)) {
+            throw new OrderException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (DONE.equals(parts[0])) {
+            return Long.valueOf(parts[2]);
+        }
+
+        IdempotentOrder committedOrder = findCommittedOrder(loginId, claim.getKey());
+        if (committedOrder == null) {
+            throw new OrderException(ErrorCode.ORDER_IN_PROGRESS);
+        }
+        if (!sameRequest(committedOrder, fingerprint)) {
+            throw new OrderException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        IdempotencyClaim holder = new IdempotencyClaim(
+                claim.getScope(), claim.getKey(), fingerprint, existing, claim.getResultPrefix());
+        idempotencyRedisRepository.completeAfterCommit(holder, committedOrder.getId());
+        return committedOrder.getId();
+    }
+
+    /**
+     * 요청 키로 이미 커밋된 주문을 찾습니다. DB를 사용할 수 없으면 찾지 못한 것으로 봅니다.
+     *
+     * @return 주문 ID와 요청 요약 (없으면 null)
+     */
+    private IdempotentOrder findCommittedOrder(String loginId, String idempotencyKey) {
+        try {
+            return orderRepository.findIdempotentOrder(loginId, idempotencyKey).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("요청 키로 주문을 조회하지 못했습니다. key={}", idempotencyKey, e);
+            return null;
+        }
+    }
+
+    /**
+     * 커밋된 주문이 같은 요청으로 만들어졌는지 확인합니다. 요청 요약을 저장하기 전에 만든 주문은 비교하지 않습니다.
+     */
+    private static boolean sameRequest(IdempotentOrder committedOrder, String fingerprint) {
+        return committedOrder.getIdempotencyFingerprint() == null
+                || committedOrder.getIdempotencyFingerprint().equals(fingerprint);
+    }
+
+    /**
+     * 같은 키로 다른 주문을 요청했는지 구분하기 위한 요청 요약을 만듭니다.
+     */
+    private String fingerprint(CreateOrderDto orderDto) {
+        if (OrderService.orderFromCart(orderDto)) {
+            return "cart";
+        }
+        return "item:" + orderDto.getItemId() + ":" + orderDto.getCount();
+    }
+
+}
@@ -0,0 +1,170 @@
+package hmw.ecommerce.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hmw.ecommerce.entity.Item;
+import hmw.ecommerce.entity.dto.Item.ItemDetailResponseDto;
+import hmw.ecommerce.repository.redis.ItemDetailRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static hmw.ecommerce.entity.vo.Const.ITEM_DETAIL_INVALIDATION_CHANNEL;
+
+/**
+ * 아이템 상세 정보의 2단계 읽기 캐시.
+ * 서버 메모리의 L1(크기 spring.item.detail-cache.l1-max-size, 만료 spring.item.detail-cache.l1-ttl)을 먼저 보고,
+ * 없으면 Redis의 L2(만료 spring.item.detail-cache.l2-ttl), 그래도 없으면 DB에서 읽어 두 단계에 채움.
+ * 같은 서버에서 같은 아이템을 동시에 찾으면 한 요청만 L2/DB를 읽고 나머지는 그 결과를 기다림.
+ *
+ * <p>아이템이 수정/삭제되면 커밋 후 L2를 커밋된 버전의 무효화 표시로 바꾸고 Redis pub/sub으로 알려 모든 서버의 L1을 지움.
+ * L2에는 읽은 행의 버전(Item.version)과 함께 저장하고 더 새 버전이 있으면 덮어쓰지 않으므로,
+ * 무효화 전에 옛 행을 읽은 요청이 뒤늦게 옛 값을 L2에 채우지 못함. 이때 읽은 옛 값은 L1에도 넣지 않고 DB에서 다시 읽음.
+ * <br>재고 수량은 주문마다 바뀌므로 무효화하지 않으며, 상세 화면의 재고는 최대 만료 시간만큼 늦게 반영될 수 있음.
+ * (주문 시 재고는 항상 DB에서 검사함)
+ * <br>L1 적중률은 cache.* 지표(cache=item.detail), L2 적중/실패는 item.detail_cache.l2 지표(result 태그)로 기록됨.
+ */
+@Slf4j
+@Component
+public class ItemDetailCache {
+
+    private final ItemDetailRedisRepository itemDetailRedisRepository;
+    private final boolean enabled;
+    private final Duration l2Ttl;
+    private final Cache<Long, ItemDetailResponseDto> localCache;
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+
+    public ItemDetailCache(
+            ItemDetailRedisRepository itemDetailRedisRepository,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${spring.item.detail-cache.enabled:true}") boolean enabled,
+            @Value("${spring.item.detail-cache.l1-max-size:10000}") long l1MaxSize,
+            @Value("${spring.item.detail-cache.l1-ttl:10s}") Duration l1Ttl,
+            @Value("${spring.item.detail-cache.l2-ttl:60s}") Duration l2Ttl) {
+        this.itemDetailRedisRepository = itemDetailRedisRepository;
+        this.enabled = enabled;
+        this.l2Ttl = l2Ttl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "item.detail");
+        this.l2HitCounter = Counter.builder("item.detail_cache.l2").tag("result", "hit").register(meterRegistry);
+        this.l2MissCounter = Counter.builder("item.detail_cache.l2").tag("result", "miss").register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(ITEM_DETAIL_INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시에서 아이템 상세 정보를 찾고, 없으면 loader로 읽어 캐시에 채웁니다.
+     * Redis를 사용할 수 없으면 L2를 건너뛰고 loader로 읽습니다.
+     *
+     * @param itemId 아이템 ID
+     * @param loader DB에서 아이템 상세 정보를 읽는 함수 (아이템이 없으면 예외를 던짐)
+     * @return 아이템 상세 정보
+     */
+    public ItemDetailResponseDto get(Long itemId, Supplier<ItemDetailResponseDto> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        ItemDetailResponseDto detail = localCache.get(itemId, id -> loadThroughRedis(id, loader));
+        return detail != null ? detail : loader.get();
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 모든 서버에서 수정된 아이템의 상세 캐시를 지웁니다.
+     * 트랜잭션 밖에서 호출되면 바로 지웁니다.
+     *
+     * @param item 수정된 아이템 (커밋된 후의 버전을 읽음)
+     */
+    public void evictAfterCommit(Item item) {
+        Long itemId = item.getId();
+        runAfterCommit(() -> evict(itemId, item.getVersion()));
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 모든 서버에서 삭제된 아이템의 상세 캐시를 지웁니다.
+     * 트랜잭션 밖에서 호출되면 바로 지웁니다.
+     *
+     * @param itemId 삭제된 아이템 ID
+     */
+    public void evictRemovedAfterCommit(Long itemId) {
+        runAfterCommit(() -> evict(itemId, Long.MAX_VALUE));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private ItemDetailResponseDto loadThroughRedis(Long itemId, Supplier<ItemDetailResponseDto> loader) {
+        try {
+            ItemDetailResponseDto cached = itemDetailRedisRepository.find(itemId);
+            if (cached != null) {
+                l2HitCounter.increment();
+                return cached;
+            }
+        } catch (RuntimeException e) {
+            log.warn("아이템 상세 캐시를 조회하지 못했습니다. DB에서 읽습니다. itemId={}", itemId, e);
+            return loader.get();
+        }
+
+        l2MissCounter.increment();
+        ItemDetailResponseDto detail = loader.get();
+        try {
+            if (!itemDetailRedisRepository.save(itemId, detail, l2Ttl)) {
+                // 읽는 사이 아이템이 수정되어 더 새 버전이 있음
+                return null;
+            }
+        } catch (RuntimeException e) {
+            log.warn("아이템 상세 정보를 캐시하지 못했습니다. itemId={}", itemId, e);
+        }
+        return detail;
+    }
+
+    private void evict(Long itemId, long version) {
+        localCache.invalidate(itemId);
+        try {
+            itemDetailRedisRepository.invalidateAndPublish(itemId, version, l2Ttl);
+        } catch (RuntimeException e) {
+            log.warn("아이템 상세 캐시를 지우지 못했습니다. 만료 시간이 지나면 반영됩니다. itemId={}", itemId, e);
+        }
+    }
+
+    private void invalidateLocal(String itemId) {
+        try {
+            localCache.invalidate(Long.valueOf(itemId));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 아이템 상세 캐시 무효화 메시지입니다. message={}", itemId);
+        }
+    }
+
+}
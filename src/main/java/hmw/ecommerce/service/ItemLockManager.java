@@ -0,0 +1,233 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.OrderException;
+import hmw.ecommerce.repository.redis.ItemLeaseRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 아이템의 주문을 DB에 도달하기 전에 서버 안에서 줄 세우는 아이템별 분할(striped) 락.
+ * 아이템 ID를 고정된 수(spring.order.item-lock.stripes)의 락 중 하나에 대응시키고,
+ * 여러 아이템을 주문할 때는 락 번호 순서대로 잡아 교착 상태를 막음.
+ * 락을 기다리는 동안 DB 행 락을 잡지 않으므로 인기 아이템 주문이 몰려도 DB의 락 대기가 늘어나지 않음.
+ *
+ * <p>한 트랜잭션이 잡은 락과 임대는 트랜잭션에 묶여, 같은 트랜잭션에서 다시 호출하면 이미 잡은 것은 건너뜀(재진입).
+ * 이미 잡은 락보다 앞 번호의 락이 새로 필요하면 순서가 어긋나므로 기다리지 않고 바로 시도만 하여 교착 상태를 막음.
+ * 여러 주문을 한 트랜잭션으로 처리할 때(group commit)는 묶음 전체의 아이템을 먼저 한 번에 잡아야 함.
+ *
+ * <p>서버가 여러 대이면 spring.order.item-lock.redis-lease.enabled로 Redis 임대(lease)를 함께 잡아 서버 간에도 줄 세움.
+ * <br>락 대기 시간은 order.item_lock.wait(stripe 태그), 대기 시간 초과는 order.item_lock.timeout 지표로 기록됨.
+ */
+@Slf4j
+@Component
+public class ItemLockManager {
+
+    private static final long LEASE_RETRY_MIN_MILLIS = 2;
+    private static final long LEASE_RETRY_MAX_MILLIS = 20;
+
+    private final ItemLeaseRedisRepository itemLeaseRedisRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final boolean leaseEnabled;
+    private final Duration waitTimeout;
+    private final Duration leaseTime;
+    private final ReentrantLock[] stripes;
+    private final Timer[] waitTimers;
+    private final Timer leaseWaitTimer;
+    private final Counter timeoutCounter;
+
+    public ItemLockManager(
+            ItemLeaseRedisRepository itemLeaseRedisRepository,
+            MeterRegistry meterRegistry,
+            @Value("${spring.order.item-lock.enabled:true}") boolean enabled,
+            @Value("${spring.order.item-lock.stripes:256}") int stripeCount,
+            @Value("${spring.order.item-lock.wait-timeout:3s}") Duration waitTimeout,
+            @Value("${spring.order.item-lock.redis-lease.enabled:false}") boolean leaseEnabled,
+            @Value("${spring.order.item-lock.redis-lease.lease-time:5s}") Duration leaseTime) {
+        this.itemLeaseRedisRepository = itemLeaseRedisRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.leaseEnabled = leaseEnabled;
+        this.waitTimeout = waitTimeout;
+        this.leaseTime = leaseTime;
+
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+        this.waitTimers = new Timer[size];
+        this.leaseWaitTimer = Timer.builder("order.item_lock.lease.wait").register(meterRegistry);
+        this.timeoutCounter = Counter.builder("order.item_lock.timeout").register(meterRegistry);
+    }
+
+    /**
+     * 아이템 락을 잡고, 현재 트랜잭션이 끝나면(커밋/롤백) 해제합니다.
+     * 재고 차감이 커밋될 때까지 다음 주문이 DB에 도달하지 않도록 트랜잭션 안에서 호출해야 합니다.
+     * 같은 트랜잭션에서 이미 잡은 아이템은 다시 잡지 않으며, 실패하더라도 이미 잡은 락은 트랜잭션이 끝날 때 해제됩니다.
+     *
+     * @param itemIds 락을 잡을 아이템 ID 목록
+     * @throws OrderException 대기 시간 안에 락을 잡지 못한 경우
+     */
+    public void lockUntilCompletion(Collection<Long> itemIds) {
+        if (!enabled || itemIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("아이템 락은 트랜잭션 안에서만 잡을 수 있습니다.");
+        }
+
+        ItemLocks itemLocks = (ItemLocks) TransactionSynchronizationManager.getResource(this);
+        if (itemLocks == null) {
+            ItemLocks transactionLocks = new ItemLocks();
+            TransactionSynchronizationManager.bindResource(this, transactionLocks);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ItemLockManager.this);
+                    transactionLocks.unlock();
+                }
+            });
+            itemLocks = transactionLocks;
+        }
+        acquire(itemLocks, itemIds);
+    }
+
+    /**
+     * 아이템 락을 잡습니다. 반환된 락은 같은 스레드에서 직접 해제해야 합니다.
+     *
+     * @param itemIds 락을 잡을 아이템 ID 목록
+     * @return 잡은 락
+     * @throws OrderException 대기 시간 안에 락을 잡지 못한 경우
+     */
+    public ItemLocks lock(Collection<Long> itemIds) {
+        ItemLocks itemLocks = new ItemLocks();
+        try {
+            acquire(itemLocks, itemIds);
+            return itemLocks;
+        } catch (RuntimeException e) {
+            itemLocks.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * 아직 잡지 않은 락과 임대를 번호 순서대로 잡습니다.
+     * 이미 잡은 것보다 앞 번호가 필요하면 순서가 어긋나므로 기다리지 않고 한 번만 시도합니다.
+     */
+    private void acquire(ItemLocks itemLocks, Collection<Long> itemIds) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        try {
+            for (int stripe : new TreeSet<>(itemIds.stream().map(this::stripeOf).toList())) {
+                if (itemLocks.stripes.contains(stripe)) {
+                    continue;
+                }
+                boolean inOrder = itemLocks.stripes.isEmpty() || stripe > itemLocks.stripes.last();
+                lockStripe(stripe, inOrder ? deadline : System.nanoTime());
+                itemLocks.stripes.add(stripe);
+            }
+            if (leaseEnabled) {
+                for (Long itemId : new TreeSet<>(itemIds)) {
+                    if (itemLocks.leasedItemIds.contains(itemId)) {
+                        continue;
+                    }
+                    boolean inOrder = itemLocks.leasedItemIds.isEmpty() || itemId > itemLocks.leasedItemIds.last();
+                    acquireLease(itemId, itemLocks.token, inOrder ? deadline : System.nanoTime());
+                    itemLocks.leasedItemIds.add(itemId);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderException(ErrorCode.ORDER_LOCK_TIMEOUT);
+        }
+    }
+
+    private void lockStripe(int stripe, long deadline) throws InterruptedException {
+        long start = System.nanoTime();
+        boolean locked = stripes[stripe].tryLock(deadline - start, TimeUnit.NANOSECONDS);
+        waitTimer(stripe).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!locked) {
+            timeoutCounter.increment();
+            throw new OrderException(ErrorCode.ORDER_LOCK_TIMEOUT);
+        }
+    }
+
+    private void acquireLease(Long itemId, String token, long deadline) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            while (!itemLeaseRedisRepository.acquire(itemId, token, leaseTime)) {
+                if (System.nanoTime() >= deadline) {
+                    timeoutCounter.increment();
+                    throw new OrderException(ErrorCode.ORDER_LOCK_TIMEOUT);
+                }
+                Thread.sleep(ThreadLocalRandom.current().nextLong(LEASE_RETRY_MIN_MILLIS, LEASE_RETRY_MAX_MILLIS + 1));
+            }
+        } finally {
+            leaseWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int stripeOf(Long itemId) {
+        int hash = Long.hashCode(itemId);
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    private Timer waitTimer(int stripe) {
+        Timer timer = waitTimers[stripe];
+        if (timer == null) {
+            timer = Timer.builder("order.item_lock.wait")
+                    .tag("stripe", String.valueOf(stripe))
+                    .register(meterRegistry);
+            waitTimers[stripe] = timer;
+        }
+        return timer;
+    }
+
+    /**
+     * 한 요청(또는 한 트랜잭션)이 잡은 분할 락 번호와 Redis 임대. 임대는 하나의 토큰으로 잡음.
+     */
+    public final class ItemLocks {
+
+        private final String token = UUID.randomUUID().toString();
+        private final TreeSet<Integer> stripes = new TreeSet<>();
+        private final TreeSet<Long> leasedItemIds = new TreeSet<>();
+
+        private ItemLocks() {
+        }
+
+        /**
+         * 번호의 역순으로 모든 락을 해제합니다.
+         */
+        public void unlock() {
+            if (!leasedItemIds.isEmpty()) {
+                try {
+                    itemLeaseRedisRepository.release(leasedItemIds, token);
+                } catch (Exception e) {
+                    log.warn("아이템 임대를 해제하지 못했습니다. 임대 시간이 지나면 자동으로 풀립니다. itemIds={}", leasedItemIds, e);
+                }
+                leasedItemIds.clear();
+            }
+            for (int stripe : stripes.descendingSet()) {
+                ItemLockManager.this.stripes[stripe].unlock();
+            }
+            stripes.clear();
+        }
+    }
+
+}
@@ -12,6 +12,7 @@ import hmw.ecommerce.jwt.JWTUtil;
 import hmw.ecommerce.repository.entity.CategoryRepository;
 import hmw.ecommerce.repository.entity.CategoryTypeRepository;
 import hmw.ecommerce.repository.entity.ItemRepository;
+import hmw.ecommerce.repository.redis.ItemSnapshotRedisRepository;
 import hmw.ecommerce.repository.entity.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,12 +23,18 @@ import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import static hmw.ecommerce.entity.vo.Const.ITEM_VIEW_COUNT_KEY;
 import static hmw.ecommerce.entity.vo.Const.RANKING_KEY;
 import static hmw.ecommerce.entity.vo.Const.TOP_RANKING_ITEM_KEY;
 
@@ -46,6 +53,9 @@ public class ItemService {
     private final CategoryTypeRepository categoryTypeRepository;
     private final JWTUtil jwtUtil;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ItemSnapshotRedisRepository itemSnapshotRedisRepository;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final ItemDetailCache itemDetailCache;
 
     /**
      * 아이템을 등록하는 메서드
@@ -102,14 +112,18 @@ public class ItemService {
 
     /**
      * 아이템의 상세 정보를 조회하는 메서드
+     * 캐시(ItemDetailCache)에 있으면 DB를 읽지 않으며, 캐시에서 찾을 때는 트랜잭션을 시작하지 않습니다.
      *
      * @param itemId 조회할 아이템의 ID
      * @return 아이템 상세 정보
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ItemDetailResponseDto getItemDetail(Long itemId) {
-        Item item = itemRepository.findItemFetchMemberAndCategoryByItemId(itemId)
-                .orElseThrow(() -> new ItemException(ErrorCode.NOT_EXISTS_ITEM));
-        return ItemDetailResponseDto.fromEntity(item, item.getCategory(), item.getCategoryType());
+        return itemDetailCache.get(itemId, () -> {
+            Item item = itemRepository.findItemFetchMemberAndCategoryByItemId(itemId)
+                    .orElseThrow(() -> new ItemException(ErrorCode.NOT_EXISTS_ITEM));
+            return ItemDetailResponseDto.fromEntity(item, item.getCategory(), item.getCategoryType());
+        });
     }
 
     /**
@@ -125,45 +139,79 @@ public class ItemService {
 
     /**
      * 아이템을 삭제하는 메서드
+     * 그 사이 다른 요청이 아이템을 바꿔 버전이 충돌하면 새로 읽어 다시 삭제합니다.
      *
      * @param itemId 삭제할 아이템의 ID
      * @param token 인증된 사용자의 JWT 토큰
      * @return 삭제된 아이템 ID
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long removeItem(Long itemId, String token) {
-        Item findItem = itemRepository.findItemFetchMemberByItemId(itemId)
-                .orElseThrow(() -> new ItemException(ErrorCode.NOT_EXISTS_ITEM));
-
         String loginId = jwtUtil.extractLoginIdFromToken(token);
-        if (!findItem.getMember().getLoginId().equals(loginId)) {
-            throw new ItemException(ErrorCode.INVALID_ACCESS);
-        }
 
-        removeItemFromRanking(itemId);
-        return itemId;
+        return optimisticRetryExecutor.execute("removeItem", () -> {
+            Item findItem = itemRepository.findItemFetchMemberByItemId(itemId)
+                    .orElseThrow(() -> new ItemException(ErrorCode.NOT_EXISTS_ITEM));
+
+            if (!findItem.getMember().getLoginId().equals(loginId)) {
+                throw new ItemException(ErrorCode.INVALID_ACCESS);
+            }
+
+            itemRepository.deleteById(itemId);
+            removeItemFromRankingAfterCommit(itemId);
+            itemSnapshotRedisRepository.evictAfterCommit(List.of(itemId));
+            itemDetailCache.evictRemovedAfterCommit(itemId);
+            return itemId;
+        });
     }
 
     /**
      * 아이템을 수정하는 메서드
+     * 그 사이 다른 요청이 아이템을 바꿔 버전이 충돌하면 새로 읽어 다시 수정합니다.
+     * 다만 다시 읽은 아이템의 수정 폼 항목(재고 포함)이 처음 읽은 값과 다르면, 덮어쓰면 먼저 커밋된 변경(주문의 재고 차감 등)을
+     * 잃으므로 다시 수정하지 않고 CONCURRENT_ITEM_UPDATE로 실패합니다.
      *
      * @param token 인증된 사용자의 JWT 토큰
      * @param itemId 수정할 아이템의 ID
      * @param updateForm 수정할 아이템 정보
      * @return 수정된 아이템 ID
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long modifyItem(String token, Long itemId, ItemUpdateForm updateForm) {
-        Item findItem = itemRepository.findItemFetchMemberByItemId(itemId)
-                .orElseThrow(() -> new ItemException(ErrorCode.NOT_EXISTS_ITEM));
-
         String loginId = jwtUtil.extractLoginIdFromToken(token);
-        if (!findItem.getMember().getLoginId().equals(loginId)) {
-            throw new ItemException(ErrorCode.INVALID_ACCESS);
-        }
+        AtomicReference<List<Object>> firstReadInfo = new AtomicReference<>();
+
+        return optimisticRetryExecutor.execute("modifyItem", () -> {
+            Item findItem = itemRepository.findItemFetchMemberByItemId(itemId)
+                    .orElseThrow(() -> new ItemException(ErrorCode.NOT_EXISTS_ITEM));
+
+            if (!findItem.getMember().getLoginId().equals(loginId)) {
+                throw new ItemException(ErrorCode.INVALID_ACCESS);
+            }
+
+            List<Object> itemInfo = itemInfoOf(findItem);
+            if (!firstReadInfo.compareAndSet(null, itemInfo) && !firstReadInfo.get().equals(itemInfo)) {
+                // 충돌한 요청이 수정 폼의 항목을 바꿈
+                throw new ItemException(ErrorCode.CONCURRENT_ITEM_UPDATE);
+            }
+
+            findItem.changeItemInfo(updateForm);
+            updateItemInRankingAfterCommit(findItem, itemId);
+            itemSnapshotRedisRepository.evictAfterCommit(List.of(itemId));
+            itemDetailCache.evictAfterCommit(findItem);
+            return findItem.getId();
+        });
+    }
 
-        updateItemInRanking(findItem, itemId, updateForm);
-        return findItem.getId();
+    /**
+     * 수정 폼으로 덮어쓰는 아이템 항목을 비교할 수 있게 모으는 메서드
+     *
+     * @param item 아이템
+     * @return 제목, 이름, 설명, 가격, 재고 수량
+     */
+    private static List<Object> itemInfoOf(Item item) {
+        return Arrays.asList(item.getTitle(), item.getItemName(), item.getItemDescription(),
+                item.getPrice(), item.getStockQuantity());
     }
 
     /**
@@ -182,37 +230,51 @@ public class ItemService {
     }
 
     /**
-     * 아이템의 정보를 수정하고 랭킹 정보를 업데이트하는 메서드
+     * 수정된 아이템의 랭킹 정보를 트랜잭션이 커밋된 후 업데이트하는 메서드
+     * 버전 충돌로 롤백되어 다시 시도하는 동안에는 랭킹을 바꾸지 않습니다.
      *
-     * @param item 수정할 아이템
-     * @param itemId 수정할 아이템 ID
-     * @param updateForm 수정할 정보
+     * @param item 수정된 아이템
+     * @param itemId 수정된 아이템 ID
      */
-    private void updateItemInRanking(Item item, Long itemId, ItemUpdateForm updateForm) {
-        item.changeItemInfo(updateForm);
-
-        if (isExistInRanking(itemId)) {
-            HashOperations<String, Object, ItemThumbnailResponseDto> hashOperations = redisTemplate.opsForHash();
-            ItemThumbnailResponseDto updatedItemDto = ItemThumbnailResponseDto.fromItemEntity(item, item.getMember());
-            hashOperations.put(TOP_RANKING_ITEM_KEY, itemId, updatedItemDto);
-        }
-
+    private void updateItemInRankingAfterCommit(Item item, Long itemId) {
+        ItemThumbnailResponseDto updatedItemDto = ItemThumbnailResponseDto.fromItemEntity(item, item.getMember());
+        runAfterCommit(() -> {
+            if (isExistInRanking(itemId)) {
+                HashOperations<String, Object, ItemThumbnailResponseDto> hashOperations = redisTemplate.opsForHash();
+                hashOperations.put(TOP_RANKING_ITEM_KEY, itemId, updatedItemDto);
+            }
+        });
     }
 
     /**
-     * 아이템을 랭킹에서 삭제하는 메서드
+     * 삭제된 아이템을 트랜잭션이 커밋된 후 랭킹과 조회수에서 삭제하는 메서드
      *
-     * @param itemId 삭제할 아이템 ID
+     * @param itemId 삭제된 아이템 ID
      */
-    private void removeItemFromRanking(Long itemId) {
-        if (isExistInRanking(itemId)) {
-            HashOperations<String, Object, ItemThumbnailResponseDto> hashOperations = redisTemplate.opsForHash();
-            ZSetOperations<String, Object> zSetOperations = redisTemplate.opsForZSet();
-            hashOperations.delete(TOP_RANKING_ITEM_KEY, itemId);
-            zSetOperations.remove(RANKING_KEY, itemId);
+    private void removeItemFromRankingAfterCommit(Long itemId) {
+        runAfterCommit(() -> {
+            redisTemplate.opsForHash().delete(ITEM_VIEW_COUNT_KEY, itemId);
+            if (isExistInRanking(itemId)) {
+                HashOperations<String, Object, ItemThumbnailResponseDto> hashOperations = redisTemplate.opsForHash();
+                ZSetOperations<String, Object> zSetOperations = redisTemplate.opsForZSet();
+                hashOperations.delete(TOP_RANKING_ITEM_KEY, itemId);
+                zSetOperations.remove(RANKING_KEY, itemId);
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
 
-        itemRepository.deleteById(itemId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     /**
@@ -0,0 +1,100 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.ItemException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 버전 충돌(낙관적 락 실패) 시 작업을 새 트랜잭션으로 다시 실행하는 실행기.
+ * 시도마다 새 트랜잭션에서 엔티티를 다시 읽으므로, 다른 트랜잭션이 먼저 커밋한 변경 위에 작업이 다시 적용됨.
+ * 재시도 전에는 기본 대기 시간(spring.item.version-retry.backoff)을 시도마다 두 배로 늘린 값 안에서 임의로 기다려(full jitter)
+ * 충돌한 요청들이 같은 순간에 다시 부딪히지 않게 함.
+ *
+ * <p>시도는 item.version.attempts, 충돌은 item.version.conflicts, 재시도 소진은 item.version.exhausted 지표로
+ * 작업 이름(operation 태그)별로 기록되며, conflicts / attempts 가 충돌률임.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    public OptimisticRetryExecutor(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${spring.item.version-retry.max-attempts:3}") int maxAttempts,
+            @Value("${spring.item.version-retry.backoff:20ms}") Duration backoff,
+            @Value("${spring.item.version-retry.max-backoff:200ms}") Duration maxBackoff) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * 작업을 새 트랜잭션에서 실행하고, 버전 충돌로 실패하면 최대 시도 횟수까지 다시 실행합니다.
+     * 이미 시작된 트랜잭션 안에서는 다시 읽어도 같은 스냅샷을 보므로 호출할 수 없습니다.
+     *
+     * @param operation 지표에 기록할 작업 이름
+     * @param action 실행할 작업 (여러 번 실행될 수 있음)
+     * @return 작업 결과
+     * @throws ItemException 최대 시도 횟수까지 모두 충돌한 경우
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("재시도 작업은 트랜잭션 밖에서 실행해야 합니다.");
+        }
+
+        Counter attempts = counter("item.version.attempts", operation);
+        Counter conflicts = counter("item.version.conflicts", operation);
+        for (int attempt = 1; ; attempt++) {
+            attempts.increment();
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    counter("item.version.exhausted", operation).increment();
+                    log.warn("버전 충돌로 {}번 시도했지만 처리하지 못했습니다. operation={}", attempt, operation);
+                    throw new ItemException(ErrorCode.CONCURRENT_ITEM_UPDATE);
+                }
+                sleep(attempt);
+            }
+        }
+    }
+
+    private void sleep(int attempt) {
+        long ceiling = Math.min(maxBackoff.toMillis(), backoff.toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemException(ErrorCode.CONCURRENT_ITEM_UPDATE);
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name).tag("operation", operation).register(meterRegistry);
+    }
+
+}
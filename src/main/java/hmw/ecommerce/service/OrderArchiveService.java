@@ -0,0 +1,84 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.repository.OrderArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 오래된 주문을 보관 테이블로 옮기는 서비스.
+ * 주문 일시가 spring.order.archive.after 보다 오래되었고 모든 주문 아이템이 취소/완료된 주문을
+ * 묶음(spring.order.archive.chunk-size) 단위 트랜잭션으로 옮겨, 현재 주문 테이블을 버퍼 풀에 들어갈 크기로 유지함.
+ * 보관된 주문은 OrderViewReader를 통해 목록 조회에 계속 포함되지만, 취소/완료 처리는 할 수 없음.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.order.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${spring.order.archive.after:180d}")
+    private Duration archiveAfter;
+
+    @Value("${spring.order.archive.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 보관이 켜져 있으면 시작 시 보관 테이블을 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            orderArchiveRepository.createTablesIfNotExist();
+        }
+    }
+
+    /**
+     * 보관 대상 주문을 모두 옮깁니다.
+     *
+     * @return 옮긴 주문 수
+     */
+    public int archive() {
+        if (!enabled) {
+            return 0;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(archiveAfter);
+        LocalDateTime oldest = orderArchiveRepository.findOldestOrderDate();
+        if (oldest == null || !oldest.isBefore(cutoff)) {
+            return 0;
+        }
+        orderArchiveRepository.ensureMonthlyPartitions(YearMonth.from(oldest), YearMonth.from(cutoff));
+
+        int archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> {
+                List<Long> orderIds = orderArchiveRepository.lockArchivableOrderIds(cutoff, chunkSize);
+                orderArchiveRepository.moveToArchive(orderIds);
+                return orderIds.size();
+            });
+            archived += moved;
+        } while (moved == chunkSize);
+
+        if (archived > 0) {
+            log.info("오래된 주문을 보관 테이블로 옮겼습니다. orders={}, cutoff={}", archived, cutoff);
+        }
+        return archived;
+    }
+
+}
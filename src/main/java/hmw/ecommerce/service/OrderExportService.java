@@ -0,0 +1,163 @@
+package hmw.ecommerce.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hmw.ecommerce.entity.dto.order.OrderExportRow;
+import hmw.ecommerce.entity.vo.ExportFormat;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.jwt.JWTUtil;
+import hmw.ecommerce.repository.OrderExportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 판매자의 주문 아이템 전체를 CSV 또는 NDJSON으로 내보내는 서비스.
+ * DB에서 한 행씩 흘려 읽은 행을 바로 응답 스트림에 쓰므로, 내보내는 행 수와 관계없이 메모리 사용량이 일정함.
+ * 보관이 켜져 있으면 보관된 주문 아이템도 합쳐 주문 일시 순으로 내보냄.
+ * NDJSON의 주문/주문 아이템 ID는 JavaScript 숫자 범위(2^53)를 넘으므로 문자열로 씀.
+ * <br>행마다 소켓에 쓰지 않도록 NDJSON 생성기의 flush는 버퍼(BUFFER_SIZE)까지만 전달하고, 응답 스트림은 버퍼가 차거나 끝날 때만 flush함.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER =
+            "orderItemId,orderId,itemId,buyerId,itemName,unitPrice,unitCount,orderStatus,orderDate\n";
+
+    private final OrderExportRepository orderExportRepository;
+    private final ObjectMapper objectMapper;
+    private final JWTUtil jwtUtil;
+
+    @Value("${spring.order.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    /**
+     * 판매 주문 내보내기 응답 본문을 만듭니다. 실제 조회는 응답을 쓰는 시점에 실행됩니다.
+     *
+     * @param token 판매자 로그인 토큰
+     * @param format 내보낼 형식
+     * @param from 이 날짜부터 (없으면 null)
+     * @param to 이 날짜까지 (없으면 null)
+     * @param orderStatuses 내보낼 주문 상태 (없으면 전체)
+     * @return 응답 본문
+     */
+    public StreamingResponseBody export(String token, ExportFormat format, LocalDate from, LocalDate to,
+                                        Collection<OrderStatus> orderStatuses) {
+        String sellerId = jwtUtil.extractLoginIdFromToken(token);
+        LocalDateTime fromDateTime = from == null ? null : from.atStartOfDay();
+        LocalDateTime toDateTime = to == null ? null : to.plusDays(1).atStartOfDay();
+        Collection<OrderStatus> statuses = orderStatuses == null || orderStatuses.isEmpty()
+                ? EnumSet.allOf(OrderStatus.class)
+                : EnumSet.copyOf(orderStatuses);
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            Consumer<OrderExportRow> rowWriter = format == ExportFormat.CSV
+                    ? csvWriter(writer)
+                    : ndjsonWriter(writer);
+
+            try {
+                orderExportRepository.streamSellerOrderItems(
+                        archiveEnabled ? List.of("order_item", "order_item_archive") : List.of("order_item"),
+                        sellerId, fromDateTime, toDateTime, statuses, rowWriter);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    private Consumer<OrderExportRow> csvWriter(Writer writer) {
+        try {
+            writer.write(CSV_HEADER);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return row -> {
+            try {
+                writer.write(String.valueOf(row.getOrderItemId()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getOrderId()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getItemId()));
+                writer.write(',');
+                writer.write(csvField(row.getBuyerId()));
+                writer.write(',');
+                writer.write(csvField(row.getItemName()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getUnitPrice()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getUnitCount()));
+                writer.write(',');
+                writer.write(row.getOrderStatus().name());
+                writer.write(',');
+                writer.write(row.getOrderDate().toString());
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private Consumer<OrderExportRow> ndjsonWriter(Writer writer) {
+        JsonGenerator generator;
+        try {
+            generator = objectMapper.getFactory().createGenerator(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+        return row -> {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("orderItemId", String.valueOf(row.getOrderItemId()));
+                generator.writeStringField("orderId", String.valueOf(row.getOrderId()));
+                generator.writeNumberField("itemId", row.getItemId());
+                generator.writeStringField("buyerId", row.getBuyerId());
+                generator.writeStringField("itemName", row.getItemName());
+                generator.writeNumberField("unitPrice", row.getUnitPrice());
+                generator.writeNumberField("unitCount", row.getUnitCount());
+                generator.writeStringField("orderStatus", row.getOrderStatus().name());
+                generator.writeStringField("orderDate", row.getOrderDate().toString());
+                generator.writeEndObject();
+                generator.flush();
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싸고 따옴표는 두 번 씁니다. (RFC 4180)
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+}
@@ -0,0 +1,300 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.dto.order.CreateOrderDto;
+import hmw.ecommerce.entity.vo.IdempotencyClaim;
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.OrderException;
+import hmw.ecommerce.jwt.JWTUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 주문 생성 요청을 모아 여러 주문을 하나의 트랜잭션으로 커밋(group commit)하는 수집 파이프라인.
+ * spring.order.group-commit.enabled가 true일 때만 동작하며, 꺼져 있으면 요청마다 바로 주문을 생성함.
+ *
+ * <p>요청은 검증 후 크기가 제한된 큐에 들어가고, 커밋 스레드가 최대 max-batch-size 건 또는 첫 요청 후 max-wait 동안 모인
+ * 요청을 한 트랜잭션에서 처리한 뒤 각 요청의 결과를 돌려줌. 큐가 가득 차 enqueue-timeout 안에 넣지 못하면 503으로 거절함(backpressure).
+ * <br>결과는 result-timeout 까지만 기다리고 넘으면 503으로 응답함. 아직 큐에 있던 요청은 빼내므로 처리되지 않지만,
+ * 이미 커밋 중이던 요청은 늦게 커밋될 수 있음 (요청 키로 다시 보내면 같은 주문을 돌려받음).
+ * <br>종료할 때는 먼저 새 요청을 막은 뒤 큐에 남은 요청을 처리하므로, 큐에 들어간 요청이 결과 없이 남지 않음.
+ * <br>묶음 중 하나라도 실패하면 묶음 전체를 롤백한 뒤 요청마다 개별 트랜잭션으로 다시 처리하므로,
+ * 한 요청의 실패(재고 부족 등)가 다른 요청의 결과에 영향을 주지 않음.
+ * <br>주문마다 아이템 락을 잡으면 묶음 안에서 락 순서가 어긋나 다른 커밋 스레드와 교착될 수 있으므로,
+ * 묶음 전체의 아이템 락을 먼저 번호 순서대로 한 번에 잡은 뒤 주문을 처리함.
+ */
+@Slf4j
+@Component
+public class OrderIngestionPipeline {
+
+    private final OrderService orderService;
+    private final ItemLockManager itemLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JWTUtil jwtUtil;
+
+    private final boolean enabled;
+    private final int committers;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final Duration enqueueTimeout;
+    private final Duration resultTimeout;
+    private final BlockingQueue<PendingOrder> queue;
+    private final List<Thread> committerThreads = new ArrayList<>();
+
+    // 큐에 넣는 요청은 읽기 락, 종료는 쓰기 락을 잡아 종료 후에는 큐에 넣지 못하게 함
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+
+    public OrderIngestionPipeline(
+            OrderService orderService,
+            ItemLockManager itemLockManager,
+            TransactionTemplate transactionTemplate,
+            JWTUtil jwtUtil,
+            @Value("${spring.order.group-commit.enabled:false}") boolean enabled,
+            @Value("${spring.order.group-commit.queue-capacity:1024}") int queueCapacity,
+            @Value("${spring.order.group-commit.committers:2}") int committers,
+            @Value("${spring.order.group-commit.max-batch-size:32}") int maxBatchSize,
+            @Value("${spring.order.group-commit.max-wait:5ms}") Duration maxWait,
+            @Value("${spring.order.group-commit.enqueue-timeout:100ms}") Duration enqueueTimeout,
+            @Value("${spring.order.group-commit.result-timeout:10s}") Duration resultTimeout) {
+        this.orderService = orderService;
+        this.itemLockManager = itemLockManager;
+        this.transactionTemplate = transactionTemplate;
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.committers = committers;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.enqueueTimeout = enqueueTimeout;
+        this.resultTimeout = resultTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 애플리케이션이 준비되면 커밋 스레드를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < committers; i++) {
+            Thread thread = new Thread(this::runCommitter, "order-committer-" + i);
+            thread.start();
+            committerThreads.add(thread);
+        }
+        log.info("주문 group commit 모드를 시작합니다. committers={}, maxBatchSize={}, maxWait={}",
+                committers, maxBatchSize, maxWait);
+    }
+
+    /**
+     * 새 요청을 받지 않고, 큐에 남은 요청을 모두 처리한 뒤 커밋 스레드를 종료합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        for (Thread thread : committerThreads) {
+            thread.join();
+        }
+        committerThreads.clear();
+
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            commit(remaining);
+        }
+
+        // 새 요청을 막았으므로 남아 있을 수 없지만, 남아 있다면 기다리는 요청이 멈추지 않도록 실패로 끝냄
+        PendingOrder leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.result.completeExceptionally(new OrderException(ErrorCode.ORDER_QUEUE_FULL));
+        }
+    }
+
+    /**
+     * 주문을 생성합니다. group commit 모드에서는 큐에 넣고 묶음이 커밋될 때까지 기다립니다.
+     *
+     * @param token 로그인 토큰.
+     * @param orderDto 주문 생성 DTO.
+     * @param claim 선점한 요청 키 (없으면 null).
+     * @return 생성된 주문의 ID.
+     * @throws OrderException 요청이 올바르지 않거나 큐가 가득 찬 경우
+     */
+    public Long createOrder(String token, CreateOrderDto orderDto, IdempotencyClaim claim) {
+        PendingOrder pendingOrder = new PendingOrder(token, orderDto, claim);
+        try {
+            if (!enqueue(pendingOrder)) {
+                return orderService.createOrder(token, orderDto, claim);
+            }
+            return pendingOrder.result.get(resultTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pendingOrder);
+            throw new OrderException(ErrorCode.ORDER_NOT_ALLOWED);
+        } catch (TimeoutException e) {
+            if (queue.remove(pendingOrder)) {
+                log.warn("주문 결과를 {} 안에 받지 못해 큐에서 뺐습니다.", resultTimeout);
+            } else {
+                log.warn("주문 결과를 {} 안에 받지 못했습니다. 주문은 늦게 커밋될 수 있습니다.", resultTimeout);
+            }
+            throw new OrderException(ErrorCode.ORDER_RESULT_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 파이프라인이 동작 중이면 요청을 검증하여 큐에 넣습니다. 종료 중에는 큐에 넣지 않습니다.
+     *
+     * @return 큐에 넣었으면 true, 파이프라인이 동작하지 않아 바로 처리해야 하면 false
+     * @throws OrderException 요청이 올바르지 않거나 큐가 가득 찬 경우
+     */
+    private boolean enqueue(PendingOrder pendingOrder) throws InterruptedException {
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            validate(pendingOrder.token, pendingOrder.orderDto);
+            if (!queue.offer(pendingOrder, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new OrderException(ErrorCode.ORDER_QUEUE_FULL);
+            }
+            return true;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 큐에 넣기 전에 DB 없이 확인할 수 있는 값을 먼저 검증하여, 잘못된 요청이 묶음을 롤백시키지 않도록 합니다.
+     */
+    private void validate(String token, CreateOrderDto orderDto) {
+        jwtUtil.extractLoginIdFromToken(token);
+        if (OrderService.orderFromCart(orderDto)) {
+            return;
+        }
+        if (orderDto.getItemId() == null || orderDto.getCount() == null || orderDto.getCount() < 1) {
+            throw new OrderException(ErrorCode.ORDER_NOT_ALLOWED);
+        }
+    }
+
+    private void runCommitter() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch, System.nanoTime() + maxWait.toNanos());
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("주문 묶음 처리 중 예상하지 못한 오류가 발생했습니다.", e);
+                batch.forEach(pendingOrder -> pendingOrder.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음이 가득 차거나 첫 요청 후 최대 대기 시간이 지날 때까지 요청을 모읍니다.
+     */
+    private void collect(List<PendingOrder> batch, long deadline) throws InterruptedException {
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                return;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        if (batch.size() > 1) {
+            try {
+                List<Long> orderIds = transactionTemplate.execute(status -> {
+                    Set<Long> lockItemIds = new HashSet<>();
+                    for (PendingOrder pendingOrder : batch) {
+                        lockItemIds.addAll(orderService.getLockItemIds(pendingOrder.token, pendingOrder.orderDto));
+                    }
+                    itemLockManager.lockUntilCompletion(lockItemIds);
+
+                    List<Long> ids = new ArrayList<>(batch.size());
+                    for (PendingOrder pendingOrder : batch) {
+                        ids.add(orderService.createOrder(pendingOrder.token, pendingOrder.orderDto, pendingOrder.claim));
+                    }
+                    return ids;
+                });
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result.complete(orderIds.get(i));
+                }
+                return;
+            } catch (Exception e) {
+                log.debug("주문 묶음을 롤백하고 개별 트랜잭션으로 다시 처리합니다. size={}", batch.size(), e);
+            }
+        }
+
+        for (PendingOrder pendingOrder : batch) {
+            try {
+                pendingOrder.result.complete(orderService.createOrder(pendingOrder.token, pendingOrder.orderDto, pendingOrder.claim));
+            } catch (Exception e) {
+                pendingOrder.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 큐에서 커밋을 기다리는 주문 요청.
+     */
+    private static final class PendingOrder {
+
+        private final String token;
+        private final CreateOrderDto orderDto;
+        private final IdempotencyClaim claim;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        private PendingOrder(String token, CreateOrderDto orderDto, IdempotencyClaim claim) {
+            this.token = token;
+            this.orderDto = orderDto;
+            this.claim = claim;
+        }
+    }
+
+}
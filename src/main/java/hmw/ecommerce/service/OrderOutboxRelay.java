@@ -0,0 +1,153 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.OrderOutbox;
+import hmw.ecommerce.event.OrderOutboxListener;
+import hmw.ecommerce.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 아웃박스(order_outbox)의 주문 이벤트를 꺼내 등록된 OrderOutboxListener에 전달하는 서비스.
+ * spring.order.outbox.batch-size 개씩 잠가 꺼내고, 모든 리스너가 처리하면 같은 트랜잭션에서 행을 지움.
+ * 묶음 처리에 실패하면 이벤트마다 별도 트랜잭션으로 다시 처리하여, 실패한 이벤트만 시도 횟수를 늘리고 뒤로 미룸.
+ * 매출 집계를 다시 만드는 동안(SalesRollupProjector.rebuild)은 모든 서버에서 전달을 멈춤.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxRelay {
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(10);
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final List<OrderOutboxListener> listeners;
+    private final OrderOutboxWriter orderOutboxWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.order.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${spring.order.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${spring.order.outbox.retry-backoff:1s}")
+    private Duration retryBackoff;
+
+    /**
+     * 처리할 차례가 된 아웃박스 이벤트를 모두 전달합니다.
+     *
+     * @return 전달한 이벤트 수
+     */
+    public int relay() {
+        int relayed = 0;
+        int claimed;
+        do {
+            claimed = relayBatch();
+            relayed += claimed;
+        } while (claimed == batchSize);
+        return relayed;
+    }
+
+    private int relayBatch() {
+        try {
+            return transactionTemplate.execute(status -> {
+                List<OrderOutbox> batch = claim(batchSize);
+                publish(batch);
+                return batch.size();
+            });
+        } catch (RuntimeException e) {
+            log.warn("주문 이벤트 묶음을 처리하지 못했습니다. 이벤트마다 다시 처리합니다.", e);
+            return relayOneByOne();
+        }
+    }
+
+    private int relayOneByOne() {
+        int relayed = 0;
+        for (int i = 0; i < batchSize; i++) {
+            AtomicReference<OrderOutbox> claimed = new AtomicReference<>();
+            try {
+                int published = transactionTemplate.execute(status -> {
+                    List<OrderOutbox> batch = claim(1);
+                    if (!batch.isEmpty()) {
+                        claimed.set(batch.get(0));
+                    }
+                    publish(batch);
+                    return batch.size();
+                });
+                if (published == 0) {
+                    break;
+                }
+                relayed++;
+            } catch (RuntimeException e) {
+                OrderOutbox failed = claimed.get();
+                if (failed == null) {
+                    throw e;
+                }
+                markFailed(failed, e);
+            }
+        }
+        return relayed;
+    }
+
+    /**
+     * 아웃박스 행을 잠가 꺼냅니다. 매출 집계를 다시 만드는 중이면 꺼낸 행을 전달하지 않고 빈 목록을 돌려줍니다.
+     * 재생성 락은 행을 잠근 뒤에 확인하므로, 재생성은 락을 잡은 뒤 이미 행을 잠근 트랜잭션만 기다리면 됩니다.
+     */
+    private List<OrderOutbox> claim(int limit) {
+        List<OrderOutbox> claimed = orderOutboxRepository.claim(limit, maxAttempts, LocalDateTime.now());
+        if (!claimed.isEmpty() && orderOutboxRepository.isRelayPaused()) {
+            log.debug("매출 집계를 다시 만드는 중이라 주문 이벤트 전달을 건너뜁니다.");
+            return List.of();
+        }
+        return claimed;
+    }
+
+    private void publish(List<OrderOutbox> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Object> events = new ArrayList<>(batch.size());
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (OrderOutbox outbox : batch) {
+            events.add(orderOutboxWriter.read(outbox));
+            ids.add(outbox.getId());
+        }
+
+        for (OrderOutboxListener listener : listeners) {
+            listener.onEvents(events);
+        }
+        orderOutboxRepository.deleteAll(ids);
+    }
+
+    /**
+     * 실패한 이벤트의 다음 시도를 시도 횟수에 따라 두 배씩 미룹니다. (최대 10분)
+     */
+    private void markFailed(OrderOutbox outbox, RuntimeException e) {
+        int attempts = outbox.getAttempts() + 1;
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(MAX_RETRY_BACKOFF) > 0) {
+            backoff = MAX_RETRY_BACKOFF;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> orderOutboxRepository.markFailed(
+                outbox.getId(), LocalDateTime.now().plus(backoff), String.valueOf(e.getMessage())));
+        if (attempts >= maxAttempts) {
+            log.error("주문 이벤트 처리에 {}번 실패하여 더 이상 시도하지 않습니다. outboxId={}, eventType={}",
+                    attempts, outbox.getId(), outbox.getEventType(), e);
+        } else {
+            log.warn("주문 이벤트를 처리하지 못했습니다. {} 후 다시 시도합니다. outboxId={}, attempts={}",
+                    backoff, outbox.getId(), attempts, e);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package hmw.ecommerce.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hmw.ecommerce.entity.OrderOutbox;
+import hmw.ecommerce.event.OrderItemStatusChangedEvent;
+import hmw.ecommerce.event.OrderItemsPlacedEvent;
+import hmw.ecommerce.event.OrderItemsStatusChangedEvent;
+import hmw.ecommerce.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 주문 쓰기 이벤트를 아웃박스(order_outbox)에 기록하는 서비스.
+ * 주문 트랜잭션이 커밋되기 직전에 같은 트랜잭션 안에서 기록하므로, 주문이 커밋된 경우에만 이벤트가 남음.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxWriter {
+
+    /**
+     * 아웃박스에 기록하는 이벤트 종류. 이벤트 클래스 이름으로 기록하고 읽음.
+     */
+    static final Map<String, Class<?>> EVENT_TYPES = Stream.of(
+                    OrderItemsPlacedEvent.class,
+                    OrderItemStatusChangedEvent.class,
+                    OrderItemsStatusChangedEvent.class)
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderItemsPlacedEvent event) {
+        append(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderItemStatusChangedEvent event) {
+        append(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderItemsStatusChangedEvent event) {
+        append(event);
+    }
+
+    /**
+     * 아웃박스 행에 기록된 이벤트 JSON을 이벤트 객체로 읽습니다.
+     *
+     * @param outbox 아웃박스 행
+     * @return 이벤트 (OrderItemsPlacedEvent, OrderItemStatusChangedEvent, OrderItemsStatusChangedEvent)
+     */
+    public Object read(OrderOutbox outbox) {
+        Class<?> eventType = EVENT_TYPES.get(outbox.getEventType());
+        if (eventType == null) {
+            throw new IllegalStateException("알 수 없는 주문 이벤트입니다. eventType=" + outbox.getEventType());
+        }
+        try {
+            return objectMapper.readValue(outbox.getPayload(), eventType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트를 읽을 수 없습니다. outboxId=" + outbox.getId(), e);
+        }
+    }
+
+    private void append(Object event) {
+        try {
+            orderOutboxRepository.insert(
+                    event.getClass().getSimpleName(), objectMapper.writeValueAsString(event), LocalDateTime.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트를 아웃박스에 기록할 수 없습니다.", e);
+        }
+    }
+
+}
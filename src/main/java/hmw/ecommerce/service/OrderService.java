@@ -4,9 +4,14 @@ import hmw.ecommerce.entity.Item;
 import hmw.ecommerce.entity.Member;
 import hmw.ecommerce.entity.Order;
 import hmw.ecommerce.entity.OrderItem;
-import hmw.ecommerce.entity.dto.cart.AddToCartDto;
+import hmw.ecommerce.entity.OrderView;
 import hmw.ecommerce.entity.dto.order.*;
+import hmw.ecommerce.entity.vo.CartLine;
+import hmw.ecommerce.entity.vo.IdempotencyClaim;
 import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.event.OrderItemStatusChangedEvent;
+import hmw.ecommerce.event.OrderItemsPlacedEvent;
+import hmw.ecommerce.event.OrderItemsStatusChangedEvent;
 import hmw.ecommerce.exception.ErrorCode;
 import hmw.ecommerce.exception.exceptions.ItemException;
 import hmw.ecommerce.exception.exceptions.MemberException;
@@ -16,34 +21,49 @@ import hmw.ecommerce.repository.entity.ItemRepository;
 import hmw.ecommerce.repository.entity.MemberRepository;
 import hmw.ecommerce.repository.entity.OrderItemRepository;
 import hmw.ecommerce.repository.entity.OrderRepository;
+import hmw.ecommerce.repository.redis.CartRedisRepository;
+import hmw.ecommerce.repository.redis.IdempotencyRedisRepository;
+import hmw.ecommerce.repository.redis.ItemSnapshotRedisRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static hmw.ecommerce.entity.vo.Const.CART_ITEMS;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class OrderService {
 
+    private static final int MAX_ORDER_HISTORY_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final OrderRepository orderRepository;
     private final ItemRepository itemRepository;
     private final OrderItemRepository orderItemRepository;
     private final JWTUtil jwtUtil;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CartRedisRepository cartRedisRepository;
+    private final IdempotencyRedisRepository idempotencyRedisRepository;
+    private final ItemSnapshotRedisRepository itemSnapshotRedisRepository;
+    private final StockReservationService stockReservationService;
+    private final FlashSaleService flashSaleService;
+    private final ItemLockManager itemLockManager;
+    private final SellerOrderCountService sellerOrderCountService;
+    private final OrderViewReader orderViewReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 장바구니에서 주문을 생성하거나 아이템 상세 페이지에서 주문을 생성하는 메서드.
@@ -53,22 +73,66 @@ public class OrderService {
      * @return 생성된 주문의 ID.
      */
     public Long createOrder(String token, CreateOrderDto orderDto) {
+        return createOrder(token, orderDto, null);
+    }
+
+    /**
+     * 요청 키를 선점한 주문 요청으로 주문을 생성하는 메서드.
+     * 요청 키를 주문에 함께 저장하고, 커밋된 후 요청 키에 주문 결과를 저장한다.
+     *
+     * @param token 로그인 토큰.
+     * @param orderDto 주문 생성 DTO.
+     * @param claim 선점한 요청 키 (요청 키가 없으면 null).
+     * @return 생성된 주문의 ID.
+     */
+    public Long createOrder(String token, CreateOrderDto orderDto, IdempotencyClaim claim) {
         String loginId = jwtUtil.extractLoginIdFromToken(token);
         Member findMember = memberRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new MemberException(ErrorCode.NOT_EXIST_LOGIN_ID));
+
+        Long orderId;
         if (orderFromCart(orderDto)) {
-            return createOrderFromCart(findMember, loginId);
+            orderId = createOrderFromCart(findMember, loginId, claim);
+        } else {
+            if (orderDto.getCount() == null || orderDto.getCount() < 1 || orderDto.getItemId() == null) {
+                throw new OrderException(ErrorCode.ORDER_NOT_ALLOWED);
+            }
+            orderId = orderFromItemDetail(orderDto, findMember, claim);
         }
 
-        if (orderDto.getCount() == null || orderDto.getItemId() == null) {
-            throw new OrderException(ErrorCode.ORDER_NOT_ALLOWED);
+        if (claim != null) {
+            idempotencyRedisRepository.completeAfterCommit(claim, orderId);
         }
+        return orderId;
+    }
 
-        return orderFromItemDetail(orderDto, findMember);
+    /**
+     * 주문이 아이템 락을 잡을 아이템 ID를 조회하는 메서드 (플래시 세일 아이템 제외).
+     * 여러 주문을 한 트랜잭션으로 처리할 때, 주문마다 락을 잡기 전에 묶음 전체의 락을 번호 순서대로 먼저 잡는 데 사용한다.
+     *
+     * @param token 로그인 토큰.
+     * @param orderDto 주문 생성 DTO.
+     * @return 락을 잡을 아이템 ID.
+     */
+    public Set<Long> getLockItemIds(String token, CreateOrderDto orderDto) {
+        Set<Long> itemIds;
+        if (orderFromCart(orderDto)) {
+            itemIds = cartRedisRepository.findAll(jwtUtil.extractLoginIdFromToken(token)).keySet();
+        } else {
+            itemIds = Set.of(orderDto.getItemId());
+        }
+        if (itemIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> flashSaleItemIds = flashSaleService.getFlashSaleItemIds(itemIds);
+        return itemIds.stream()
+                .filter(itemId -> !flashSaleItemIds.contains(itemId))
+                .collect(Collectors.toSet());
     }
 
     /**
      * 회원의 주문 목록을 조회하는 메서드.
+     * 주문 테이블 대신 주문 읽기 모델(OrderView)에서 조회하며(보관된 주문 포함), 전체 개수는 세지 않는다.
      *
      * @param token 로그인 토큰.
      * @param dtoRequest 주문 조회 요청 DTO.
@@ -80,12 +144,38 @@ public class OrderService {
         int page = dtoRequest.getPage();
         int size = dtoRequest.getSize();
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("orderDate").descending());
-        Page<OrderItem> orderItems = orderItemRepository.findOrderItemsByBuyerId(buyerId, pageable);
-        return orderItems
+        return orderViewReader.findBuyerPage(buyerId, page, size)
                 .stream()
-                .map(GetOrdersDto.Response::fromEntity).
-                collect(Collectors.toList());
+                .map(GetOrdersDto.Response::fromView)
+                .toList();
+    }
+
+    /**
+     * 회원의 주문 내역을 최신순으로 커서 기반 조회하는 메서드.
+     * 주문 읽기 모델에서 한 건을 더 조회하여 다음 페이지가 있는지 판단하므로 전체 개수를 세지 않는다.
+     *
+     * @param token 로그인 토큰.
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null).
+     * @param size 한 번에 조회할 개수.
+     * @return 주문 내역과 다음 페이지 커서.
+     */
+    @Transactional(readOnly = true)
+    public GetOrderHistoryDto.Response getOrderHistory(String token, String cursor, int size) {
+        String buyerId = jwtUtil.extractLoginIdFromToken(token);
+        int limit = Math.min(Math.max(size, 1), MAX_ORDER_HISTORY_SIZE);
+        GetOrderHistoryDto.Cursor after = StringUtils.hasText(cursor) ? GetOrderHistoryDto.Cursor.decode(cursor) : null;
+
+        Slice<OrderView> orderViews = after == null
+                ? orderViewReader.findBuyerAfter(buyerId, null, null, limit)
+                : orderViewReader.findBuyerAfter(buyerId, after.getOrderDate(), after.getOrderItemId(), limit);
+
+        String nextCursor = null;
+        if (orderViews.hasNext()) {
+            OrderView last = orderViews.getContent().get(orderViews.getNumberOfElements() - 1);
+            nextCursor = new GetOrderHistoryDto.Cursor(last.getOrderDate(), last.getOrderItemId()).encode();
+        }
+        return new GetOrderHistoryDto.Response(
+                orderViews.map(GetOrdersDto.Response::fromView).toList(), nextCursor, orderViews.hasNext());
     }
 
     /**
@@ -105,18 +195,26 @@ public class OrderService {
                         cancelOrderDto.getOrderId()
                 ).orElseThrow(() -> new OrderException(ErrorCode.NOT_FOUND_ORDER));
 
-        if (!orderItem.getOrder().getMember().getLoginId().equals(loginId)) {
+        if (!orderItem.getBuyerId().equals(loginId)) {
             throw new OrderException(ErrorCode.CAN_NOT_ORDER_CANCEL);
         }
 
+        OrderStatus previousStatus = orderItem.getOrderStatus();
         orderItem.getOrder().cancel(orderItem);
-        orderItem.getItem().increaseStock(orderItem.getUnitCount());
+        sellerOrderCountService.changeStatus(orderItem.getSellerId(), previousStatus, OrderStatus.CANCELED);
+        eventPublisher.publishEvent(OrderItemStatusChangedEvent.of(orderItem, previousStatus));
+        Long itemId = orderItem.getItem().getId();
+        if (!flashSaleService.increase(itemId, orderItem.getUnitCount())) {
+            itemRepository.increaseStock(itemId, orderItem.getUnitCount());
+        }
+        itemSnapshotRedisRepository.evictAfterCommit(List.of(itemId));
 
         return orderItem.getOrder().getId();
     }
 
     /**
      * 판매자의 판매 주문을 조회하는 메서드.
+     * 주문 읽기 모델(OrderView)에서 조회하며, 전체 개수는 판매자별 주문 개수에서 가져온다.
      *
      * @param orderDto 판매 주문 조회 DTO.
      * @param token 판매자 로그인 토큰.
@@ -128,9 +226,11 @@ public class OrderService {
         int page = orderDto.getPage();
         int size = orderDto.getSize();
         Pageable pageable = PageRequest.of(page, size);
-        Page<OrderItem> orderItems = orderItemRepository.findSellLatestBySellerId(loginId, orderDto, pageable);
-        return orderItems
-                .map(GetSellOrderDto.Response::fromEntity)
+        List<OrderView> orderViews = orderViewReader.findSellerPage(loginId, orderDto.getOrderStatuses(), page, size);
+        Page<OrderView> orderPage = PageableExecutionUtils.getPage(orderViews, pageable,
+                () -> sellerOrderCountService.getSummary(loginId).countOf(orderDto));
+        return orderPage
+                .map(GetSellOrderDto.Response::fromView)
                 .toList();
     }
 
@@ -150,26 +250,111 @@ public class OrderService {
                 .findOrderItemBySellerId(sellerId, itemId, orderId)
                 .orElseThrow(() -> new OrderException(ErrorCode.NOT_FOUND_ORDER));
 
+        OrderStatus previousStatus = orderItem.getOrderStatus();
         Order order = orderItem.getOrder();
         order.complete(orderItem);
+        sellerOrderCountService.changeStatus(sellerId, previousStatus, OrderStatus.COMPLETED);
+        eventPublisher.publishEvent(OrderItemStatusChangedEvent.of(orderItem, previousStatus));
         return order.getId();
     }
 
+    /**
+     * 판매자가 여러 주문 아이템을 한 번에 완료하는 메서드.
+     * 소유권과 상태를 한 번의 조회로 확인하고, 대기 상태인 주문 아이템만 조건부 UPDATE 배치로 완료한다.
+     * 처리할 수 없는 줄이 있어도 나머지는 완료되며, 줄마다 결과를 돌려준다.
+     * 조회와 UPDATE 사이에 다른 요청이 취소/완료한 줄은 현재 상태를 다시 읽어 이미 취소/완료된 줄로 알린다.
+     *
+     * @param request 완료할 (아이템 ID, 주문 ID) 목록.
+     * @param token 판매자 로그인 토큰.
+     * @return 줄별 처리 결과.
+     */
+    public BulkCompleteOrderDto.Response completeOrders(BulkCompleteOrderDto.Request request, String token) {
+        String sellerId = jwtUtil.extractLoginIdFromToken(token);
+        List<CompleteOrderDto> lines = request.getOrderItems();
+
+        Map<List<Long>, OrderItemStatusDto> statuses = orderItemRepository
+                .findStatusesBySellerIdAndOrderIds(sellerId, lines.stream().map(CompleteOrderDto::getOrderId).toList())
+                .stream()
+                .collect(Collectors.toMap(status -> List.of(status.getOrderId(), status.getItemId()), Function.identity()));
+
+        List<Long> pendingIds = statuses.values().stream()
+                .filter(status -> status.getOrderStatus() == OrderStatus.PENDING)
+                .map(OrderItemStatusDto::getOrderItemId)
+                .toList();
+        Set<Long> completedIds = pendingIds.isEmpty() ? Set.of() : Set.copyOf(orderItemRepository.completeOrderItems(pendingIds));
+
+        // 대기 상태로 읽었지만 그 사이 취소/완료되어 UPDATE에서 빠진 줄은 지금 상태를 다시 읽어 결과를 정함
+        Set<Long> changedIds = pendingIds.stream().filter(id -> !completedIds.contains(id)).collect(Collectors.toSet());
+        Map<Long, OrderStatus> currentStatuses = changedIds.isEmpty() ? Map.of() : orderItemRepository.findCurrentStatuses(changedIds);
+
+        List<BulkCompleteOrderDto.Line> results = new ArrayList<>(lines.size());
+        for (CompleteOrderDto line : lines) {
+            OrderItemStatusDto status = statuses.get(List.of(line.getOrderId(), line.getItemId()));
+            OrderStatus currentStatus = status == null ? null : changedIds.contains(status.getOrderItemId())
+                    ? currentStatuses.get(status.getOrderItemId())
+                    : status.getOrderStatus();
+            BulkCompleteOrderDto.Result result;
+            if (currentStatus == null) {
+                result = BulkCompleteOrderDto.Result.NOT_FOUND_ORDER;
+            } else if (completedIds.contains(status.getOrderItemId())) {
+                result = BulkCompleteOrderDto.Result.COMPLETED;
+            } else if (currentStatus == OrderStatus.CANCELED) {
+                result = BulkCompleteOrderDto.Result.ALREADY_CANCELED;
+            } else {
+                result = BulkCompleteOrderDto.Result.ALREADY_COMPLETED;
+            }
+            results.add(new BulkCompleteOrderDto.Line(line.getOrderId(), line.getItemId(), result));
+        }
+
+        if (!completedIds.isEmpty()) {
+            List<OrderItemStatusDto> completed = statuses.values().stream()
+                    .filter(status -> completedIds.contains(status.getOrderItemId()))
+                    .toList();
+            List<OrderItemStatusChangedEvent> changes = completed.stream()
+                    .map(status -> new OrderItemStatusChangedEvent(
+                            status.getOrderItemId(), status.getItemId(), sellerId,
+                            status.getUnitPrice(), status.getUnitCount(), status.getOrderDate(),
+                            OrderStatus.PENDING, OrderStatus.COMPLETED))
+                    .toList();
+
+            orderItemRepository.completeOrders(completed.stream().map(OrderItemStatusDto::getOrderId).collect(Collectors.toSet()));
+            sellerOrderCountService.changeStatus(sellerId, OrderStatus.PENDING, OrderStatus.COMPLETED, completedIds.size());
+            eventPublisher.publishEvent(new OrderItemsStatusChangedEvent(changes));
+        }
+
+        return new BulkCompleteOrderDto.Response(completedIds.size(), results);
+    }
+
     /**
      * 아이템 상세 페이지에서 주문을 생성하는 메서드.
      *
      * @param orderDto 주문 정보 DTO.
      * @param findMember 주문자 회원.
+     * @param claim 선점한 요청 키 (없으면 null).
      * @return 생성된 주문의 ID.
      */
-    private Long orderFromItemDetail(CreateOrderDto orderDto, Member findMember) {
+    private Long orderFromItemDetail(CreateOrderDto orderDto, Member findMember, IdempotencyClaim claim) {
         int count = orderDto.getCount();
         Long itemId = orderDto.getItemId();
 
-        Item findItem = itemRepository.findById(itemId)
+        Set<Long> flashSaleItemIds = flashSaleService.getFlashSaleItemIds(List.of(itemId));
+        if (!flashSaleItemIds.contains(itemId)) {
+            itemLockManager.lockUntilCompletion(List.of(itemId));
+        }
+
+        Item findItem = itemRepository.findItemFetchMemberByItemId(itemId)
                 .orElseThrow(() -> new ItemException(ErrorCode.NOT_EXISTS_ITEM));
 
-        if (!findItem.isStockAvailability(count)) {
+        if (!flashSaleItemIds.contains(itemId)) {
+            long reservedByOthers = stockReservationService
+                    .getReservedByOthers(findMember.getLoginId(), List.of(itemId))
+                    .get(itemId);
+            if (!findItem.isStockAvailability(count + (int) reservedByOthers)) {
+                throw new OrderException(ErrorCode.OUT_OF_STOCK);
+            }
+        }
+
+        if (!decreaseStock(Map.of(itemId, count), flashSaleItemIds).isEmpty()) {
             throw new OrderException(ErrorCode.OUT_OF_STOCK);
         }
 
@@ -178,54 +363,69 @@ public class OrderService {
                         findMember,
                         count,
                         findItem.getPrice() * count,
-                        OrderStatus.PENDING));
+                        OrderStatus.PENDING,
+                        claim));
 
-        orderItemRepository.save(
+        OrderItem savedOrderItem = orderItemRepository.save(
                 OrderItem.toEntity(savedOrder, findItem, count, count * findItem.getPrice(), findMember.getLoginId())
         );
+        sellerOrderCountService.addPending(Map.of(savedOrderItem.getSellerId(), 1));
+        eventPublisher.publishEvent(OrderItemsPlacedEvent.of(List.of(savedOrderItem)));
 
-        findItem.decreaseStock(count);
+        itemSnapshotRedisRepository.evictAfterCommit(List.of(itemId));
 
         return savedOrder.getId();
     }
 
     /**
      * 장바구니에서 주문을 생성하는 메서드.
+     * 일반 아이템은 아이템 락을 잡아 같은 아이템의 주문을 서버 안에서 줄 세운 뒤 처리한다.
+     * 다른 사용자가 예약한 재고를 제외하고 검증하며, 커밋 후 이 사용자의 예약을 해제하여 예약을 주문으로 확정한다.
+     * 장바구니도 커밋 후 비우므로, 묶음이 롤백되어 개별 트랜잭션으로 다시 처리될 때 장바구니가 남아 있다.
      *
      * @param findMember 주문자 회원.
      * @param loginId 회원의 로그인 ID.
+     * @param claim 선점한 요청 키 (없으면 null).
      * @return 생성된 주문의 ID.
      */
-    private Long createOrderFromCart(Member findMember, String loginId) {
-        HashOperations<String, String, Set<AddToCartDto.Response>> hashOperations = redisTemplate.opsForHash();
-        Set<AddToCartDto.Response> cartItems = hashOperations.get(CART_ITEMS, loginId);
-        if (cartItems == null || cartItems.isEmpty()) {
+    private Long createOrderFromCart(Member findMember, String loginId, IdempotencyClaim claim) {
+        if (cartRedisRepository.isDeletePending(loginId)) {
+            // 같은 트랜잭션(group commit 묶음)에서 이미 이 장바구니로 주문함
+            throw new OrderException(ErrorCode.ORDER_NOT_ALLOWED);
+        }
+        Map<Long, CartLine> cartItems = cartRedisRepository.findAll(loginId);
+        if (cartItems.isEmpty()) {
             throw new OrderException(ErrorCode.ORDER_NOT_ALLOWED);
         }
 
-        Set<Long> itemIds = cartItems.stream()
-                .map(AddToCartDto.Response::getItemId)
-                .collect(Collectors.toSet());
-        List<Item> items = itemRepository.findAllById(itemIds);
+        Set<Long> flashSaleItemIds = flashSaleService.getFlashSaleItemIds(cartItems.keySet());
+        itemLockManager.lockUntilCompletion(cartItems.keySet().stream()
+                .filter(itemId -> !flashSaleItemIds.contains(itemId))
+                .toList());
+
+        Map<Long, Item> items = itemRepository.findItemsFetchMemberByItemIds(cartItems.keySet())
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Long, Long> reservedByOthers = stockReservationService.getReservedByOthers(loginId, cartItems.keySet());
+        Map<Long, Integer> counts = new HashMap<>();
         List<Long> stockErrorList = new ArrayList<>();
         int totalCount = 0;
         int totalPrice = 0;
 
-        for (AddToCartDto.Response cartItem : cartItems) {
-            Long itemId = cartItem.getItemId();
-            int count = cartItem.getCount();
-
-            Item item = items.stream()
-                    .filter(i -> i.getId().equals(itemId))
-                    .findFirst()
-                    .orElseThrow(() -> new OrderException(ErrorCode.NOT_EXISTS_ITEM));
+        for (CartLine cartLine : cartItems.values()) {
+            Item item = items.get(cartLine.getItemId());
+            if (item == null) {
+                throw new OrderException(ErrorCode.NOT_EXISTS_ITEM);
+            }
 
-            if (!item.isStockAvailability(count)) {
+            int count = cartLine.getCount();
+            if (!flashSaleItemIds.contains(item.getId())
+                    && !item.isStockAvailability(count + reservedByOthers.get(item.getId()).intValue())) {
                 stockErrorList.add(item.getId());
             } else {
-                totalCount += cartItem.getCount();
-                totalPrice += cartItem.getPrice() * cartItem.getCount();
-                item.decreaseStock(cartItem.getCount());
+                totalCount += count;
+                totalPrice += item.getPrice() * count;
+                counts.put(item.getId(), count);
             }
         }
 
@@ -233,43 +433,74 @@ public class OrderService {
             throw new OrderException(ErrorCode.OUT_OF_STOCK, stockErrorList);
         }
 
+        List<Long> failedItemIds = decreaseStock(counts, flashSaleItemIds);
+        if (!failedItemIds.isEmpty()) {
+            throw new OrderException(ErrorCode.OUT_OF_STOCK, failedItemIds);
+        }
+
         Order savedOrder = orderRepository.save(
                 Order.createOrder(
                         findMember,
                         totalCount,
                         totalPrice,
-                        OrderStatus.PENDING)
+                        OrderStatus.PENDING,
+                        claim)
         );
 
-
-        for (AddToCartDto.Response cartItem : cartItems) {
-            Long itemId = cartItem.getItemId();
-            int count = cartItem.getCount();
-
-            Item item = items.stream()
-                    .filter(i -> i.getId().equals(itemId))
-                    .findFirst()
-                    .orElseThrow(() -> new OrderException(ErrorCode.NOT_EXISTS_ITEM));
-
-
-            orderItemRepository.save(OrderItem.toEntity(
-                    savedOrder, item, count, cartItem.getPrice() * count, loginId
+        List<OrderItem> orderItems = new ArrayList<>(cartItems.size());
+        for (CartLine cartLine : cartItems.values()) {
+            Item item = items.get(cartLine.getItemId());
+            int count = cartLine.getCount();
+            orderItems.add(OrderItem.toEntity(
+                    savedOrder, item, count, item.getPrice() * count, loginId
             ));
         }
+        orderItemRepository.saveAll(orderItems);
+        sellerOrderCountService.addPending(orderItems.stream()
+                .collect(Collectors.groupingBy(OrderItem::getSellerId, Collectors.summingInt(oi -> 1))));
+        eventPublisher.publishEvent(OrderItemsPlacedEvent.of(orderItems));
 
-        hashOperations.delete(CART_ITEMS, loginId);
+        cartRedisRepository.deleteAllAfterCommit(loginId);
+        stockReservationService.releaseAfterCommit(loginId, cartItems.keySet());
+        itemSnapshotRedisRepository.evictAfterCommit(items.keySet());
 
         return savedOrder.getId();
     }
 
+    /**
+     * 재고를 차감하는 메서드.
+     * 일반 아이템은 DB 조건부 UPDATE로, 플래시 세일 아이템은 Redis 재고 카운터로 차감한다.
+     * 실패하면 호출한 쪽에서 예외를 던져 트랜잭션을 롤백해야 하며, 플래시 세일 재고는 롤백 시 자동으로 되돌려진다.
+     *
+     * @param counts 아이템 ID별 차감할 수량.
+     * @param flashSaleItemIds 플래시 세일 모드인 아이템 ID.
+     * @return 재고가 부족하여 차감하지 못한 아이템 ID 목록.
+     */
+    private List<Long> decreaseStock(Map<Long, Integer> counts, Set<Long> flashSaleItemIds) {
+        Map<Long, Integer> databaseCounts = new HashMap<>();
+        Map<Long, Integer> flashSaleCounts = new HashMap<>();
+        counts.forEach((itemId, count) ->
+                (flashSaleItemIds.contains(itemId) ? flashSaleCounts : databaseCounts).put(itemId, count));
+
+        if (!databaseCounts.isEmpty()) {
+            List<Long> failedItemIds = itemRepository.decreaseStock(databaseCounts);
+            if (!failedItemIds.isEmpty()) {
+                return failedItemIds;
+            }
+        }
+
+        Long failedItemId = flashSaleService.decrease(flashSaleCounts);
+        return failedItemId == null ? List.of() : List.of(failedItemId);
+    }
+
     /**
      * 장바구니로 주문하는 지 개별주문 하는지 확인하는 메서드
      *
      * @param request CreateOrderDto의 값이 비어있으면 개별주문 없으면 장바구니 주문
-     * @return
+     * @return 요청 본문이 없거나 아이템 ID와 수량이 모두 비어있으면 true
      */
-    private boolean orderFromCart(CreateOrderDto request) {
-        return request.getItemId() == null && request.getCount() == null;
+    static boolean orderFromCart(CreateOrderDto request) {
+        return request == null || (request.getItemId() == null && request.getCount() == null);
     }
 
 }
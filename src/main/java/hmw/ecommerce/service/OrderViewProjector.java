@@ -0,0 +1,57 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.event.OrderItemStatusChangedEvent;
+import hmw.ecommerce.event.OrderItemsPlacedEvent;
+import hmw.ecommerce.event.OrderItemsStatusChangedEvent;
+import hmw.ecommerce.repository.entity.OrderViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 쓰기 이벤트를 받아 주문 읽기 모델(OrderView)을 갱신하는 서비스.
+ * 주문 트랜잭션이 커밋되기 직전에 같은 트랜잭션 안에서 기록하므로, 주문과 읽기 모델이 함께 커밋되거나 함께 롤백됨.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderViewProjector {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final OrderViewRepository orderViewRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderItemsPlacedEvent event) {
+        orderViewRepository.insertAll(event.getItems());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderItemStatusChangedEvent event) {
+        orderViewRepository.updateStatus(event.getOrderItemId(), event.getOrderStatus());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderItemsStatusChangedEvent event) {
+        orderViewRepository.updateStatuses(event.getChanges());
+    }
+
+    /**
+     * 주문 아이템 테이블 전체로 읽기 모델을 다시 만듭니다.
+     * 주문 아이템 ID 순으로 묶음마다 upsert하므로 서비스 중에도 실행할 수 있으며, 중간에 멈춰도 다시 실행하면 됩니다.
+     *
+     * @return 다시 기록한 묶음 수
+     */
+    public int rebuild() {
+        int chunks = 0;
+        Long lastOrderItemId = 0L;
+        while ((lastOrderItemId = orderViewRepository.rebuildAfter(lastOrderItemId, REBUILD_CHUNK_SIZE)) != null) {
+            chunks++;
+        }
+        log.info("주문 읽기 모델을 다시 만들었습니다. chunks={}", chunks);
+        return chunks;
+    }
+
+}
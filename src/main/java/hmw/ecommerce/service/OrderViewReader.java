@@ -0,0 +1,117 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.OrderView;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.repository.OrderArchiveRepository;
+import hmw.ecommerce.repository.entity.OrderViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 주문 읽기 모델을 조회하면서, 조회 범위가 보관 기준(spring.order.archive.after)보다 오래된 주문에 닿으면 보관 테이블도 함께 읽는 클래스.
+ * 보관된 주문은 모두 기준 일시보다 오래되었으므로, 현재 테이블에서 읽은 페이지가 가득 차 있고 마지막 행이 기준 일시 이후라면 보관 테이블은 읽지 않음.
+ * 그렇지 않으면 두 테이블에서 같은 조건으로 읽어 (주문 일시, 주문 아이템 ID) 내림차순으로 합침.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderViewReader {
+
+    private static final Comparator<OrderView> LATEST_FIRST = Comparator
+            .comparing(OrderView::getOrderDate)
+            .thenComparing(OrderView::getOrderItemId)
+            .reversed();
+
+    private final OrderViewRepository orderViewRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+
+    @Value("${spring.order.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${spring.order.archive.after:180d}")
+    private Duration archiveAfter;
+
+    /**
+     * 구매자의 주문 내역 한 페이지를 최신순으로 조회합니다.
+     */
+    public List<OrderView> findBuyerPage(String buyerId, int page, int size) {
+        List<OrderView> hot = orderViewRepository
+                .findByBuyerIdOrderByOrderDateDescOrderItemIdDesc(buyerId, PageRequest.of(page, size))
+                .getContent();
+        if (!reachesArchive(hot, size)) {
+            return hot;
+        }
+
+        int limit = (page + 1) * size;
+        List<OrderView> hotTop = orderViewRepository
+                .findByBuyerIdOrderByOrderDateDescOrderItemIdDesc(buyerId, PageRequest.of(0, limit))
+                .getContent();
+        return merge(hotTop, orderArchiveRepository.findViewsByBuyerId(buyerId, null, null, limit), page * size, size);
+    }
+
+    /**
+     * 구매자의 주문 내역을 커서 이후부터 최신순으로 조회합니다.
+     *
+     * @param orderDate 커서의 주문 일시 (처음부터면 null)
+     * @param orderItemId 커서의 주문 아이템 ID (처음부터면 null)
+     */
+    public Slice<OrderView> findBuyerAfter(String buyerId, LocalDateTime orderDate, Long orderItemId, int limit) {
+        PageRequest pageable = PageRequest.of(0, limit);
+        Slice<OrderView> hot = orderDate == null
+                ? orderViewRepository.findByBuyerIdOrderByOrderDateDescOrderItemIdDesc(buyerId, pageable)
+                : orderViewRepository.findByBuyerIdAfter(buyerId, orderDate, orderItemId, pageable);
+        if (!reachesArchive(hot.getContent(), limit)) {
+            return hot;
+        }
+
+        List<OrderView> archived = orderArchiveRepository.findViewsByBuyerId(buyerId, orderDate, orderItemId, limit + 1);
+        List<OrderView> merged = merge(hot.getContent(), archived, 0, limit + 1);
+        boolean hasNext = hot.hasNext() || merged.size() > limit;
+        return new SliceImpl<>(merged.subList(0, Math.min(limit, merged.size())), pageable, hasNext);
+    }
+
+    /**
+     * 판매자의 판매 주문 한 페이지를 최신순으로 조회합니다.
+     */
+    public List<OrderView> findSellerPage(String sellerId, Collection<OrderStatus> orderStatuses, int page, int size) {
+        List<OrderView> hot = orderViewRepository.findBySellerIdAndOrderStatusInOrderByOrderDateDescOrderItemIdDesc(
+                sellerId, orderStatuses, PageRequest.of(page, size));
+        if (!reachesArchive(hot, size)) {
+            return hot;
+        }
+
+        int limit = (page + 1) * size;
+        List<OrderView> hotTop = orderViewRepository.findBySellerIdAndOrderStatusInOrderByOrderDateDescOrderItemIdDesc(
+                sellerId, orderStatuses, PageRequest.of(0, limit));
+        return merge(hotTop, orderArchiveRepository.findViewsBySellerId(sellerId, orderStatuses, limit), page * size, size);
+    }
+
+    private boolean reachesArchive(List<OrderView> hot, int size) {
+        if (!archiveEnabled) {
+            return false;
+        }
+        return hot.size() < size || hot.get(hot.size() - 1).getOrderDate().isBefore(LocalDateTime.now().minus(archiveAfter));
+    }
+
+    private List<OrderView> merge(List<OrderView> hot, List<OrderView> archived, int offset, int size) {
+        List<OrderView> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        merged.addAll(archived);
+        merged.sort(LATEST_FIRST);
+        if (offset >= merged.size()) {
+            return List.of();
+        }
+        return merged.subList(offset, Math.min(offset + size, merged.size()));
+    }
+
+}
@@ -0,0 +1,219 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.ItemDailySales;
+import hmw.ecommerce.entity.OrderOutbox;
+import hmw.ecommerce.entity.SellerDailySales;
+import hmw.ecommerce.entity.vo.SalesCounts;
+import hmw.ecommerce.event.OrderItemStatusChangedEvent;
+import hmw.ecommerce.event.OrderItemsPlacedEvent;
+import hmw.ecommerce.event.OrderItemsStatusChangedEvent;
+import hmw.ecommerce.event.OrderOutboxListener;
+import hmw.ecommerce.repository.OrderOutboxRepository;
+import hmw.ecommerce.repository.entity.SellerDailySalesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 주문 이벤트를 받아 판매자별/아이템별 일 매출 집계(SellerDailySales, ItemDailySales)를 갱신하는 서비스.
+ * 아웃박스에서 꺼낸 이벤트의 변경분만 더하므로 주문 요청 경로에서 빠지며, 매출 조회가 주문 아이템 테이블을 읽지 않음.
+ * 아웃박스 행을 지우는 트랜잭션 안에서 기록하므로 같은 이벤트가 두 번 더해지지 않음.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupProjector implements OrderOutboxListener {
+
+    private static final Comparator<SellerDailySales.Key> SELLER_KEY_ORDER =
+            Comparator.comparing(SellerDailySales.Key::getSellerId).thenComparing(SellerDailySales.Key::getSalesDate);
+    private static final Comparator<ItemDailySales.Key> ITEM_KEY_ORDER =
+            Comparator.comparing(ItemDailySales.Key::getItemId).thenComparing(ItemDailySales.Key::getSalesDate);
+
+    private final SellerDailySalesRepository sellerDailySalesRepository;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderOutboxWriter orderOutboxWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.order.rollup.backfill.parallelism:4}")
+    private int backfillParallelism;
+
+    @Value("${spring.order.rollup.backfill.chunk-days:7}")
+    private int backfillChunkDays;
+
+    @Value("${spring.order.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${spring.order.outbox.max-attempts:10}")
+    private int outboxMaxAttempts;
+
+    /**
+     * 아웃박스에서 꺼낸 주문 이벤트 묶음의 매출 변경분을 한 번에 더합니다.
+     */
+    @Override
+    public void onEvents(List<Object> events) {
+        Deltas deltas = new Deltas(LocalDate.MIN, LocalDate.MAX, 1);
+        events.forEach(deltas::add);
+        deltas.save();
+    }
+
+    /**
+     * 주문 아이템 전체로 매출 집계를 다시 만듭니다.
+     * 가장 오래된 주문 일자부터 spring.order.rollup.backfill.chunk-days 일씩 나누어,
+     * spring.order.rollup.backfill.parallelism 개의 스레드가 구간마다 별도 트랜잭션으로 다시 집계합니다.
+     * 구간끼리는 집계 행이 겹치지 않으므로 동시에 실행해도 되며, 중간에 실패해도 다시 실행하면 됩니다.
+     * <p>
+     * 다시 만드는 동안에는 모든 서버의 아웃박스 전달을 멈춥니다. 아웃박스에 남은 이벤트의 변경분은 이미 주문 아이템에 커밋되어
+     * 다시 집계한 값에 포함되므로, 구간마다 같은 트랜잭션에서 그 구간에 해당하는 변경분을 빼 두어 재개된 전달이 더해도 한 번만 반영되게 합니다.
+     * 다시 집계하는 쿼리(INSERT ... SELECT)가 구간의 주문 아이템에 공유 락을 잡으므로, 그 뒤 트랜잭션이 끝날 때까지 구간의 주문이 새로
+     * 커밋되지 않아 집계에 포함된 이벤트와 뺀 이벤트가 어긋나지 않습니다. (REPEATABLE READ 기준, 오늘이 포함된 구간을 다시 집계하는 동안 주문 기록이 잠시 기다림)
+     * 최대 시도 횟수를 넘어 남겨 둔 이벤트는 다시 전달되지 않으므로 빼지 않으며, 재생성 뒤에는 다시 시도하지 말고 지워야 합니다.
+     *
+     * @return 다시 집계한 구간 수 (다른 서버에서 이미 다시 만드는 중이면 0)
+     */
+    public int rebuild() {
+        return orderOutboxRepository.runWithRelayPaused(this::rebuildChunks).orElseGet(() -> {
+            log.info("다른 서버에서 매출 집계를 다시 만드는 중이라 건너뜁니다.");
+            return 0;
+        });
+    }
+
+    private int rebuildChunks() {
+        LocalDateTime oldest = sellerDailySalesRepository.findOldestOrderDate(archiveEnabled);
+        if (oldest == null) {
+            return 0;
+        }
+
+        LocalDate end = LocalDate.now().plusDays(1);
+        List<LocalDate> chunkStarts = new ArrayList<>();
+        for (LocalDate from = oldest.toLocalDate(); from.isBefore(end); from = from.plusDays(backfillChunkDays)) {
+            chunkStarts.add(from);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(backfillParallelism, chunkStarts.size()));
+        try {
+            List<Future<Integer>> results = new ArrayList<>(chunkStarts.size());
+            for (LocalDate from : chunkStarts) {
+                LocalDate to = from.plusDays(backfillChunkDays).isAfter(end) ? end : from.plusDays(backfillChunkDays);
+                results.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                    int rows = sellerDailySalesRepository.rebuild(from, to, archiveEnabled);
+                    subtractPendingEvents(from, to);
+                    return rows;
+                })));
+            }
+
+            int rows = 0;
+            for (Future<Integer> result : results) {
+                rows += result.get();
+            }
+            log.info("매출 집계를 다시 만들었습니다. chunks={}, sellerDays={}", chunkStarts.size(), rows);
+            return chunkStarts.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("매출 집계 재생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("매출 집계를 다시 만들지 못했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 아웃박스에 남아 전달을 기다리는 이벤트 중 주문 일자가 [from, to)인 변경분을 집계에서 뺍니다.
+     */
+    private void subtractPendingEvents(LocalDate from, LocalDate to) {
+        Deltas deltas = new Deltas(from, to, -1);
+        for (OrderOutbox outbox : orderOutboxRepository.findPending(outboxMaxAttempts)) {
+            deltas.add(orderOutboxWriter.read(outbox));
+        }
+        deltas.save();
+    }
+
+    /**
+     * 한 트랜잭션의 매출 변경분을 판매자/아이템 일자별로 모아 두었다가 키 순서대로 한 번에 기록합니다.
+     * 주문 일자가 [from, to)인 변경분만 모으며, sign이 -1이면 변경분을 빼도록 기록합니다.
+     */
+    private class Deltas {
+
+        private final LocalDate from;
+        private final LocalDate to;
+        private final int sign;
+
+        private final Map<SellerDailySales.Key, SalesCounts> sellerCounts = new HashMap<>();
+        private final Map<ItemDailySales.Key, SalesCounts> itemCounts = new HashMap<>();
+        private final Map<Long, String> itemSellers = new HashMap<>();
+
+        private Deltas(LocalDate from, LocalDate to, int sign) {
+            this.from = from;
+            this.to = to;
+            this.sign = sign;
+        }
+
+        private void add(Object event) {
+            if (event instanceof OrderItemsPlacedEvent placed) {
+                placed.getItems().forEach(this::place);
+            } else if (event instanceof OrderItemStatusChangedEvent change) {
+                changeStatus(change);
+            } else if (event instanceof OrderItemsStatusChangedEvent changes) {
+                changes.getChanges().forEach(this::changeStatus);
+            }
+        }
+
+        private void place(OrderItemsPlacedEvent.PlacedItem item) {
+            long units = (long) sign * item.getUnitCount();
+            long revenue = units * item.getUnitPrice();
+            of(item.getSellerId(), item.getItemId(), item.getOrderDate())
+                    .forEach(counts -> counts.place(units, revenue));
+        }
+
+        private void changeStatus(OrderItemStatusChangedEvent change) {
+            long units = (long) sign * change.getUnitCount();
+            long revenue = units * change.getUnitPrice();
+            of(change.getSellerId(), change.getItemId(), change.getOrderDate())
+                    .forEach(counts -> counts.changeStatus(
+                            change.getPreviousStatus(), change.getOrderStatus(), units, revenue));
+        }
+
+        private List<SalesCounts> of(String sellerId, Long itemId, LocalDateTime orderDate) {
+            LocalDate salesDate = orderDate.toLocalDate();
+            if (salesDate.isBefore(from) || !salesDate.isBefore(to)) {
+                return List.of();
+            }
+            itemSellers.put(itemId, sellerId);
+            return List.of(
+                    sellerCounts.computeIfAbsent(new SellerDailySales.Key(sellerId, salesDate), key -> new SalesCounts()),
+                    itemCounts.computeIfAbsent(new ItemDailySales.Key(itemId, salesDate), key -> new SalesCounts()));
+        }
+
+        private void save() {
+            if (sellerCounts.isEmpty()) {
+                return;
+            }
+            List<SellerDailySales> sellerSales = sellerCounts.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(SELLER_KEY_ORDER))
+                    .map(entry -> new SellerDailySales(
+                            entry.getKey().getSellerId(), entry.getKey().getSalesDate(), entry.getValue()))
+                    .toList();
+            List<ItemDailySales> itemSales = itemCounts.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(ITEM_KEY_ORDER))
+                    .map(entry -> new ItemDailySales(entry.getKey().getItemId(), entry.getKey().getSalesDate(),
+                            itemSellers.get(entry.getKey().getItemId()), entry.getValue()))
+                    .toList();
+            sellerDailySalesRepository.addAll(sellerSales, itemSales);
+        }
+    }
+
+}
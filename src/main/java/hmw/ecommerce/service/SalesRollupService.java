@@ -0,0 +1,90 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.dto.order.SalesDto;
+import hmw.ecommerce.entity.vo.SalesCounts;
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.OrderException;
+import hmw.ecommerce.jwt.JWTUtil;
+import hmw.ecommerce.repository.entity.ItemDailySalesRepository;
+import hmw.ecommerce.repository.entity.SellerDailySalesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 판매자 매출을 일 매출 집계에서 조회하는 서비스.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SalesRollupService {
+
+    private static final int MAX_SALES_PERIOD_DAYS = 366;
+    private static final int MAX_SALES_ITEM_SIZE = 100;
+
+    private final SellerDailySalesRepository sellerDailySalesRepository;
+    private final ItemDailySalesRepository itemDailySalesRepository;
+    private final JWTUtil jwtUtil;
+
+    /**
+     * 로그인한 판매자의 기간 내 일별 매출과 합계를 조회합니다.
+     *
+     * @param token 판매자 로그인 토큰
+     * @param from 시작 일자 (포함)
+     * @param to 끝 일자 (포함)
+     * @return 일별 매출과 합계
+     */
+    public SalesDto.Response getDailySales(String token, LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        String sellerId = jwtUtil.extractLoginIdFromToken(token);
+
+        List<SalesDto.Daily> days = sellerDailySalesRepository
+                .findBySellerIdAndSalesDateBetweenOrderBySalesDate(sellerId, from, to)
+                .stream()
+                .map(SalesDto.Daily::fromEntity)
+                .toList();
+
+        long[] total = new long[6];
+        for (SalesDto.Daily day : days) {
+            SalesCounts counts = day.getCounts();
+            total[0] += counts.getOrderedUnits();
+            total[1] += counts.getOrderedRevenue();
+            total[2] += counts.getCanceledUnits();
+            total[3] += counts.getCanceledRevenue();
+            total[4] += counts.getCompletedUnits();
+            total[5] += counts.getCompletedRevenue();
+        }
+        return new SalesDto.Response(from, to,
+                new SalesCounts(total[0], total[1], total[2], total[3], total[4], total[5]), days);
+    }
+
+    /**
+     * 로그인한 판매자의 기간 내 아이템별 매출을 순매출이 큰 순서로 조회합니다.
+     *
+     * @param token 판매자 로그인 토큰
+     * @param from 시작 일자 (포함)
+     * @param to 끝 일자 (포함)
+     * @param size 조회할 아이템 수
+     * @return 아이템별 매출
+     */
+    public SalesDto.ItemResponse getItemSales(String token, LocalDate from, LocalDate to, int size) {
+        validatePeriod(from, to);
+        String sellerId = jwtUtil.extractLoginIdFromToken(token);
+        int limit = Math.min(Math.max(size, 1), MAX_SALES_ITEM_SIZE);
+
+        return new SalesDto.ItemResponse(from, to,
+                itemDailySalesRepository.findTopItemsBySellerId(sellerId, from, to, PageRequest.of(0, limit)));
+    }
+
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_SALES_PERIOD_DAYS) {
+            throw new OrderException(ErrorCode.INVALID_SALES_PERIOD);
+        }
+    }
+
+}
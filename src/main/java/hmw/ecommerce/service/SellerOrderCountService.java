@@ -0,0 +1,121 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.dto.order.SellerOrderSummaryDto;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.jwt.JWTUtil;
+import hmw.ecommerce.repository.entity.SellerOrderCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 판매자별 주문 아이템 상태 개수(SellerOrderCount)를 관리하는 서비스.
+ * 판매 주문 목록마다 order_item을 세는 대신, 주문 생성/취소/완료 시 같은 트랜잭션에서 개수를 더하고 빼서 유지함.
+ * 갱신할 슬롯은 spring.order.seller-counter.slots 개 중 임의로 골라 같은 판매자의 동시 주문이 한 행을 두고 기다리지 않게 함.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SellerOrderCountService {
+
+    private final SellerOrderCountRepository sellerOrderCountRepository;
+    private final JWTUtil jwtUtil;
+
+    @Value("${spring.order.seller-counter.slots:8}")
+    private int slots;
+
+    /**
+     * 개수 테이블이 비어 있으면 기존 주문 아이템으로 채웁니다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (sellerOrderCountRepository.count() > 0) {
+            return;
+        }
+        int sellers = sellerOrderCountRepository.backfill();
+        if (sellers > 0) {
+            log.info("판매자 주문 개수를 기존 주문으로 채웠습니다. sellers={}", sellers);
+        }
+    }
+
+    /**
+     * 새로 생성된 주문 아이템을 대기 상태로 더합니다.
+     *
+     * @param itemCounts 판매자 ID별 새 주문 아이템 수
+     */
+    @Transactional
+    public void addPending(Map<String, Integer> itemCounts) {
+        new TreeMap<>(itemCounts).forEach((sellerId, count) ->
+                sellerOrderCountRepository.add(sellerId, slot(), count, 0, 0));
+    }
+
+    /**
+     * 주문 아이템 하나의 상태 변경을 반영합니다.
+     *
+     * @param sellerId 판매자 ID
+     * @param from 변경 전 상태
+     * @param to 변경 후 상태
+     */
+    @Transactional
+    public void changeStatus(String sellerId, OrderStatus from, OrderStatus to) {
+        changeStatus(sellerId, from, to, 1);
+    }
+
+    /**
+     * 같은 판매자의 주문 아이템 여러 개가 같은 상태로 바뀐 것을 한 번에 반영합니다.
+     *
+     * @param sellerId 판매자 ID
+     * @param from 변경 전 상태
+     * @param to 변경 후 상태
+     * @param count 바뀐 주문 아이템 수
+     */
+    @Transactional
+    public void changeStatus(String sellerId, OrderStatus from, OrderStatus to, int count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        long[] deltas = new long[OrderStatus.values().length];
+        deltas[from.ordinal()] -= count;
+        deltas[to.ordinal()] += count;
+        sellerOrderCountRepository.add(sellerId, slot(),
+                deltas[OrderStatus.PENDING.ordinal()],
+                deltas[OrderStatus.CANCELED.ordinal()],
+                deltas[OrderStatus.COMPLETED.ordinal()]);
+    }
+
+    /**
+     * 판매자의 상태별 주문 아이템 수를 조회합니다.
+     *
+     * @param sellerId 판매자 ID
+     * @return 상태별 주문 아이템 수
+     */
+    @Transactional(readOnly = true)
+    public SellerOrderSummaryDto getSummary(String sellerId) {
+        return sellerOrderCountRepository.summarize(sellerId);
+    }
+
+    /**
+     * 로그인한 판매자의 상태별 주문 아이템 수를 조회합니다.
+     *
+     * @param token 판매자 로그인 토큰
+     * @return 상태별 주문 아이템 수
+     */
+    @Transactional(readOnly = true)
+    public SellerOrderSummaryDto getSummaryByToken(String token) {
+        return getSummary(jwtUtil.extractLoginIdFromToken(token));
+    }
+
+    private int slot() {
+        return ThreadLocalRandom.current().nextInt(slots);
+    }
+
+}
@@ -0,0 +1,148 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.Item;
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.ItemException;
+import hmw.ecommerce.repository.redis.StockReservationRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로그인 사용자의 장바구니 수량만큼 재고를 일정 시간(spring.cart.reservation-ttl) 동안 잡아두는 서비스.
+ * 예약은 DB 재고를 바꾸지 않으며, 다른 사용자가 담거나 주문할 수 있는 수량을 (재고 - 다른 사용자의 예약)으로 제한함.
+ * 주문이 확정되면 DB 재고가 차감되고 예약은 해제되며, 만료된 예약은 스케줄러가 정리함.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final StockReservationRedisRepository stockReservationRedisRepository;
+    private final FlashSaleService flashSaleService;
+
+    @Value("${spring.cart.reservation-ttl:15m}")
+    private Duration reservationTtl;
+
+    /**
+     * 아이템 하나의 재고를 예약합니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param item 예약할 아이템
+     * @param count 예약 수량
+     * @throws ItemException 예약 가능한 재고가 부족하면 예외 발생
+     */
+    public void reserve(String loginId, Item item, int count) {
+        reserveAll(loginId, List.of(item), Map.of(item.getId(), count));
+    }
+
+    /**
+     * 여러 아이템의 재고를 한꺼번에 예약합니다. 하나라도 부족하면 아무것도 예약하지 않습니다.
+     * 플래시 세일 아이템은 주문 시점에 선착순으로 처리되므로 예약하지 않습니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param items 예약할 아이템 목록
+     * @param counts 아이템 ID별 예약 수량
+     * @throws ItemException 예약 가능한 재고가 부족하면 예외 발생
+     */
+    public void reserveAll(String loginId, Collection<Item> items, Map<Long, Integer> counts) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        Set<Long> flashSaleItemIds = flashSaleService.getFlashSaleItemIds(counts.keySet());
+        Map<Long, Integer> reserveCounts = new LinkedHashMap<>();
+        Map<Long, Integer> stocks = new LinkedHashMap<>();
+        for (Item item : items) {
+            if (!flashSaleItemIds.contains(item.getId())) {
+                reserveCounts.put(item.getId(), counts.get(item.getId()));
+                stocks.put(item.getId(), item.getStockQuantity());
+            }
+        }
+
+        if (reserveCounts.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Long failedItemId = stockReservationRedisRepository.reserve(
+                loginId, reserveCounts, stocks, now, now + reservationTtl.toMillis());
+        if (failedItemId != null) {
+            throw new ItemException(ErrorCode.OUT_OF_STOCK);
+        }
+    }
+
+    /**
+     * 사용자의 예약을 해제합니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param itemIds 예약을 해제할 아이템 ID 목록
+     */
+    public void release(String loginId, Collection<Long> itemIds) {
+        stockReservationRedisRepository.release(loginId, itemIds);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 사용자의 예약을 해제합니다.
+     * 주문으로 DB 재고가 차감된 뒤에 예약이 풀리도록 하여, 그 사이에 같은 재고가 다른 사용자에게 다시 보이지 않게 합니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param itemIds 예약을 해제할 아이템 ID 목록
+     */
+    public void releaseAfterCommit(String loginId, Collection<Long> itemIds) {
+        List<Long> ids = new ArrayList<>(itemIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(loginId, ids);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(loginId, ids);
+            }
+        });
+    }
+
+    /**
+     * 아이템마다 다른 사용자들이 예약한 수량을 조회합니다.
+     *
+     * @param loginId 사용자 로그인 ID
+     * @param itemIds 조회할 아이템 ID 목록
+     * @return 아이템 ID별 다른 사용자들의 예약 수량
+     */
+    public Map<Long, Long> getReservedByOthers(String loginId, Collection<Long> itemIds) {
+        return stockReservationRedisRepository.findReservedByOthers(loginId, itemIds, System.currentTimeMillis());
+    }
+
+    /**
+     * 모든 아이템의 만료된 예약을 정리하여 예약된 재고를 돌려놓습니다.
+     *
+     * @return 돌려놓은 예약 수량의 합
+     */
+    public long purgeExpired() {
+        Set<String> itemIds = stockReservationRedisRepository.findReservedItemIds();
+        if (itemIds == null || itemIds.isEmpty()) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        long returned = 0;
+        for (String itemId : itemIds) {
+            returned += stockReservationRedisRepository.purgeExpired(Long.valueOf(itemId), now);
+        }
+        return returned;
+    }
+
+}
@@ -4,16 +4,47 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+/**
+ * AES 암복호화 유틸리티.
+ * 키는 생성 시 한 번만 만들고, Cipher 인스턴스는 풀에서 빌려 쓰고 반납하여 호출마다 생성하지 않음.
+ * 풀은 스레드에 묶이지 않으므로 가상 스레드처럼 스레드가 많아도 인스턴스 수가 풀 크기로 제한됨.
+ */
 @Component
 public class AESUtil {
 
     private static final String ALGORITHM = "AES";
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    public static final int GCM_IV_LENGTH = 12;
+    public static final int GCM_TAG_LENGTH = 16;
+    private static final int CIPHER_POOL_SIZE = 64;
 
-    @Value("${spring.aes.secret}")
-    private String secretKey;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final SecretKeySpec keySpec;
+    private final SecretKeySpec gcmKeySpec;
+    private final CipherPool ecbCiphers = new CipherPool(ALGORITHM);
+    private final CipherPool gcmCiphers = new CipherPool(GCM_TRANSFORMATION);
+
+    /**
+     * 생성자: 설정된 비밀 키로 암호화 키를 초기화합니다.
+     *
+     * @param secretKey 비밀 키
+     */
+    public AESUtil(@Value("${spring.aes.secret}") String secretKey) {
+        this.keySpec = new SecretKeySpec(secretKey.getBytes(), ALGORITHM);
+        this.gcmKeySpec = deriveGcmKey(secretKey);
+    }
 
     /**
      * 입력 문자열을 AES 알고리즘을 사용해 암호화합니다.
@@ -23,11 +54,14 @@ public class AESUtil {
      * @throws Exception 암호화 중 발생할 수 있는 예외
      */
     public String encrypt(String input) throws Exception {
-        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(), ALGORITHM);
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-        byte[] encryptedBytes = cipher.doFinal(input.getBytes());
-        return Base64.getEncoder().encodeToString(encryptedBytes);
+        Cipher cipher = ecbCiphers.borrow();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
+            byte[] encryptedBytes = cipher.doFinal(input.getBytes());
+            return Base64.getEncoder().encodeToString(encryptedBytes);
+        } finally {
+            ecbCiphers.release(cipher);
+        }
     }
 
     /**
@@ -38,12 +72,109 @@ public class AESUtil {
      * @throws Exception 복호화 중 발생할 수 있는 예외
      */
     public String decrypt(String encryptedInput) throws Exception {
-        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(), ALGORITHM);
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, keySpec);
-        byte[] encryptedBytes = Base64.getDecoder().decode(encryptedInput);
-        byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
-        return new String(decryptedBytes);
+        Cipher cipher = ecbCiphers.borrow();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, keySpec);
+            byte[] encryptedBytes = Base64.getDecoder().decode(encryptedInput);
+            byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
+            return new String(decryptedBytes);
+        } finally {
+            ecbCiphers.release(cipher);
+        }
+    }
+
+    /**
+     * 버퍼의 남은 바이트를 AES-GCM으로 암호화하여 출력 버퍼에 씁니다.
+     * 매 호출마다 임의의 IV를 생성하며, 출력은 IV(12바이트) 뒤에 암호문과 인증 태그(16바이트)가 이어진 형태입니다.
+     * 출력 버퍼에는 최소 {@code plain.remaining() + GCM_IV_LENGTH + GCM_TAG_LENGTH} 바이트의 공간이 있어야 합니다.
+     *
+     * @param plain 암호화할 데이터
+     * @param associatedData 암호화하지 않지만 함께 인증할 데이터
+     * @param output IV와 암호문을 기록할 버퍼
+     * @return 출력 버퍼에 기록한 바이트 수
+     * @throws Exception 암호화 중 발생할 수 있는 예외
+     */
+    public int encryptAuthenticated(ByteBuffer plain, byte[] associatedData, ByteBuffer output) throws Exception {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        SECURE_RANDOM.nextBytes(iv);
+
+        Cipher cipher = gcmCiphers.borrow();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, gcmKeySpec, new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv));
+            cipher.updateAAD(associatedData);
+            output.put(iv);
+            return GCM_IV_LENGTH + cipher.doFinal(plain, output);
+        } finally {
+            gcmCiphers.release(cipher);
+        }
+    }
+
+    /**
+     * AES-GCM으로 암호화된 버퍼(IV와 암호문)를 복호화하여 출력 버퍼에 씁니다.
+     * 데이터가 변조되었거나 키가 다르면 인증 태그 검증에 실패하여 예외가 발생합니다.
+     *
+     * @param encrypted IV와 암호문
+     * @param associatedData 암호화 시 함께 인증한 데이터
+     * @param output 복호화된 데이터를 기록할 버퍼
+     * @return 출력 버퍼에 기록한 바이트 수
+     * @throws Exception 복호화 또는 인증 중 발생할 수 있는 예외
+     */
+    public int decryptAuthenticated(ByteBuffer encrypted, byte[] associatedData, ByteBuffer output) throws Exception {
+        if (encrypted.remaining() < GCM_IV_LENGTH + GCM_TAG_LENGTH) {
+            throw new IllegalArgumentException("암호문의 길이가 올바르지 않습니다.");
+        }
+
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        encrypted.get(iv);
+
+        Cipher cipher = gcmCiphers.borrow();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, gcmKeySpec, new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv));
+            cipher.updateAAD(associatedData);
+            return cipher.doFinal(encrypted, output);
+        } finally {
+            gcmCiphers.release(cipher);
+        }
+    }
+
+    /**
+     * 설정된 비밀 키에서 AES-256 GCM 키를 유도합니다.
+     * 기존 ECB 암호화와 같은 키 바이트를 재사용하지 않도록 용도 문자열을 붙여 해시합니다.
+     *
+     * @param secretKey 비밀 키
+     * @return GCM 암호화에 사용할 키
+     */
+    private static SecretKeySpec deriveGcmKey(String secretKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] keyBytes = digest.digest(("gcm:" + secretKey).getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(keyBytes, ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("GCM 키를 생성할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 같은 변환(transformation)의 Cipher 인스턴스를 재사용하기 위한 크기 제한 풀.
+     * 빌려간 인스턴스는 사용 전에 반드시 init 되므로 이전 사용 상태가 남지 않음.
+     */
+    private static final class CipherPool {
+
+        private final String transformation;
+        private final BlockingQueue<Cipher> idle = new ArrayBlockingQueue<>(CIPHER_POOL_SIZE);
+
+        private CipherPool(String transformation) {
+            this.transformation = transformation;
+        }
+
+        private Cipher borrow() throws GeneralSecurityException {
+            Cipher cipher = idle.poll();
+            return cipher != null ? cipher : Cipher.getInstance(transformation);
+        }
+
+        private void release(Cipher cipher) {
+            idle.offer(cipher);
+        }
     }
 
 }
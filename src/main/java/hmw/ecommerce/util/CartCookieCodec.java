@@ -0,0 +1,159 @@
+package hmw.ecommerce.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hmw.ecommerce.entity.dto.cart.AddToCartDto;
+import hmw.ecommerce.entity.vo.CartLine;
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.CartException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 비로그인 장바구니 쿠키를 인코딩/디코딩하는 클래스.
+ *
+ * <p>쿠키 값 형식 (v2) : Base64 URL-safe( 버전(1바이트) | AES-GCM( 아이템 수 | (아이템 ID, 수량, 담을 당시 가격 + 1)... ) )
+ * <br>모든 값은 varint로 기록하며, 가격 0은 알 수 없음을 뜻합니다. 버전 바이트는 AAD로 함께 인증됩니다.
+ * <br>가격이 없는 v1 형식( 아이템 수 | (아이템 ID, 수량)... )도 읽을 수 있습니다.
+ * <br>이전 형식(JSON + AES/ECB + Base64)의 쿠키도 읽을 수 있으며, 다음 저장 시 새 형식으로 교체됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartCookieCodec {
+
+    private static final byte VERSION_1 = 1;
+    private static final byte VERSION_2 = 2;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final AESUtil aesUtil;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 장바구니를 쿠키 값으로 인코딩합니다.
+     *
+     * @param cartItems 아이템 ID별 장바구니 항목
+     * @return 쿠키에 저장할 값
+     */
+    public String encode(Map<Long, CartLine> cartItems) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_VARINT_BYTES * (cartItems.size() * 3 + 1));
+        writeVarint(buffer, cartItems.size());
+        for (CartLine cartLine : cartItems.values()) {
+            writeVarint(buffer, cartLine.getItemId());
+            writeVarint(buffer, cartLine.getCount());
+            writeVarint(buffer, cartLine.getAddedPrice() == null ? 0 : cartLine.getAddedPrice() + 1L);
+        }
+
+        buffer.flip();
+
+        try {
+            byte[] token = new byte[1 + AESUtil.GCM_IV_LENGTH + buffer.remaining() + AESUtil.GCM_TAG_LENGTH];
+            token[0] = VERSION_2;
+            aesUtil.encryptAuthenticated(buffer, new byte[]{VERSION_2}, ByteBuffer.wrap(token, 1, token.length - 1));
+            return ENCODER.encodeToString(token);
+        } catch (Exception e) {
+            log.error("장바구니 쿠키 암호화에 실패했습니다.", e);
+            throw new CartException(ErrorCode.CAN_NOT_ADD_TO_CART);
+        }
+    }
+
+    /**
+     * 쿠키 값을 장바구니로 디코딩합니다.
+     * 새 형식으로 읽을 수 없으면 이전 JSON 형식으로 다시 시도합니다.
+     *
+     * @param cookieValue 쿠키에 저장된 값
+     * @return 아이템 ID별 장바구니 항목
+     * @throws CartException 어떤 형식으로도 읽을 수 없는 경우
+     */
+    public Map<Long, CartLine> decode(String cookieValue) {
+        try {
+            return decodeBinary(cookieValue);
+        } catch (Exception e) {
+            return decodeLegacy(cookieValue);
+        }
+    }
+
+    private Map<Long, CartLine> decodeBinary(String cookieValue) throws Exception {
+        byte[] token = DECODER.decode(cookieValue);
+        if (token.length == 0 || (token[0] != VERSION_1 && token[0] != VERSION_2)) {
+            throw new IllegalArgumentException("지원하지 않는 장바구니 쿠키 버전입니다.");
+        }
+        byte version = token[0];
+
+        int plainLength = token.length - 1 - AESUtil.GCM_IV_LENGTH - AESUtil.GCM_TAG_LENGTH;
+        if (plainLength < 0) {
+            throw new IllegalArgumentException("장바구니 쿠키가 손상되었습니다.");
+        }
+
+        ByteBuffer plain = ByteBuffer.allocate(plainLength);
+        aesUtil.decryptAuthenticated(ByteBuffer.wrap(token, 1, token.length - 1), new byte[]{version}, plain);
+        plain.flip();
+
+        try {
+            int size = (int) readVarint(plain);
+            Map<Long, CartLine> cartItems = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                long itemId = readVarint(plain);
+                int count = (int) readVarint(plain);
+                Integer addedPrice = null;
+                if (version == VERSION_2) {
+                    long price = readVarint(plain);
+                    addedPrice = price == 0 ? null : (int) (price - 1);
+                }
+                cartItems.put(itemId, new CartLine(itemId, count, addedPrice));
+            }
+            return cartItems;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("장바구니 쿠키가 손상되었습니다.", e);
+        }
+    }
+
+    private Map<Long, CartLine> decodeLegacy(String cookieValue) {
+        try {
+            String json = aesUtil.decrypt(cookieValue);
+            Set<AddToCartDto.Response> legacyItems = objectMapper.readValue(json, new TypeReference<>() {});
+
+            Map<Long, CartLine> cartItems = new LinkedHashMap<>();
+            for (AddToCartDto.Response legacyItem : legacyItems) {
+                cartItems.put(legacyItem.getItemId(),
+                        new CartLine(legacyItem.getItemId(), legacyItem.getCount(), legacyItem.getPrice()));
+            }
+            return cartItems;
+        } catch (Exception e) {
+            log.warn("장바구니 쿠키를 읽을 수 없습니다.", e);
+            throw new CartException(ErrorCode.CANNOT_FOUND_CART_ITEM);
+        }
+    }
+
+    private static void writeVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("varint가 너무 깁니다.");
+    }
+
+}
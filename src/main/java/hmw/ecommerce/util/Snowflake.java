@@ -0,0 +1,67 @@
+package hmw.ecommerce.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순으로 증가하는 64비트 ID 생성기 (Snowflake 방식).
+ *
+ * <p>ID 구성 : 부호(1비트, 항상 0) | 기준 시각 이후 경과 시간(41비트, ms) | 노드 ID(10비트) | 순번(12비트)
+ * <br>노드마다 1ms에 4096개까지 만들 수 있으며, 초과하면 다음 ms의 값을 앞당겨 사용하므로 ID는 항상 증가함.
+ * 시계가 뒤로 가더라도 마지막으로 사용한 시각 이후의 값만 사용함.
+ * 락 없이 CAS로 상태를 갱신하며, 같은 노드 ID는 JVM 안에서 하나의 인스턴스를 공유함.
+ */
+public final class Snowflake {
+
+    public static final int NODE_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+
+    private static final Map<Long, Snowflake> INSTANCES = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    /** 마지막으로 발급한 (경과 시간 << SEQUENCE_BITS | 순번) */
+    private final AtomicLong state = new AtomicLong();
+
+    private Snowflake(long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 노드 ID에 해당하는 생성기를 가져옵니다.
+     *
+     * @param nodeId 0 ~ 1023 사이의 노드 ID (인스턴스마다 달라야 함)
+     * @return 생성기
+     */
+    public static Snowflake forNode(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. nodeId=" + nodeId);
+        }
+        return INSTANCES.computeIfAbsent(nodeId, Snowflake::new);
+    }
+
+    /**
+     * 새 ID를 발급합니다.
+     *
+     * @return 이전에 발급한 ID보다 큰 ID
+     */
+    public long nextId() {
+        long elapsed = System.currentTimeMillis() - EPOCH;
+        long previous;
+        long next;
+        do {
+            previous = state.get();
+            long candidate = elapsed << SEQUENCE_BITS;
+            next = candidate > previous ? candidate : previous + 1;
+        } while (!state.compareAndSet(previous, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+}
@@ -0,0 +1,49 @@
+-- 오래된 주문 보관 테이블. 주문 일시(order_date) 월 단위로 파티션하며, 월 파티션은 OrderArchiveRepository가 보관 전에 추가함.
+-- 파티션 키가 기본 키에 포함되어야 하므로 (ID, order_date)를 기본 키로 사용하고, 외래 키는 두지 않음.
+create table if not exists orders_archive (
+    order_id     bigint       not null,
+    count        int          not null,
+    price        int          not null,
+    order_date   datetime(6)  not null,
+    order_status varchar(16),
+    member_id    bigint,
+    created_at   datetime(6),
+    modified_at  datetime(6),
+    primary key (order_id, order_date)
+) row_format = compressed
+partition by range columns (order_date) (partition p_max values less than (maxvalue));
+
+create table if not exists order_item_archive (
+    order_item_id bigint       not null,
+    order_id      bigint       not null,
+    item_id       bigint,
+    buyer_id      varchar(255),
+    seller_id     varchar(255),
+    unit_count    int          not null,
+    unit_price    int          not null,
+    item_name     varchar(255),
+    order_status  tinyint,
+    order_date    datetime(6)  not null,
+    created_at    datetime(6),
+    modified_at   datetime(6),
+    primary key (order_item_id, order_date),
+    key idx_order_item_archive_order (order_id)
+) row_format = compressed
+partition by range columns (order_date) (partition p_max values less than (maxvalue));
+
+create table if not exists order_view_archive (
+    order_item_id bigint       not null,
+    order_id      bigint       not null,
+    item_id       bigint,
+    buyer_id      varchar(255),
+    seller_id     varchar(255),
+    item_name     varchar(255),
+    unit_price    int          not null,
+    unit_count    int          not null,
+    order_status  varchar(16),
+    order_date    datetime(6)  not null,
+    primary key (order_item_id, order_date),
+    key idx_order_view_archive_buyer_order_date (buyer_id, order_date, order_item_id),
+    key idx_order_view_archive_seller_order_date (seller_id, order_date, order_item_id)
+) row_format = compressed
+partition by range columns (order_date) (partition p_max values less than (maxvalue));
@@ -0,0 +1,38 @@
+-- 여러 아이템을 하나의 규칙으로 장바구니에 합칩니다.
+-- KEYS[1] : 장바구니 키
+-- ARGV[1] : 만료 시간(초), ARGV[2] : 병합 규칙(replace | max | sum)
+-- ARGV[3..] : 아이템 ID, 수량, 담을 당시 가격('' 이면 알 수 없음) 순서의 묶음
+-- 반환값 : 병합한 아이템 수
+local rule = ARGV[2]
+local merged = 0
+
+for i = 3, #ARGV, 3 do
+    local field = ARGV[i]
+    local count = tonumber(ARGV[i + 1])
+    local price = ARGV[i + 2]
+
+    if rule == 'sum' then
+        redis.call('HINCRBY', KEYS[1], field, count)
+    elseif rule == 'max' then
+        local current = tonumber(redis.call('HGET', KEYS[1], field) or '0')
+        if count > current then
+            redis.call('HSET', KEYS[1], field, count)
+        end
+    else
+        redis.call('HSET', KEYS[1], field, count)
+    end
+
+    if price ~= '' then
+        if rule == 'replace' then
+            redis.call('HSET', KEYS[1], field .. ':price', price)
+        else
+            redis.call('HSETNX', KEYS[1], field .. ':price', price)
+        end
+    end
+    merged = merged + 1
+end
+
+if merged > 0 then
+    redis.call('EXPIRE', KEYS[1], ARGV[1])
+end
+return merged
@@ -0,0 +1,9 @@
+-- 장바구니에서 아이템을 삭제하고, 남은 아이템이 있으면 만료 시간을 갱신합니다.
+-- KEYS[1] : 장바구니 키, ARGV[1] : 아이템 ID, ARGV[2] : 만료 시간(초)
+-- 반환값 : 삭제된 아이템 수
+local removed = redis.call('HDEL', KEYS[1], ARGV[1])
+redis.call('HDEL', KEYS[1], ARGV[1] .. ':price')
+if removed > 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('EXPIRE', KEYS[1], ARGV[2])
+end
+return removed
@@ -0,0 +1,10 @@
+-- 장바구니 아이템 수량과 담을 당시 가격을 저장하고 만료 시간을 갱신합니다.
+-- KEYS[1] : 장바구니 키, ARGV[1] : 아이템 ID, ARGV[2] : 수량, ARGV[3] : 담을 당시 가격('' 이면 알 수 없음), ARGV[4] : 만료 시간(초)
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+if ARGV[3] ~= '' then
+    redis.call('HSET', KEYS[1], ARGV[1] .. ':price', ARGV[3])
+else
+    redis.call('HDEL', KEYS[1], ARGV[1] .. ':price')
+end
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+return tonumber(ARGV[2])
@@ -0,0 +1,15 @@
+-- 장바구니에 이미 존재하는 아이템의 수량과 가격만 수정합니다.
+-- KEYS[1] : 장바구니 키, ARGV[1] : 아이템 ID, ARGV[2] : 수량, ARGV[3] : 현재 가격('' 이면 알 수 없음), ARGV[4] : 만료 시간(초)
+-- 반환값 : 수정했으면 1, 아이템이 없으면 0
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+if ARGV[3] ~= '' then
+    redis.call('HSET', KEYS[1], ARGV[1] .. ':price', ARGV[3])
+else
+    redis.call('HDEL', KEYS[1], ARGV[1] .. ':price')
+end
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+return 1
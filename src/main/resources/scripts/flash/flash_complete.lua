@@ -0,0 +1,8 @@
+-- DB 반영이 끝난 묶음을 삭제합니다. 그 사이 다른 인스턴스가 새 묶음을 꺼냈다면 그대로 둡니다.
+-- KEYS[1] : 반영 중인 묶음 HASH
+-- ARGV[1] : 반영을 마친 묶음 번호
+-- 반환값 : 삭제했으면 1, 아니면 0
+if redis.call('HGET', KEYS[1], 'batch') == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
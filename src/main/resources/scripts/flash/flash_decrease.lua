@@ -0,0 +1,20 @@
+-- 플래시 세일 아이템들의 재고를 한꺼번에 차감합니다. 하나라도 부족하면 아무것도 차감하지 않습니다.
+-- KEYS[1] : DB에 아직 반영하지 않은 아이템별 차감 수량 HASH
+-- KEYS[2..] : 아이템마다 재고 카운터 키
+-- ARGV : 아이템마다 (아이템 ID, 차감 수량) 순서의 묶음
+-- 반환값 : 성공하면 0, 실패하면 재고가 부족한(또는 플래시 세일이 아닌) 아이템 ID
+for i = 2, #KEYS do
+    local stock = redis.call('GET', KEYS[i])
+    local count = tonumber(ARGV[(i - 2) * 2 + 2])
+    if not stock or tonumber(stock) < count then
+        return tonumber(ARGV[(i - 2) * 2 + 1])
+    end
+end
+
+for i = 2, #KEYS do
+    local itemId = ARGV[(i - 2) * 2 + 1]
+    local count = tonumber(ARGV[(i - 2) * 2 + 2])
+    redis.call('DECRBY', KEYS[i], count)
+    redis.call('HINCRBY', KEYS[1], itemId, count)
+end
+return 0
@@ -0,0 +1,10 @@
+-- 아이템의 플래시 세일 모드를 끄고, DB에 아직 반영하지 않은 차감 수량을 돌려줍니다.
+-- KEYS[1] : 플래시 세일 아이템 ID 집합, KEYS[2] : 재고 카운터 키
+-- KEYS[3] : DB에 아직 반영하지 않은 아이템별 차감 수량 HASH
+-- ARGV[1] : 아이템 ID
+-- 반환값 : DB에 반영해야 할 차감 수량
+local pending = tonumber(redis.call('HGET', KEYS[3], ARGV[1]) or '0')
+redis.call('HDEL', KEYS[3], ARGV[1])
+redis.call('DEL', KEYS[2])
+redis.call('SREM', KEYS[1], ARGV[1])
+return pending
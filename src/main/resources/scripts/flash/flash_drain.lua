@@ -0,0 +1,21 @@
+-- DB에 반영할 차감 수량 묶음을 꺼냅니다.
+-- 이전에 꺼낸 묶음이 아직 반영 완료되지 않았으면 그 묶음을 다시 돌려주고, 아니면 대기 중인 차감 수량에 새 묶음 번호를 붙여 옮깁니다.
+-- KEYS[1] : 대기 중인 차감 수량 HASH, KEYS[2] : 반영 중인 묶음 HASH, KEYS[3] : 묶음 번호 카운터
+-- 반환값 : { 묶음 번호, 아이템 ID, 차감 수량, ... } (반영할 것이 없으면 빈 목록)
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        return {}
+    end
+    redis.call('RENAME', KEYS[1], KEYS[2])
+    redis.call('HSET', KEYS[2], 'batch', redis.call('INCR', KEYS[3]))
+end
+
+local result = { redis.call('HGET', KEYS[2], 'batch') }
+local entries = redis.call('HGETALL', KEYS[2])
+for i = 1, #entries, 2 do
+    if entries[i] ~= 'batch' then
+        result[#result + 1] = entries[i]
+        result[#result + 1] = entries[i + 1]
+    end
+end
+return result
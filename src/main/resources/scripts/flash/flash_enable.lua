@@ -0,0 +1,9 @@
+-- 아이템을 플래시 세일 모드로 전환하고 재고 카운터를 초기화합니다. 이미 플래시 세일이면 그대로 둡니다.
+-- KEYS[1] : 플래시 세일 아이템 ID 집합, KEYS[2] : 재고 카운터 키
+-- ARGV[1] : 아이템 ID, ARGV[2] : DB 재고
+-- 반환값 : 새로 전환했으면 1, 이미 플래시 세일이면 0
+if redis.call('SET', KEYS[2], ARGV[2], 'NX') then
+    redis.call('SADD', KEYS[1], ARGV[1])
+    return 1
+end
+return 0
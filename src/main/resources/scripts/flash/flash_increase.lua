@@ -0,0 +1,11 @@
+-- 플래시 세일 아이템의 재고를 되돌립니다. (주문 취소, 주문 저장 실패 시 보상)
+-- KEYS[1] : DB에 아직 반영하지 않은 아이템별 차감 수량 HASH, KEYS[2] : 재고 카운터 키
+-- ARGV[1] : 아이템 ID, ARGV[2] : 되돌릴 수량
+-- 반환값 : 되돌렸으면 1, 플래시 세일이 아니면 0
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return 0
+end
+
+redis.call('INCRBY', KEYS[2], ARGV[2])
+redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[2]))
+return 1
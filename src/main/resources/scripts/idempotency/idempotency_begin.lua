@@ -0,0 +1,8 @@
+-- 멱등 키로 요청 처리를 시작합니다.
+-- KEYS[1] : 멱등 키
+-- ARGV[1] : 처리 중 표시 값, ARGV[2] : 처리 중 잠금 시간(초)
+-- 반환값 : 처리를 시작했으면 빈 문자열, 이미 키가 있으면 저장된 값
+if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then
+    return ''
+end
+return redis.call('GET', KEYS[1]) or ''
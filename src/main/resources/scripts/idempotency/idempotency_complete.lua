@@ -0,0 +1,9 @@
+-- 처리가 끝난 요청의 결과를 저장합니다. 잠금이 만료되어 다른 요청이 키를 가져갔다면 그대로 둡니다.
+-- KEYS[1] : 멱등 키
+-- ARGV[1] : 처리 중 표시 값, ARGV[2] : 저장할 결과 값, ARGV[3] : 결과 보관 시간(초)
+-- 반환값 : 저장했으면 1, 아니면 0
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+    return 1
+end
+return 0
@@ -0,0 +1,8 @@
+-- 실패한 요청의 처리 중 표시를 지워 같은 키로 다시 시도할 수 있게 합니다.
+-- KEYS[1] : 멱등 키
+-- ARGV[1] : 처리 중 표시 값
+-- 반환값 : 지웠으면 1, 아니면 0
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,14 @@
+-- 아이템 상세 캐시에 버전과 함께 값을 저장합니다. 이미 더 새 버전이 저장되어 있으면 그대로 둡니다.
+-- 저장 형식은 "{버전}|{JSON}"이며, JSON이 비어 있으면 이 버전보다 오래된 값을 막는 표시(tombstone)입니다.
+-- KEYS[1] : 아이템 상세 캐시 키
+-- ARGV[1] : 아이템 버전, ARGV[2] : 아이템 상세 JSON ('' 이면 표시만 저장), ARGV[3] : 만료 시간(밀리초)
+-- 반환값 : 저장했으면 1, 더 새 버전이 있어 저장하지 않았으면 0
+local current = redis.call('GET', KEYS[1])
+if current then
+    local currentVersion = tonumber(string.match(current, '^(%d+)|'))
+    if currentVersion and currentVersion > tonumber(ARGV[1]) then
+        return 0
+    end
+end
+redis.call('SET', KEYS[1], ARGV[1] .. '|' .. ARGV[2], 'PX', ARGV[3])
+return 1
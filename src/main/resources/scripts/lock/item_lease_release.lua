@@ -0,0 +1,11 @@
+-- 이 요청이 잡은 아이템 임대(lease)만 해제합니다. 만료되어 다른 요청이 잡은 임대는 그대로 둡니다.
+-- KEYS : 임대 키 목록
+-- ARGV[1] : 임대를 잡을 때 저장한 토큰
+-- 반환값 : 해제한 임대 수
+local released = 0
+for i = 1, #KEYS do
+    if redis.call('GET', KEYS[i]) == ARGV[1] then
+        released = released + redis.call('DEL', KEYS[i])
+    end
+end
+return released
@@ -0,0 +1,24 @@
+-- 만료된 예약을 정리한 뒤, 아이템마다 다른 사용자들이 예약한 수량을 조회합니다.
+-- KEYS : 아이템마다 (만료 시각 ZSET, 사용자별 예약 수량 HASH, 전체 예약 수량) 순서의 묶음
+-- ARGV[1] : 로그인 ID, ARGV[2] : 현재 시각(ms)
+-- 반환값 : KEYS의 아이템 순서대로 다른 사용자들의 예약 수량 목록
+local loginId = ARGV[1]
+local now = ARGV[2]
+local result = {}
+
+for i = 1, #KEYS, 3 do
+    local expired = redis.call('ZRANGEBYSCORE', KEYS[i], '-inf', now)
+    for _, member in ipairs(expired) do
+        local count = tonumber(redis.call('HGET', KEYS[i + 1], member) or '0')
+        redis.call('HDEL', KEYS[i + 1], member)
+        redis.call('DECRBY', KEYS[i + 2], count)
+    end
+    if #expired > 0 then
+        redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now)
+    end
+
+    local own = tonumber(redis.call('HGET', KEYS[i + 1], loginId) or '0')
+    local total = tonumber(redis.call('GET', KEYS[i + 2]) or '0')
+    result[#result + 1] = total - own
+end
+return result
@@ -0,0 +1,24 @@
+-- 한 아이템의 만료된 예약을 정리하여 예약된 재고를 돌려놓습니다.
+-- KEYS[1] : 예약이 있는 아이템 ID 집합
+-- KEYS[2] : 만료 시각 ZSET, KEYS[3] : 사용자별 예약 수량 HASH, KEYS[4] : 전체 예약 수량
+-- ARGV[1] : 아이템 ID, ARGV[2] : 현재 시각(ms)
+-- 반환값 : 돌려놓은 예약 수량의 합
+local now = ARGV[2]
+local returned = 0
+
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now)
+for _, member in ipairs(expired) do
+    local count = tonumber(redis.call('HGET', KEYS[3], member) or '0')
+    redis.call('HDEL', KEYS[3], member)
+    redis.call('DECRBY', KEYS[4], count)
+    returned = returned + count
+end
+if #expired > 0 then
+    redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+end
+
+if redis.call('ZCARD', KEYS[2]) == 0 then
+    redis.call('DEL', KEYS[3], KEYS[4])
+    redis.call('SREM', KEYS[1], ARGV[1])
+end
+return returned
@@ -0,0 +1,17 @@
+-- 한 사용자의 예약을 여러 아이템에서 해제합니다.
+-- KEYS : 아이템마다 (만료 시각 ZSET, 사용자별 예약 수량 HASH, 전체 예약 수량) 순서의 묶음
+-- ARGV[1] : 로그인 ID
+-- 반환값 : 해제한 예약 수량의 합
+local loginId = ARGV[1]
+local released = 0
+
+for i = 1, #KEYS, 3 do
+    local own = tonumber(redis.call('HGET', KEYS[i + 1], loginId) or '0')
+    if own > 0 then
+        redis.call('HDEL', KEYS[i + 1], loginId)
+        redis.call('DECRBY', KEYS[i + 2], own)
+        released = released + own
+    end
+    redis.call('ZREM', KEYS[i], loginId)
+end
+return released
@@ -0,0 +1,49 @@
+-- 여러 아이템의 재고를 한 사용자에게 한꺼번에 예약합니다. 하나라도 예약할 수 없으면 아무것도 바꾸지 않습니다.
+-- KEYS[1] : 예약이 있는 아이템 ID 집합
+-- KEYS[2..] : 아이템마다 (만료 시각 ZSET, 사용자별 예약 수량 HASH, 전체 예약 수량) 순서의 묶음
+-- ARGV[1] : 로그인 ID, ARGV[2] : 현재 시각(ms), ARGV[3] : 예약 만료 시각(ms)
+-- ARGV[4..] : 아이템마다 (아이템 ID, 예약 수량, 현재 재고) 순서의 묶음
+-- 반환값 : 성공하면 0, 실패하면 재고가 부족한 아이템 ID
+local loginId = ARGV[1]
+local now = ARGV[2]
+local expireAt = ARGV[3]
+
+local function purge(zsetKey, countKey, totalKey)
+    local expired = redis.call('ZRANGEBYSCORE', zsetKey, '-inf', now)
+    for _, member in ipairs(expired) do
+        local count = tonumber(redis.call('HGET', countKey, member) or '0')
+        redis.call('HDEL', countKey, member)
+        redis.call('DECRBY', totalKey, count)
+    end
+    if #expired > 0 then
+        redis.call('ZREMRANGEBYSCORE', zsetKey, '-inf', now)
+    end
+end
+
+local items = (#KEYS - 1) / 3
+
+for i = 0, items - 1 do
+    local zsetKey, countKey, totalKey = KEYS[2 + i * 3], KEYS[3 + i * 3], KEYS[4 + i * 3]
+    local count = tonumber(ARGV[5 + i * 3])
+    local stock = tonumber(ARGV[6 + i * 3])
+
+    purge(zsetKey, countKey, totalKey)
+    local own = tonumber(redis.call('HGET', countKey, loginId) or '0')
+    local total = tonumber(redis.call('GET', totalKey) or '0')
+    if stock - (total - own) < count then
+        return tonumber(ARGV[4 + i * 3])
+    end
+end
+
+for i = 0, items - 1 do
+    local zsetKey, countKey, totalKey = KEYS[2 + i * 3], KEYS[3 + i * 3], KEYS[4 + i * 3]
+    local itemId = ARGV[4 + i * 3]
+    local count = tonumber(ARGV[5 + i * 3])
+
+    local own = tonumber(redis.call('HGET', countKey, loginId) or '0')
+    redis.call('HSET', countKey, loginId, count)
+    redis.call('INCRBY', totalKey, count - own)
+    redis.call('ZADD', zsetKey, expireAt, loginId)
+    redis.call('SADD', KEYS[1], itemId)
+end
+return 0
@@ -1,7 +1,5 @@
 package hmw.ecommerce.aop;
 
-import hmw.ecommerce.entity.Item;
-import hmw.ecommerce.service.ItemService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +12,6 @@ class CookieAspectTest {
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
-    @Mock
-    private ItemService itemService;
-
 
 
 }
\ No newline at end of file
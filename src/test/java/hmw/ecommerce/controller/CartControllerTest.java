@@ -0,0 +1,91 @@
+package hmw.ecommerce.controller;
+
+import hmw.ecommerce.exception.GlobalExceptionHandler;
+import hmw.ecommerce.service.CartService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 장바구니 일괄 추가 요청의 유효성 검사가 서비스 호출 전에 적용되는지 확인하는 테스트.
+ */
+class CartControllerTest {
+
+    private CartService cartService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        cartService = mock(CartService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new CartController(cartService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void addAllToCartRejectsEmptyList() throws Exception {
+        mockMvc.perform(post("/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cartItems\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(cartService, never()).addAllToCart(any(), any(), any(), any());
+    }
+
+    @Test
+    void addAllToCartRejectsMissingList() throws Exception {
+        mockMvc.perform(post("/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        verify(cartService, never()).addAllToCart(any(), any(), any(), any());
+    }
+
+    @Test
+    void addAllToCartRejectsMoreThanFiftyItems() throws Exception {
+        mockMvc.perform(post("/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cartItemsJson(51, 1)))
+                .andExpect(status().isBadRequest());
+
+        verify(cartService, never()).addAllToCart(any(), any(), any(), any());
+    }
+
+    @Test
+    void addAllToCartRejectsZeroCount() throws Exception {
+        mockMvc.perform(post("/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cartItemsJson(1, 0)))
+                .andExpect(status().isBadRequest());
+
+        verify(cartService, never()).addAllToCart(any(), any(), any(), any());
+    }
+
+    @Test
+    void addAllToCartAcceptsFiftyItems() throws Exception {
+        mockMvc.perform(post("/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cartItemsJson(50, 1)))
+                .andExpect(status().isOk());
+
+        verify(cartService).addAllToCart(any(), any(), any(), any());
+    }
+
+    private String cartItemsJson(int size, int count) {
+        return IntStream.rangeClosed(1, size)
+                .mapToObj(itemId -> "{\"itemId\":" + itemId + ",\"count\":" + count + "}")
+                .collect(Collectors.joining(",", "{\"cartItems\":[", "]}"));
+    }
+
+}
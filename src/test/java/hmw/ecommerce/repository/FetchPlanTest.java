@@ -0,0 +1,175 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.*;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.repository.entity.ItemRepository;
+import hmw.ecommerce.repository.entity.OrderItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문/아이템 조회 쿼리가 각 용도에 필요한 연관 엔티티만 정해진 SQL 문 수로 읽는지 확인하는 테스트.
+ * 조회 후 용도에서 사용하는 연관 엔티티까지 모두 접근한 뒤 Hibernate가 실행한 SQL 문 수를 셉니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FetchPlanTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    private Statistics statistics;
+    private Member seller;
+    private Member buyer;
+    private Category category;
+    private CategoryType categoryType;
+    private Item item;
+    private Item otherItem;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        seller = em.persist(member("fetch-plan-seller", true));
+        buyer = em.persist(member("fetch-plan-buyer", false));
+        category = em.persist(Category.builder().categoryName("fetch-plan-category").build());
+        categoryType = em.persist(CategoryType.toEntity("fetch-plan-type", category));
+        item = em.persist(item("fetch-plan-item-1"));
+        otherItem = em.persist(item("fetch-plan-item-2"));
+        order = em.persist(Order.createOrder(buyer, 2, 20000, OrderStatus.PENDING));
+        em.persist(OrderItem.toEntity(order, item, 1, 10000, buyer.getLoginId()));
+        em.persist(OrderItem.toEntity(order, otherItem, 1, 10000, buyer.getLoginId()));
+        em.persist(Review.builder().member(buyer).item(item).rating(5).comment("좋아요").build());
+        em.persist(Review.builder().member(seller).item(item).rating(3).comment("보통이에요").build());
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void cancelOrderLoadsOrderItemWithOrderInOneStatement() {
+        OrderItem orderItem = orderItemRepository
+                .findOrderItemByBuyerId(buyer.getLoginId(), item.getId(), order.getId())
+                .orElseThrow();
+
+        assertEquals(buyer.getLoginId(), orderItem.getBuyerId());
+        assertEquals(OrderStatus.PENDING, orderItem.getOrder().getOrderStatus());
+        assertEquals(item.getId(), orderItem.getItem().getId());
+        assertFalse(Hibernate.isInitialized(orderItem.getItem()));
+        assertFalse(Hibernate.isInitialized(orderItem.getOrder().getMember()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void completeOrderLoadsOrderItemWithOrderInOneStatement() {
+        OrderItem orderItem = orderItemRepository
+                .findOrderItemBySellerId(seller.getLoginId(), item.getId(), order.getId())
+                .orElseThrow();
+
+        assertEquals(order.getId(), orderItem.getOrder().getId());
+        assertEquals(OrderStatus.PENDING, orderItem.getOrder().getOrderStatus());
+        assertEquals(item.getId(), orderItem.getItem().getId());
+        assertFalse(Hibernate.isInitialized(orderItem.getItem()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void itemDetailLoadsMemberAndCategoriesInOneStatement() {
+        Item found = itemRepository.findItemFetchMemberAndCategoryByItemId(item.getId()).orElseThrow();
+
+        assertEquals(seller.getLoginId(), found.getMember().getLoginId());
+        assertEquals(category.getCategoryName(), found.getCategory().getCategoryName());
+        assertEquals(categoryType.getTypeName(), found.getCategoryType().getTypeName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void orderFromItemDetailLoadsItemWithSellerInOneStatement() {
+        Item found = itemRepository.findItemFetchMemberByItemId(item.getId()).orElseThrow();
+
+        assertEquals(seller.getLoginId(), found.getMember().getLoginId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void orderFromCartLoadsItemsWithSellersInOneStatement() {
+        List<Item> items = itemRepository.findItemsFetchMemberByItemIds(Set.of(item.getId(), otherItem.getId()));
+
+        assertEquals(2, items.size());
+        items.forEach(found -> assertEquals(seller.getLoginId(), found.getMember().getLoginId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void categorySearchLoadsPageAndCountInTwoStatements() {
+        Page<Item> items = itemRepository.findItemByCategoryAndType(
+                category.getCategoryName(), categoryType.getTypeName(), PageRequest.of(0, 1));
+
+        assertEquals(2, items.getTotalElements());
+        items.forEach(found -> {
+            assertEquals(seller.getLoginId(), found.getMember().getLoginId());
+            assertEquals(category.getCategoryName(), found.getCategory().getCategoryName());
+        });
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void itemReviewsLoadPageWithMembersAndCountInTwoStatements() {
+        Page<Review> reviews = itemRepository.findReviewLatestByItemId(item.getId(), PageRequest.of(0, 1));
+
+        assertEquals(2, reviews.getTotalElements());
+        reviews.forEach(review -> assertNotNull(review.getMember().getLoginId()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private Member member(String loginId, boolean isSeller) {
+        return Member.builder()
+                .loginId(loginId)
+                .password("password")
+                .username(loginId)
+                .email(loginId + "@test.com")
+                .isVerified(true)
+                .seller(isSeller)
+                .role(isSeller ? "ROLE_SELLER" : "ROLE_MEMBER")
+                .build();
+    }
+
+    private Item item(String itemName) {
+        return Item.builder()
+                .title(itemName)
+                .itemName(itemName)
+                .itemDescription(itemName)
+                .price(10000)
+                .stockQuantity(10)
+                .member(seller)
+                .category(category)
+                .categoryType(categoryType)
+                .build();
+    }
+
+}
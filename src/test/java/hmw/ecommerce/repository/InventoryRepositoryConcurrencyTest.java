@@ -0,0 +1,174 @@
+package hmw.ecommerce.repository;
+
+import hmw.ecommerce.entity.Category;
+import hmw.ecommerce.entity.CategoryType;
+import hmw.ecommerce.entity.Item;
+import hmw.ecommerce.entity.Member;
+import hmw.ecommerce.repository.entity.CategoryRepository;
+import hmw.ecommerce.repository.entity.CategoryTypeRepository;
+import hmw.ecommerce.repository.entity.ItemRepository;
+import hmw.ecommerce.repository.entity.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 조건부 UPDATE 재고 차감이 동시 주문에서도 재고를 음수로 만들지 않고, 성공한 주문 수만큼만 차감하는지 확인하는 테스트.
+ * 각 스레드가 자신의 트랜잭션에서 차감하므로 테스트 메서드는 트랜잭션 없이 실행하고, 만든 데이터는 직접 지웁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryRepositoryConcurrencyTest {
+
+    private static final int STOCK = 10;
+    private static final int BUYERS = 32;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTypeRepository categoryTypeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member seller;
+    private Category category;
+    private CategoryType categoryType;
+    private Item item;
+    private Item otherItem;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.builder()
+                .loginId("inventory-seller")
+                .password("password")
+                .username("inventory-seller")
+                .email("inventory-seller@test.com")
+                .isVerified(true)
+                .seller(true)
+                .role("ROLE_SELLER")
+                .build());
+        category = categoryRepository.save(Category.builder().categoryName("inventory-category").build());
+        categoryType = categoryTypeRepository.save(CategoryType.toEntity("inventory-type", category));
+        item = itemRepository.save(item("inventory-item-1"));
+        otherItem = itemRepository.save(item("inventory-item-2"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllById(List.of(item.getId(), otherItem.getId()));
+        categoryTypeRepository.deleteById(categoryType.getId());
+        categoryRepository.deleteById(category.getId());
+        memberRepository.deleteById(seller.getId());
+    }
+
+    @Test
+    void concurrentDecreasesNeverOversell() throws Exception {
+        List<Boolean> results = runConcurrently(BUYERS, () -> Map.of(item.getId(), 1));
+
+        long succeeded = results.stream().filter(Boolean::booleanValue).count();
+        Item found = itemRepository.findById(item.getId()).orElseThrow();
+        assertEquals(STOCK, succeeded);
+        assertEquals(0, found.getStockQuantity());
+        assertEquals(STOCK, found.getVersion());
+    }
+
+    @Test
+    void failedMultiItemOrderRollsBackItsOtherDecreases() throws Exception {
+        // 각 주문이 두 아이템을 함께 사므로, 한 아이템이라도 부족한 주문은 다른 아이템의 차감도 롤백되어야 함
+        List<Boolean> results = runConcurrently(BUYERS, () -> Map.of(item.getId(), 3, otherItem.getId(), 1));
+
+        long succeeded = results.stream().filter(Boolean::booleanValue).count();
+        assertEquals(STOCK / 3, succeeded);
+        assertEquals(STOCK - 3 * succeeded, itemRepository.findById(item.getId()).orElseThrow().getStockQuantity());
+        assertEquals(STOCK - succeeded, itemRepository.findById(otherItem.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void decreaseMoreThanStockLeavesItemUnchanged() {
+        List<Long> failedItemIds = new TransactionTemplate(transactionManager)
+                .execute(status -> itemRepository.decreaseStock(Map.of(item.getId(), STOCK + 1)));
+
+        assertEquals(List.of(item.getId()), failedItemIds);
+        assertEquals(STOCK, itemRepository.findById(item.getId()).orElseThrow().getStockQuantity());
+    }
+
+    /**
+     * 여러 스레드가 동시에 출발하여 각자의 트랜잭션에서 재고를 차감하고, 실패하면 롤백합니다.
+     *
+     * @return 스레드별 차감 성공 여부
+     */
+    private List<Boolean> runConcurrently(int threads, Callable<Map<Long, Integer>> counts) throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger ready = new AtomicInteger();
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    Map<Long, Integer> order = counts.call();
+                    ready.incrementAndGet();
+                    start.await();
+                    return transactionTemplate.execute(status -> {
+                        List<Long> failedItemIds = itemRepository.decreaseStock(order);
+                        if (!failedItemIds.isEmpty()) {
+                            status.setRollbackOnly();
+                            return false;
+                        }
+                        return true;
+                    });
+                }));
+            }
+            while (ready.get() < threads) {
+                Thread.onSpinWait();
+            }
+            start.countDown();
+
+            List<Boolean> results = new ArrayList<>(threads);
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Item item(String itemName) {
+        return Item.builder()
+                .title(itemName)
+                .itemName(itemName)
+                .itemDescription(itemName)
+                .price(10000)
+                .stockQuantity(STOCK)
+                .member(seller)
+                .category(category)
+                .categoryType(categoryType)
+                .build();
+    }
+
+}
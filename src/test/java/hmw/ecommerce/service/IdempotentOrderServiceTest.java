@@ -0,0 +1,205 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.dto.order.CreateOrderDto;
+import hmw.ecommerce.entity.vo.IdempotencyClaim;
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.OrderException;
+import hmw.ecommerce.jwt.JWTUtil;
+import hmw.ecommerce.repository.entity.OrderRepository;
+import hmw.ecommerce.repository.entity.OrderRepository.IdempotentOrder;
+import hmw.ecommerce.repository.redis.IdempotencyRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 같은 요청 키로 다시 보낸 주문 요청이 새 주문을 만들지 않고 처음 결과를 돌려받는지 확인하는 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotentOrderServiceTest {
+
+    private static final String TOKEN = "token";
+    private static final String LOGIN_ID = "buyer";
+    private static final String KEY = "key-1";
+    private static final String SCOPE = "ORDER:" + LOGIN_ID;
+
+    @Mock
+    private OrderIngestionPipeline orderIngestionPipeline;
+
+    @Mock
+    private IdempotencyRedisRepository idempotencyRedisRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private JWTUtil jwtUtil;
+
+    @InjectMocks
+    private IdempotentOrderService idempotentOrderService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(idempotentOrderService, "lockTtl", Duration.ofSeconds(30));
+        lenient().when(jwtUtil.extractLoginIdFromToken(TOKEN)).thenReturn(LOGIN_ID);
+    }
+
+    @Test
+    void firstRequestCreatesOrderWithClaim() {
+        when(idempotencyRedisRepository.begin(eq(SCOPE), eq(KEY), anyString(), any())).thenReturn(null);
+        when(orderIngestionPipeline.createOrder(eq(TOKEN), any(), any())).thenReturn(100L);
+
+        assertEquals(100L, idempotentOrderService.createOrder(TOKEN, itemOrder(1L, 2), KEY));
+
+        ArgumentCaptor<IdempotencyClaim> claim = ArgumentCaptor.forClass(IdempotencyClaim.class);
+        verify(orderIngestionPipeline).createOrder(eq(TOKEN), any(), claim.capture());
+        assertEquals(KEY, claim.getValue().getKey());
+        assertEquals("DONE|item:1:2|100", claim.getValue().resultValue(100L));
+        verify(idempotencyRedisRepository, never()).release(any(), any(), any());
+    }
+
+    @Test
+    void completedKeyReplaysStoredOrderId() {
+        when(idempotencyRedisRepository.begin(eq(SCOPE), eq(KEY), anyString(), any())).thenReturn("DONE|item:1:2|100");
+
+        assertEquals(100L, idempotentOrderService.createOrder(TOKEN, itemOrder(1L, 2), KEY));
+
+        verifyNoInteractions(orderIngestionPipeline);
+    }
+
+    @Test
+    void keyReusedForDifferentOrderIsRejected() {
+        when(idempotencyRedisRepository.begin(eq(SCOPE), eq(KEY), anyString(), any())).thenReturn("DONE|item:1:2|100");
+
+        OrderException exception = assertThrows(OrderException.class,
+                () -> idempotentOrderService.createOrder(TOKEN, itemOrder(1L, 3), KEY));
+
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+        verifyNoInteractions(orderIngestionPipeline);
+    }
+
+    @Test
+    void pendingKeyWithoutCommittedOrderIsInProgress() {
+        when(idempotencyRedisRepository.begin(eq(SCOPE), eq(KEY), anyString(), any())).thenReturn("PENDING|cart|other");
+        when(orderRepository.findIdempotentOrder(LOGIN_ID, KEY)).thenReturn(Optional.empty());
+
+        OrderException exception = assertThrows(OrderException.class,
+                () -> idempotentOrderService.createOrder(TOKEN, null, KEY));
+
+        assertEquals(ErrorCode.ORDER_IN_PROGRESS, exception.getErrorCode());
+        verifyNoInteractions(orderIngestionPipeline);
+    }
+
+    @Test
+    void pendingKeyWithCommittedOrderReturnsItAndStoresResult() {
+        when(idempotencyRedisRepository.begin(eq(SCOPE), eq(KEY), anyString(), any())).thenReturn("PENDING|cart|other");
+        when(orderRepository.findIdempotentOrder(LOGIN_ID, KEY)).thenReturn(Optional.of(committedOrder(100L, "cart")));
+
+        assertEquals(100L, idempotentOrderService.createOrder(TOKEN, null, KEY));
+
+        ArgumentCaptor<IdempotencyClaim> claim = ArgumentCaptor.forClass(IdempotencyClaim.class);
+        verify(idempotencyRedisRepository).completeAfterCommit(claim.capture(), eq(100L));
+        assertEquals("PENDING|cart|other", claim.getValue().getPendingValue());
+        assertEquals("DONE|cart|100", claim.getValue().resultValue(100L));
+        verifyNoInteractions(orderIngestionPipeline);
+    }
+
+    @Test
+    void failureAfterCommitReturnsCommittedOrder() {
+        when(idempotencyRedisRepository.begin(eq(SCOPE), eq(KEY), anyString(), any())).thenReturn(null);
+        when(orderIngestionPipeline.createOrder(eq(TOKEN), any(), any())).thenThrow(new IllegalStateException("응답 실패"));
+        when(orderRepository.findIdempotentOrder(LOGIN_ID, KEY)).thenReturn(Optional.of(committedOrder(100L, "cart")));
+
+        assertEquals(100L, idempotentOrderService.createOrder(TOKEN, null, KEY));
+
+        verify(idempotencyRedisRepository).completeAfterCommit(any(), eq(100L));
+        verify(idempotencyRedisRepository, never()).release(any(), any(), any());
+    }
+
+    @Test
+    void failedOrderReleasesKeyForRetry() {
+        when(idempotencyRedisRepository.begin(eq(SCOPE), eq(KEY), anyString(), any())).thenReturn(null);
+        when(orderIngestionPipeline.createOrder(eq(TOKEN), any(), any()))
+                .thenThrow(new OrderException(ErrorCode.OUT_OF_STOCK));
+        when(orderRepository.findIdempotentOrder(LOGIN_ID, KEY)).thenReturn(Optional.empty());
+
+        OrderException exception = assertThrows(OrderException.class,
+                () -> idempotentOrderService.createOrder(TOKEN, null, KEY));
+
+        assertEquals(ErrorCode.OUT_OF_STOCK, exception.getErrorCode());
+        verify(idempotencyRedisRepository).release(eq(SCOPE), eq(KEY), startsWith("PENDING|cart|"));
+        verify(idempotencyRedisRepository, never()).completeAfterCommit(any(), any());
+    }
+
+    @Test
+    void keyReusedAfterResultExpiredIsRejectedInsteadOfReturningOldOrder() {
+        // Redis 결과 값이 만료되어 선점에 성공했지만, 같은 키의 주문이 다른 요청으로 이미 있어 유일 제약에 걸림
+        when(idempotencyRedisRepository.begin(eq(SCOPE), eq(KEY), anyString(), any())).thenReturn(null);
+        when(orderIngestionPipeline.createOrder(eq(TOKEN), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("uk_orders_member_idempotency_key"));
+        when(orderRepository.findIdempotentOrder(LOGIN_ID, KEY)).thenReturn(Optional.of(committedOrder(100L, "item:1:2")));
+
+        OrderException exception = assertThrows(OrderException.class,
+                () -> idempotentOrderService.createOrder(TOKEN, itemOrder(1L, 3), KEY));
+
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+        verify(idempotencyRedisRepository).release(eq(SCOPE), eq(KEY), startsWith("PENDING|item:1:3|"));
+        verify(idempotencyRedisRepository, never()).completeAfterCommit(any(), any());
+    }
+
+    @Test
+    void pendingKeyWithCommittedOrderForDifferentRequestIsRejected() {
+        when(idempotencyRedisRepository.begin(eq(SCOPE), eq(KEY), anyString(), any())).thenReturn("PENDING|cart|other");
+        when(orderRepository.findIdempotentOrder(LOGIN_ID, KEY)).thenReturn(Optional.of(committedOrder(100L, "item:1:2")));
+
+        OrderException exception = assertThrows(OrderException.class,
+                () -> idempotentOrderService.createOrder(TOKEN, null, KEY));
+
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+        verify(idempotencyRedisRepository, never()).completeAfterCommit(any(), any());
+    }
+
+    @Test
+    void requestWithoutKeyIsNotTracked() {
+        when(orderIngestionPipeline.createOrder(TOKEN, null, null)).thenReturn(100L);
+
+        assertEquals(100L, idempotentOrderService.createOrder(TOKEN, null, null));
+
+        verifyNoInteractions(idempotencyRedisRepository, orderRepository);
+    }
+
+    private IdempotentOrder committedOrder(Long id, String fingerprint) {
+        return new IdempotentOrder() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getIdempotencyFingerprint() {
+                return fingerprint;
+            }
+        };
+    }
+
+    private CreateOrderDto itemOrder(Long itemId, int count) {
+        CreateOrderDto orderDto = new CreateOrderDto();
+        ReflectionTestUtils.setField(orderDto, "itemId", itemId);
+        ReflectionTestUtils.setField(orderDto, "count", count);
+        return orderDto;
+    }
+
+}
@@ -0,0 +1,143 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.OrderException;
+import hmw.ecommerce.repository.redis.ItemLeaseRedisRepository;
+import hmw.ecommerce.support.RecordingTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 아이템 락이 트랜잭션 안에서 재진입되고(같은 토큰의 임대 재사용), 순서가 어긋난 락은 기다리지 않으며,
+ * group commit 묶음처럼 전체 락을 먼저 잡으면 주문별 락 순서와 상관없이 교착되지 않는지 확인하는 테스트.
+ * 분할 락 수는 8개이므로 아이템 ID 1~7은 각각 같은 번호의 분할 락에 대응됩니다.
+ */
+class ItemLockManagerTest {
+
+    private final Map<Long, String> leases = new ConcurrentHashMap<>();
+    private final List<String> acquiredTokens = new CopyOnWriteArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ItemLockManager itemLockManager;
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        ItemLeaseRedisRepository itemLeaseRedisRepository = mock(ItemLeaseRedisRepository.class);
+        when(itemLeaseRedisRepository.acquire(anyLong(), anyString(), any())).thenAnswer(invocation -> {
+            String token = invocation.getArgument(1);
+            boolean acquired = leases.putIfAbsent(invocation.getArgument(0), token) == null;
+            if (acquired) {
+                acquiredTokens.add(token);
+            }
+            return acquired;
+        });
+        doAnswer(invocation -> {
+            String token = invocation.getArgument(1);
+            invocation.<Collection<Long>>getArgument(0).forEach(itemId -> leases.remove(itemId, token));
+            return null;
+        }).when(itemLeaseRedisRepository).release(anyCollection(), anyString());
+
+        meterRegistry = new SimpleMeterRegistry();
+        itemLockManager = new ItemLockManager(itemLeaseRedisRepository, meterRegistry,
+                true, 8, Duration.ofSeconds(5), true, Duration.ofSeconds(5));
+        transactionTemplate = new TransactionTemplate(new RecordingTransactionManager());
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void relockInSameTransactionReusesTokenAndLocksOnce() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            itemLockManager.lockUntilCompletion(List.of(1L, 2L));
+            itemLockManager.lockUntilCompletion(List.of(2L));
+            itemLockManager.lockUntilCompletion(List.of(1L, 3L));
+
+            assertEquals(Set.of(1L, 2L, 3L), leases.keySet());
+        });
+
+        assertEquals(3, acquiredTokens.size());
+        assertEquals(1, Set.copyOf(acquiredTokens).size());
+        assertTrue(leases.isEmpty());
+        // 트랜잭션이 끝나면 다른 스레드가 바로 잡을 수 있음
+        executor.submit(() -> itemLockManager.lock(List.of(1L, 2L, 3L)).unlock()).get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void outOfOrderLockInTransactionFailsWithoutWaiting() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> {
+            ItemLockManager.ItemLocks itemLocks = itemLockManager.lock(List.of(1L));
+            locked.countDown();
+            release.await();
+            itemLocks.unlock();
+            return null;
+        });
+        assertTrue(locked.await(1, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        OrderException exception = assertThrows(OrderException.class, () ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    itemLockManager.lockUntilCompletion(List.of(2L));
+                    itemLockManager.lockUntilCompletion(List.of(1L));
+                }));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(ErrorCode.ORDER_LOCK_TIMEOUT, exception.getErrorCode());
+        assertTrue(elapsedMillis < 1000, "대기 시간(5초)까지 기다리지 않아야 함: " + elapsedMillis + "ms");
+        assertFalse(leases.containsKey(2L));
+
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void batchPrelockPreventsDeadlockRegardlessOfOrderLockOrder() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            List<Future<?>> batches = new ArrayList<>();
+            batches.add(executor.submit(() -> runBatch(barrier, List.of(List.of(5L), List.of(4L, 6L)))));
+            batches.add(executor.submit(() -> runBatch(barrier, List.of(List.of(6L), List.of(4L), List.of(5L)))));
+            for (Future<?> batch : batches) {
+                batch.get(3, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(0, meterRegistry.counter("order.item_lock.timeout").count());
+        assertTrue(leases.isEmpty());
+    }
+
+    /**
+     * OrderIngestionPipeline처럼 묶음 전체의 아이템을 먼저 잡은 뒤 주문마다 락을 잡습니다.
+     */
+    private Void runBatch(CyclicBarrier barrier, List<List<Long>> orders) throws Exception {
+        barrier.await(1, TimeUnit.SECONDS);
+        transactionTemplate.executeWithoutResult(status -> {
+            itemLockManager.lockUntilCompletion(orders.stream().flatMap(List::stream).toList());
+            orders.forEach(itemLockManager::lockUntilCompletion);
+        });
+        return null;
+    }
+
+}
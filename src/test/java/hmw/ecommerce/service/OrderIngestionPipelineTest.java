@@ -0,0 +1,200 @@
+package hmw.ecommerce.service;
+
+import hmw.ecommerce.entity.dto.order.CreateOrderDto;
+import hmw.ecommerce.exception.ErrorCode;
+import hmw.ecommerce.exception.exceptions.OrderException;
+import hmw.ecommerce.jwt.JWTUtil;
+import hmw.ecommerce.repository.redis.CartRedisRepository;
+import hmw.ecommerce.support.RecordingTransactionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static hmw.ecommerce.entity.vo.Const.CART_KEY_PREFIX;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * group commit 묶음에서 한 주문이 실패해도 같은 묶음의 다른 주문이 개별 트랜잭션으로 다시 처리되어 성공하는지 확인하는 테스트.
+ * 주문 생성은 OrderService의 장바구니 주문처럼 "커밋 후 장바구니 비우기"를 흉내 내며, 실제 DB 대신 트랜잭션 경계만 기록합니다.
+ */
+class OrderIngestionPipelineTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    private final Set<String> carts = ConcurrentHashMap.newKeySet();
+    private final List<String> committedOrders = new CopyOnWriteArrayList<>();
+    private final AtomicLong orderIds = new AtomicLong();
+
+    private RecordingTransactionManager transactionManager;
+    private CartRedisRepository cartRedisRepository;
+    private OrderIngestionPipeline pipeline;
+    private ExecutorService clients;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RecordingTransactionManager();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.delete(anyString())).thenAnswer(invocation ->
+                carts.remove(invocation.<String>getArgument(0).substring(CART_KEY_PREFIX.length())));
+        cartRedisRepository = new CartRedisRepository(stringRedisTemplate);
+
+        JWTUtil jwtUtil = mock(JWTUtil.class);
+        when(jwtUtil.extractLoginIdFromToken(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        OrderService orderService = mock(OrderService.class);
+        when(orderService.createOrder(anyString(), any(), any())).thenAnswer(invocation ->
+                transactionTemplate.execute(status -> placeCartOrder(invocation.getArgument(0))));
+
+        pipeline = new OrderIngestionPipeline(orderService, mock(ItemLockManager.class), transactionTemplate, jwtUtil,
+                true, 64, 1, BATCH_SIZE, Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofSeconds(5));
+        pipeline.start();
+        clients = Executors.newFixedThreadPool(BATCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        clients.shutdownNow();
+        pipeline.stop();
+    }
+
+    @Test
+    void batchWithoutFailureCommitsOnce() throws Exception {
+        List<String> buyers = List.of("buyer-1", "buyer-2", "buyer-3", "buyer-4");
+        carts.addAll(buyers);
+
+        List<Future<Long>> results = submitAll(buyers);
+
+        for (Future<Long> result : results) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, transactionManager.getCommits());
+        assertEquals(0, transactionManager.getRollbacks());
+        assertTrue(carts.isEmpty());
+        assertEquals(Set.copyOf(buyers), Set.copyOf(committedOrders));
+    }
+
+    @Test
+    void failingOrderDoesNotFailCartOrdersInSameBatch() throws Exception {
+        // buyer-3은 장바구니가 비어 있어 실패하고, 나머지 장바구니 주문은 묶음이 롤백된 뒤 개별로 성공해야 함
+        carts.addAll(List.of("buyer-1", "buyer-2", "buyer-4"));
+
+        List<Future<Long>> results = submitAll(List.of("buyer-1", "buyer-2", "buyer-3", "buyer-4"));
+
+        assertNotNull(results.get(0).get(5, TimeUnit.SECONDS));
+        assertNotNull(results.get(1).get(5, TimeUnit.SECONDS));
+        assertOrderFails(results.get(2), ErrorCode.ORDER_NOT_ALLOWED);
+        assertNotNull(results.get(3).get(5, TimeUnit.SECONDS));
+
+        // 묶음 롤백 1번 + buyer-3 개별 롤백 1번, 나머지 세 주문은 각자 커밋
+        assertEquals(2, transactionManager.getRollbacks());
+        assertEquals(3, transactionManager.getCommits());
+        assertTrue(carts.isEmpty());
+        assertEquals(Set.of("buyer-1", "buyer-2", "buyer-4"), Set.copyOf(committedOrders));
+        assertEquals(3, committedOrders.size());
+    }
+
+    @Test
+    void sameCartTwiceInOneBatchCreatesOnlyOneOrder() throws Exception {
+        carts.addAll(List.of("buyer-1", "buyer-2"));
+
+        List<Future<Long>> results = submitAll(List.of("buyer-1", "buyer-1", "buyer-2", "buyer-2"));
+
+        int succeeded = 0;
+        for (Future<Long> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertEquals(ErrorCode.ORDER_NOT_ALLOWED, ((OrderException) e.getCause()).getErrorCode());
+            }
+        }
+        assertEquals(2, succeeded);
+        assertEquals(List.of("buyer-1", "buyer-2"), committedOrders.stream().sorted().toList());
+    }
+
+    @Test
+    void stuckCommitFailsWaitingRequestAfterResultTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        OrderService stuckOrderService = mock(OrderService.class);
+        when(stuckOrderService.createOrder(anyString(), any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return 1L;
+        });
+        JWTUtil jwtUtil = mock(JWTUtil.class);
+        OrderIngestionPipeline stuckPipeline = new OrderIngestionPipeline(stuckOrderService, mock(ItemLockManager.class),
+                new TransactionTemplate(new RecordingTransactionManager()), jwtUtil,
+                true, 64, 1, 1, Duration.ZERO, Duration.ofSeconds(1), Duration.ofMillis(300));
+        stuckPipeline.start();
+        try {
+            long start = System.nanoTime();
+            OrderException exception = assertThrows(OrderException.class,
+                    () -> stuckPipeline.createOrder("buyer-1", null, null));
+
+            assertEquals(ErrorCode.ORDER_RESULT_TIMEOUT, exception.getErrorCode());
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 3000);
+        } finally {
+            release.countDown();
+            stuckPipeline.stop();
+        }
+    }
+
+    @Test
+    void orderAfterStopIsProcessedDirectlyInsteadOfQueued() throws Exception {
+        carts.add("buyer-1");
+        pipeline.stop();
+
+        Long orderId = clients.submit(() -> pipeline.createOrder("buyer-1", null, null)).get(5, TimeUnit.SECONDS);
+
+        assertNotNull(orderId);
+        assertEquals(List.of("buyer-1"), committedOrders);
+    }
+
+    /**
+     * OrderService의 장바구니 주문을 흉내 냅니다.
+     * 같은 트랜잭션에서 이미 비우기로 한 장바구니이거나 장바구니가 없으면 실패하고, 커밋 후 장바구니를 비웁니다.
+     */
+    private Long placeCartOrder(String loginId) {
+        if (cartRedisRepository.isDeletePending(loginId) || !carts.contains(loginId)) {
+            throw new OrderException(ErrorCode.ORDER_NOT_ALLOWED);
+        }
+        cartRedisRepository.deleteAllAfterCommit(loginId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committedOrders.add(loginId);
+            }
+        });
+        return orderIds.incrementAndGet();
+    }
+
+    private List<Future<Long>> submitAll(List<String> buyers) throws InterruptedException {
+        List<Future<Long>> results = new ArrayList<>(buyers.size());
+        for (String buyer : buyers) {
+            results.add(clients.submit(() -> pipeline.createOrder(buyer, null, null)));
+            Thread.sleep(20);
+        }
+        return results;
+    }
+
+    private void assertOrderFails(Future<Long> result, ErrorCode errorCode) throws Exception {
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(OrderException.class, exception.getCause());
+        assertEquals(errorCode, ((OrderException) exception.getCause()).getErrorCode());
+    }
+
+}
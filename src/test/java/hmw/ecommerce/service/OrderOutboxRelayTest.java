@@ -0,0 +1,210 @@
+package hmw.ecommerce.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hmw.ecommerce.entity.OrderOutbox;
+import hmw.ecommerce.entity.vo.OrderStatus;
+import hmw.ecommerce.event.OrderItemStatusChangedEvent;
+import hmw.ecommerce.event.OrderOutboxListener;
+import hmw.ecommerce.repository.OrderOutboxRepository;
+import hmw.ecommerce.support.RecordingTransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 아웃박스 이벤트 묶음 처리에 실패하면 이벤트마다 다시 처리하여 실패한 이벤트만 뒤로 미루는지,
+ * 다음 시도가 시도 횟수에 따라 두 배씩(최대 10분) 미뤄지고 최대 시도 횟수를 넘으면 더 꺼내지 않는지,
+ * 매출 집계를 다시 만드는 동안에는 꺼낸 이벤트를 전달하지 않는지 확인하는 테스트.
+ * order_outbox 테이블 대신 메모리의 행으로 저장소의 claim/markFailed/deleteAll을 흉내 냅니다.
+ */
+class OrderOutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final Map<Long, OrderOutbox> rows = new ConcurrentSkipListMap<>();
+    private final List<Long> delivered = new CopyOnWriteArrayList<>();
+    private final Set<Long> failingOrderItemIds = new CopyOnWriteArraySet<>();
+
+    private RecordingTransactionManager transactionManager;
+    private OrderOutboxRepository orderOutboxRepository;
+    private OrderOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        orderOutboxRepository = mock(OrderOutboxRepository.class);
+        when(orderOutboxRepository.claim(anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(0);
+            int maxAttempts = invocation.getArgument(1);
+            LocalDateTime now = invocation.getArgument(2);
+            return rows.values().stream()
+                    .filter(row -> !row.getAvailableAt().isAfter(now) && row.getAttempts() < maxAttempts)
+                    .limit(limit)
+                    .toList();
+        });
+        doAnswer(invocation -> {
+            invocation.<Collection<Long>>getArgument(0).forEach(rows::remove);
+            return null;
+        }).when(orderOutboxRepository).deleteAll(anyCollection());
+        doAnswer(invocation -> {
+            OrderOutbox row = rows.get(invocation.<Long>getArgument(0));
+            rows.put(row.getId(), new OrderOutbox(row.getId(), row.getEventType(), row.getPayload(),
+                    row.getAttempts() + 1, invocation.getArgument(1), row.getCreatedAt(), invocation.getArgument(2)));
+            return null;
+        }).when(orderOutboxRepository).markFailed(anyLong(), any(), any());
+
+        OrderOutboxListener listener = events -> events.forEach(event -> {
+            Long orderItemId = ((OrderItemStatusChangedEvent) event).getOrderItemId();
+            if (failingOrderItemIds.contains(orderItemId)) {
+                throw new IllegalStateException("처리 실패 orderItemId=" + orderItemId);
+            }
+        });
+        OrderOutboxListener recorder = events -> events.forEach(event ->
+                delivered.add(((OrderItemStatusChangedEvent) event).getOrderItemId()));
+
+        transactionManager = new RecordingTransactionManager();
+        relay = new OrderOutboxRelay(orderOutboxRepository, List.of(listener, recorder),
+                new OrderOutboxWriter(orderOutboxRepository, objectMapper), new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(relay, "retryBackoff", RETRY_BACKOFF);
+    }
+
+    @Test
+    void batchIsDeliveredAndDeletedInOneTransaction() {
+        insert(1L, 0);
+        insert(2L, 0);
+        insert(3L, 0);
+
+        assertEquals(3, relay.relay());
+
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+        assertTrue(rows.isEmpty());
+        assertEquals(1, transactionManager.getCommits());
+        assertEquals(0, transactionManager.getRollbacks());
+    }
+
+    @Test
+    void failedBatchIsRetriedOneByOneAndOnlyFailingEventIsDeferred() {
+        insert(1L, 0);
+        insert(2L, 0);
+        insert(3L, 0);
+        failingOrderItemIds.add(2L);
+
+        LocalDateTime before = LocalDateTime.now();
+        assertEquals(2, relay.relay());
+        LocalDateTime after = LocalDateTime.now();
+
+        assertEquals(List.of(1L, 3L), delivered);
+        assertEquals(Set.of(2L), rows.keySet());
+        OrderOutbox failed = rows.get(2L);
+        assertEquals(1, failed.getAttempts());
+        assertAvailableBetween(failed, before.plus(RETRY_BACKOFF), after.plus(RETRY_BACKOFF));
+        assertEquals("처리 실패 orderItemId=2", failed.getLastError());
+        // 묶음 1번, 실패한 이벤트 1번 롤백
+        assertEquals(2, transactionManager.getRollbacks());
+
+        // 미뤄진 이벤트는 다음 시도 일시 전에는 꺼내지 않음
+        failingOrderItemIds.clear();
+        assertEquals(0, relay.relay());
+        assertEquals(List.of(1L, 3L), delivered);
+    }
+
+    @Test
+    void backoffDoublesWithAttemptsAndIsCappedAtTenMinutes() {
+        insert(1L, 4);
+        insert(2L, 8);
+        failingOrderItemIds.addAll(Set.of(1L, 2L));
+        ReflectionTestUtils.setField(relay, "maxAttempts", 100);
+
+        LocalDateTime before = LocalDateTime.now();
+        relay.relay();
+        LocalDateTime after = LocalDateTime.now();
+
+        // 5번째 실패: 1초 * 2^4
+        assertAvailableBetween(rows.get(1L), before.plusSeconds(16), after.plusSeconds(16));
+        // 9번째 실패: 1초 * 2^8 = 256초
+        assertAvailableBetween(rows.get(2L), before.plusSeconds(256), after.plusSeconds(256));
+
+        insert(3L, 30);
+        failingOrderItemIds.add(3L);
+        before = LocalDateTime.now();
+        relay.relay();
+        after = LocalDateTime.now();
+
+        assertAvailableBetween(rows.get(3L), before.plusMinutes(10), after.plusMinutes(10));
+    }
+
+    @Test
+    void eventIsNoLongerClaimedAfterMaxAttempts() {
+        insert(1L, MAX_ATTEMPTS - 1);
+        failingOrderItemIds.add(1L);
+
+        assertEquals(0, relay.relay());
+        assertEquals(MAX_ATTEMPTS, rows.get(1L).getAttempts());
+
+        // 다음 시도 일시가 지나도 더 꺼내지 않고 행은 남겨 둠
+        OrderOutbox exhausted = rows.get(1L);
+        rows.put(1L, new OrderOutbox(1L, exhausted.getEventType(), exhausted.getPayload(), exhausted.getAttempts(),
+                LocalDateTime.now().minusSeconds(1), exhausted.getCreatedAt(), exhausted.getLastError()));
+        failingOrderItemIds.clear();
+
+        assertEquals(0, relay.relay());
+        assertTrue(delivered.isEmpty());
+        assertTrue(rows.containsKey(1L));
+    }
+
+    @Test
+    void claimedEventsAreNotDeliveredWhileRelayIsPaused() {
+        insert(1L, 0);
+        insert(2L, 0);
+        when(orderOutboxRepository.isRelayPaused()).thenReturn(true);
+
+        assertEquals(0, relay.relay());
+
+        assertTrue(delivered.isEmpty());
+        assertEquals(Set.of(1L, 2L), rows.keySet());
+        assertEquals(0, rows.get(1L).getAttempts());
+
+        // 재생성이 끝나면 남은 이벤트를 그대로 전달함
+        when(orderOutboxRepository.isRelayPaused()).thenReturn(false);
+
+        assertEquals(2, relay.relay());
+        assertEquals(List.of(1L, 2L), delivered);
+        assertTrue(rows.isEmpty());
+    }
+
+    private void insert(Long orderItemId, int attempts) {
+        OrderItemStatusChangedEvent event = new OrderItemStatusChangedEvent(
+                orderItemId, 10L, "seller", 1000, 1, LocalDateTime.now(), OrderStatus.PENDING, OrderStatus.CANCELED);
+        try {
+            rows.put(orderItemId, new OrderOutbox(orderItemId, OrderItemStatusChangedEvent.class.getSimpleName(),
+                    objectMapper.writeValueAsString(event), attempts, LocalDateTime.now().minusSeconds(1),
+                    LocalDateTime.now(), null));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void assertAvailableBetween(OrderOutbox row, LocalDateTime from, LocalDateTime to) {
+        assertFalse(row.getAvailableAt().isBefore(from), "다음 시도 일시가 너무 이름: " + row.getAvailableAt());
+        assertFalse(row.getAvailableAt().isAfter(to), "다음 시도 일시가 너무 늦음: " + row.getAvailableAt());
+    }
+
+}
@@ -0,0 +1,59 @@
+package hmw.ecommerce.support;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DB 없이 트랜잭션 경계와 동기화(afterCommit 등)만 실행하고, 커밋/롤백 횟수를 세는 테스트용 트랜잭션 매니저.
+ */
+public class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+    private final AtomicInteger commits = new AtomicInteger();
+    private final AtomicInteger rollbacks = new AtomicInteger();
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        return transaction;
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        commits.incrementAndGet();
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        rollbacks.incrementAndGet();
+    }
+
+    public int getCommits() {
+        return commits.get();
+    }
+
+    public int getRollbacks() {
+        return rollbacks.get();
+    }
+
+}
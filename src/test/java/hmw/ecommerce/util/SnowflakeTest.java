@@ -0,0 +1,80 @@
+package hmw.ecommerce.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeTest {
+
+    @Test
+    void idsIncreaseAndCarryNodeId() {
+        Snowflake snowflake = Snowflake.forNode(7);
+
+        long previous = snowflake.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long next = snowflake.nextId();
+            assertTrue(next > previous);
+            assertEquals(7, (next >>> Snowflake.SEQUENCE_BITS) & Snowflake.MAX_NODE_ID);
+            previous = next;
+        }
+    }
+
+    @Test
+    void concurrentIdsAreUnique() throws Exception {
+        Snowflake snowflake = Snowflake.forNode(8);
+        int threads = 8;
+        int idsPerThread = 50_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[idsPerThread];
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids[j] = snowflake.nextId();
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<Long> ids = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                for (long id : future.get(30, TimeUnit.SECONDS)) {
+                    assertTrue(ids.add(id), "중복 ID: " + id);
+                }
+            }
+            assertEquals(threads * idsPerThread, ids.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void differentNodesNeverCollide() {
+        Snowflake first = Snowflake.forNode(1);
+        Snowflake second = Snowflake.forNode(2);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(ids.add(first.nextId()));
+            assertTrue(ids.add(second.nextId()));
+        }
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> Snowflake.forNode(-1));
+        assertThrows(IllegalArgumentException.class, () -> Snowflake.forNode(Snowflake.MAX_NODE_ID + 1));
+    }
+
+}